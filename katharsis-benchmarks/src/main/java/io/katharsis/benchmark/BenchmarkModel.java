@@ -0,0 +1,137 @@
+package io.katharsis.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.benchmark.model.BenchmarkProject;
+import io.katharsis.benchmark.model.BenchmarkTask;
+import io.katharsis.benchmark.model.InMemoryRepository;
+import io.katharsis.benchmark.model.TaskToProjectRepository;
+import io.katharsis.dispatcher.RequestDispatcher;
+import io.katharsis.dispatcher.registry.ControllerRegistry;
+import io.katharsis.dispatcher.registry.ControllerRegistryBuilder;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistryBuilder;
+import io.katharsis.errorhandling.mapper.JsonApiExceptionMapper;
+import io.katharsis.jackson.JsonApiModuleBuilder;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.repository.DirectRelationshipEntry;
+import io.katharsis.resource.registry.repository.DirectResourceEntry;
+import io.katharsis.resource.registry.repository.RelationshipEntry;
+import io.katharsis.utils.parser.TypeParser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Synthetic in-memory resource model shared by the benchmarks: <i>tasks</i> with a to-one and a to-many relationship
+ * to <i>projects</i>, stored in in-memory repositories and served by a fully configured Katharsis pipeline.
+ */
+public class BenchmarkModel {
+
+    public static final String RESOURCE_URL = "http://localhost:8080/api";
+
+    private static final int PROJECTS_PER_TASK = 3;
+
+    private final ResourceRegistry resourceRegistry;
+    private final ObjectMapper objectMapper;
+    private final TypeParser typeParser;
+    private final RequestDispatcher requestDispatcher;
+    private final InMemoryRepository<BenchmarkTask> taskRepository;
+    private final InMemoryRepository<BenchmarkProject> projectRepository;
+
+    public BenchmarkModel(int taskCount) throws Exception {
+        taskRepository = new InMemoryRepository.TaskRepository();
+        projectRepository = new InMemoryRepository.ProjectRepository();
+
+        ResourceInformationBuilder resourceInformationBuilder =
+            new ResourceInformationBuilder(new ResourceFieldNameTransformer());
+        resourceRegistry = new ResourceRegistry(RESOURCE_URL);
+        List<RelationshipEntry<BenchmarkTask, ?>> taskRelationships = new ArrayList<>();
+        taskRelationships.add(new DirectRelationshipEntry<BenchmarkTask, BenchmarkProject>(
+            new TaskToProjectRepository(taskRepository, projectRepository)));
+        resourceRegistry.addEntry(BenchmarkTask.class, new RegistryEntry<>(
+            resourceInformationBuilder.build(BenchmarkTask.class), new DirectResourceEntry<>(taskRepository),
+            taskRelationships));
+        resourceRegistry.addEntry(BenchmarkProject.class, new RegistryEntry<>(
+            resourceInformationBuilder.build(BenchmarkProject.class), new DirectResourceEntry<>(projectRepository)));
+
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JsonApiModuleBuilder().build(resourceRegistry));
+        typeParser = new TypeParser();
+
+        ControllerRegistry controllerRegistry =
+            new ControllerRegistryBuilder(resourceRegistry, typeParser, objectMapper).build();
+        ExceptionMapperRegistry exceptionMapperRegistry = new ExceptionMapperRegistryBuilder()
+            .build(() -> Collections.<JsonApiExceptionMapper>emptySet());
+        requestDispatcher = new RequestDispatcher(controllerRegistry, exceptionMapperRegistry);
+
+        populate(taskCount);
+    }
+
+    private void populate(int taskCount) {
+        List<BenchmarkProject> projects = new ArrayList<>();
+        for (long id = 1; id <= Math.max(taskCount / 10, PROJECTS_PER_TASK); id++) {
+            BenchmarkProject project = new BenchmarkProject();
+            project.setId(id);
+            project.setName("Project " + id);
+            project.setDescription("Description of project " + id);
+            projects.add(projectRepository.save(project));
+        }
+        for (long id = 1; id <= taskCount; id++) {
+            BenchmarkTask task = new BenchmarkTask();
+            task.setId(id);
+            task.setName("Task " + id);
+            task.setDescription("Description of task " + id);
+            task.setPriority((int) (id % 5));
+            task.setCompleted(id % 2 == 0);
+            task.setProject(projects.get((int) (id % projects.size())));
+            List<BenchmarkProject> taskProjects = new ArrayList<>(PROJECTS_PER_TASK);
+            for (int idx = 0; idx < PROJECTS_PER_TASK; idx++) {
+                taskProjects.add(projects.get((int) ((id + idx) % projects.size())));
+            }
+            task.setProjects(taskProjects);
+            taskRepository.save(task);
+        }
+    }
+
+    public List<BenchmarkTask> getTasks(int count) {
+        List<BenchmarkTask> tasks = new ArrayList<>(count);
+        for (BenchmarkTask task : taskRepository.findAll(null)) {
+            if (tasks.size() == count) {
+                break;
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    public ResourceRegistry getResourceRegistry() {
+        return resourceRegistry;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public TypeParser getTypeParser() {
+        return typeParser;
+    }
+
+    public RequestDispatcher getRequestDispatcher() {
+        return requestDispatcher;
+    }
+
+    public InMemoryRepository<BenchmarkTask> getTaskRepository() {
+        return taskRepository;
+    }
+
+    static Set<String> values(String... values) {
+        return new LinkedHashSet<>(Arrays.asList(values));
+    }
+}
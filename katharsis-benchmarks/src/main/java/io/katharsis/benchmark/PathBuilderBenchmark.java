@@ -0,0 +1,65 @@
+package io.katharsis.benchmark;
+
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PathBuilder#buildPath(String)} for repeated paths, which are served by the path cache, and for
+ * paths with ever changing ids, which overflow the cache and are parsed every time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class PathBuilderBenchmark {
+
+    private static final int DISTINCT_IDS = 100_000;
+
+    @Param({
+        "/tasks/",
+        "/tasks/1",
+        "/tasks/1,2,3",
+        "/tasks/1/project",
+        "/tasks/1/relationships/projects"
+    })
+    public String path;
+
+    private PathBuilder pathBuilder;
+    private String[] uncachedPaths;
+    private int next;
+
+    @Setup
+    public void setup() throws Exception {
+        pathBuilder = new PathBuilder(new BenchmarkModel(0).getResourceRegistry());
+        uncachedPaths = new String[DISTINCT_IDS];
+        for (int idx = 0; idx < DISTINCT_IDS; idx++) {
+            uncachedPaths[idx] = path.replace("1", Integer.toString(idx + 1));
+        }
+    }
+
+    @Benchmark
+    public JsonPath cachedPath() {
+        return pathBuilder.buildPath(path);
+    }
+
+    @Benchmark
+    public JsonPath uncachedPath() {
+        next = (next + 1) % DISTINCT_IDS;
+        return pathBuilder.buildPath(uncachedPaths[next]);
+    }
+}
@@ -0,0 +1,82 @@
+package io.katharsis.benchmark;
+
+import io.katharsis.queryParams.DefaultQueryParamsParser;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.queryParams.QueryParamsBuilder;
+import io.katharsis.queryParams.QueryParamsParser;
+import io.katharsis.queryParams.SinglePassQueryParamsParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static io.katharsis.benchmark.BenchmarkModel.values;
+
+/**
+ * Measures {@link QueryParamsBuilder#buildQueryParams(Map)} with the available parsers for a typical request and for
+ * a request with dozens of filters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class QueryParamsBuilderBenchmark {
+
+    private static final int LARGE_FILTER_COUNT = 50;
+
+    @Param({"default", "singlePass", "singlePassUncached"})
+    public String parser;
+
+    @Param({"small", "large"})
+    public String params;
+
+    private QueryParamsBuilder queryParamsBuilder;
+    private Map<String, Set<String>> queryParams;
+
+    @Setup
+    public void setup() {
+        queryParamsBuilder = new QueryParamsBuilder(buildParser());
+        queryParams = new HashMap<>();
+        queryParams.put("filter[tasks][name]", values("Task 1"));
+        queryParams.put("sort[tasks][name]", values("asc"));
+        queryParams.put("include[tasks]", values("project"));
+        queryParams.put("fields[tasks]", values("name", "description"));
+        queryParams.put("page[offset]", values("0"));
+        queryParams.put("page[limit]", values("10"));
+        if ("large".equals(params)) {
+            for (int idx = 0; idx < LARGE_FILTER_COUNT; idx++) {
+                queryParams.put("filter[tasks][attribute" + idx + "][EQ]", values(Integer.toString(idx)));
+            }
+        }
+    }
+
+    private QueryParamsParser buildParser() {
+        switch (parser) {
+            case "singlePass":
+                return new SinglePassQueryParamsParser();
+            case "singlePassUncached":
+                return new SinglePassQueryParamsParser(0);
+            default:
+                return new DefaultQueryParamsParser();
+        }
+    }
+
+    @Benchmark
+    public QueryParams buildQueryParams() {
+        return queryParamsBuilder.buildQueryParams(queryParams);
+    }
+}
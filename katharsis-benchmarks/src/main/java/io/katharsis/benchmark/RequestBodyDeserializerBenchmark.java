@@ -0,0 +1,63 @@
+package io.katharsis.benchmark;
+
+import io.katharsis.request.dto.RequestBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link io.katharsis.jackson.deserializer.RequestBodyDeserializer} for a single resource body and for a
+ * relationship linkage body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RequestBodyDeserializerBenchmark {
+
+    private static final String RESOURCE_BODY = "{\"data\": {\"type\": \"tasks\", \"id\": \"1\", \"attributes\": " +
+        "{\"name\": \"Benchmark task\", \"description\": \"Created by a benchmark\", \"priority\": 3, " +
+        "\"completed\": false}, \"relationships\": {\"project\": {\"data\": {\"type\": \"projects\", \"id\": \"1\"}}, " +
+        "\"projects\": {\"data\": [{\"type\": \"projects\", \"id\": \"1\"}, {\"type\": \"projects\", \"id\": \"2\"}]}}}}";
+
+    @Param({"resource", "linkage"})
+    public String body;
+
+    @Param({"10"})
+    public int linkageSize;
+
+    private BenchmarkModel model;
+    private String json;
+
+    @Setup
+    public void setup() throws Exception {
+        model = new BenchmarkModel(0);
+        if ("linkage".equals(body)) {
+            StringBuilder builder = new StringBuilder("{\"data\": [");
+            for (int idx = 1; idx <= linkageSize; idx++) {
+                builder.append(idx > 1 ? ", " : "")
+                    .append("{\"type\": \"projects\", \"id\": \"").append(idx).append("\"}");
+            }
+            json = builder.append("]}").toString();
+        } else {
+            json = RESOURCE_BODY;
+        }
+    }
+
+    @Benchmark
+    public RequestBody deserialize() throws Exception {
+        return model.getObjectMapper().readValue(json, RequestBody.class);
+    }
+}
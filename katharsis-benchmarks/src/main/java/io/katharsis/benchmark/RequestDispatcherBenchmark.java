@@ -0,0 +1,111 @@
+package io.katharsis.benchmark;
+
+import io.katharsis.benchmark.model.BenchmarkTask;
+import io.katharsis.queryParams.DefaultQueryParamsParser;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.queryParams.QueryParamsBuilder;
+import io.katharsis.request.dto.RequestBody;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathBuilder;
+import io.katharsis.request.path.ResourcePath;
+import io.katharsis.response.BaseResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link io.katharsis.dispatcher.RequestDispatcher#dispatchRequest} for each of the predefined controllers.
+ * Paths and bodies are parsed in the setup, so only the controller lookup and the request handling are measured.
+ * Modifying requests use fixed ids and deleted resources are restored, so the repositories keep their size while
+ * the benchmark runs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RequestDispatcherBenchmark {
+
+    private static final String TASK_BODY = "{\"data\": {\"type\": \"tasks\", \"id\": \"%s\", \"attributes\": " +
+        "{\"name\": \"Benchmark task\", \"description\": \"Created by a benchmark\", \"priority\": 3}, " +
+        "\"relationships\": {\"project\": {\"data\": {\"type\": \"projects\", \"id\": \"1\"}}}}}";
+    private static final String PROJECTS_LINKAGE_BODY = "{\"data\": [{\"type\": \"projects\", \"id\": \"1\"}, " +
+        "{\"type\": \"projects\", \"id\": \"2\"}]}";
+
+    /**
+     * Controller to be measured, written as a HTTP method and a path.
+     */
+    @Param({
+        "GET /tasks/",
+        "GET /tasks/1,2,3",
+        "GET /tasks/1",
+        "GET /tasks/1/project",
+        "GET /tasks/1/relationships/projects",
+        "POST /tasks/",
+        "PATCH /tasks/1",
+        "DELETE /tasks/1",
+        "POST /tasks/1/projects",
+        "PATCH /tasks/1/relationships/projects",
+        "POST /tasks/1/relationships/projects",
+        "DELETE /tasks/1/relationships/projects"
+    })
+    public String request;
+
+    @Param({"100"})
+    public int taskCount;
+
+    private BenchmarkModel model;
+    private String method;
+    private JsonPath jsonPath;
+    private QueryParams queryParams;
+    private RequestBody requestBody;
+    private BenchmarkTask deletedTask;
+
+    @Setup
+    public void setup() throws Exception {
+        model = new BenchmarkModel(taskCount);
+        String[] parts = request.split(" ");
+        method = parts[0];
+        jsonPath = new PathBuilder(model.getResourceRegistry()).buildPath(parts[1]);
+        queryParams = new QueryParamsBuilder(new DefaultQueryParamsParser())
+            .buildQueryParams(Collections.emptyMap());
+        requestBody = buildRequestBody(method, parts[1]);
+        deletedTask = model.getTaskRepository().findOne(1L, null);
+    }
+
+    private RequestBody buildRequestBody(String method, String path) throws Exception {
+        String body = null;
+        if (path.contains("relationships") && !"GET".equals(method)) {
+            body = PROJECTS_LINKAGE_BODY;
+        } else if ("POST".equals(method) && path.endsWith("projects")) {
+            body = "{\"data\": {\"type\": \"projects\", \"id\": \"1\", \"attributes\": {\"name\": \"Benchmark\"}}}";
+        } else if ("POST".equals(method)) {
+            body = String.format(TASK_BODY, taskCount + 1);
+        } else if ("PATCH".equals(method)) {
+            body = String.format(TASK_BODY, 1);
+        }
+        return body != null ? model.getObjectMapper().readValue(body, RequestBody.class) : null;
+    }
+
+    @Benchmark
+    public BaseResponse<?> dispatchRequest() throws Exception {
+        BaseResponse<?> response = model.getRequestDispatcher()
+            .dispatchRequest(jsonPath, method, queryParams, null, requestBody);
+        if ("DELETE".equals(method) && jsonPath instanceof ResourcePath) {
+            model.getTaskRepository().save(deletedTask);
+        }
+        return response;
+    }
+}
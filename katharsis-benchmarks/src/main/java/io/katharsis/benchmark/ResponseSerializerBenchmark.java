@@ -0,0 +1,70 @@
+package io.katharsis.benchmark;
+
+import io.katharsis.benchmark.model.BenchmarkTask;
+import io.katharsis.queryParams.DefaultQueryParamsParser;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.queryParams.QueryParamsBuilder;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathBuilder;
+import io.katharsis.response.CollectionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static io.katharsis.benchmark.BenchmarkModel.values;
+
+/**
+ * Measures serialization of collection responses by {@link io.katharsis.jackson.serializer.BaseResponseSerializer}
+ * for different collection sizes, with and without included relationships and sparse fieldsets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ResponseSerializerBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean includeAndFields;
+
+    private BenchmarkModel model;
+    private CollectionResponse response;
+
+    @Setup
+    public void setup() throws Exception {
+        model = new BenchmarkModel(size);
+        JsonPath jsonPath = new PathBuilder(model.getResourceRegistry()).buildPath("/tasks/");
+        Map<String, Set<String>> queryParams = new HashMap<>();
+        if (includeAndFields) {
+            queryParams.put("include[tasks]", values("project"));
+            queryParams.put("fields[tasks]", values("name", "priority"));
+        }
+        QueryParams parsedQueryParams = new QueryParamsBuilder(new DefaultQueryParamsParser())
+            .buildQueryParams(queryParams);
+        List<BenchmarkTask> tasks = model.getTasks(size);
+        response = new CollectionResponse(tasks, jsonPath, parsedQueryParams, null, null);
+    }
+
+    @Benchmark
+    public String serialize() throws Exception {
+        return model.getObjectMapper().writeValueAsString(response);
+    }
+}
@@ -0,0 +1,70 @@
+package io.katharsis.benchmark;
+
+import io.katharsis.utils.parser.TypeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Serializable;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TypeParser#parse(String, Class)} for a type with a predefined parser, for an enum and for a type
+ * created through its <i>String</i> constructor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class TypeParserBenchmark {
+
+    private TypeParser typeParser;
+    private String uuid;
+
+    @Setup
+    public void setup() {
+        typeParser = new TypeParser();
+        uuid = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public Long parseLong() {
+        return typeParser.parse("12345", Long.class);
+    }
+
+    @Benchmark
+    public Priority parseEnum() {
+        return typeParser.parse("HIGH", Priority.class);
+    }
+
+    @Benchmark
+    public Serializable parseWithConstructor() {
+        return typeParser.parse(uuid, StringId.class);
+    }
+
+    public enum Priority {
+        LOW, MEDIUM, HIGH
+    }
+
+    public static class StringId implements Serializable {
+        private final String value;
+
+        public StringId(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.katharsis.benchmark.model;
+
+import io.katharsis.resource.annotations.JsonApiId;
+import io.katharsis.resource.annotations.JsonApiResource;
+import io.katharsis.resource.annotations.JsonApiToMany;
+import io.katharsis.resource.annotations.JsonApiToOne;
+
+import java.util.List;
+
+@JsonApiResource(type = "tasks")
+public class BenchmarkTask {
+
+    @JsonApiId
+    private Long id;
+
+    private String name;
+
+    private String description;
+
+    private int priority;
+
+    private boolean completed;
+
+    @JsonApiToOne
+    private BenchmarkProject project;
+
+    @JsonApiToMany
+    private List<BenchmarkProject> projects;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+
+    public BenchmarkProject getProject() {
+        return project;
+    }
+
+    public void setProject(BenchmarkProject project) {
+        this.project = project;
+    }
+
+    public List<BenchmarkProject> getProjects() {
+        return projects;
+    }
+
+    public void setProjects(List<BenchmarkProject> projects) {
+        this.projects = projects;
+    }
+}
@@ -0,0 +1,81 @@
+package io.katharsis.benchmark.model;
+
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.ResourceRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Resource repository keeping its resources in a map ordered by id, so the benchmarks measure Katharsis and not a
+ * data source.
+ */
+public class InMemoryRepository<T> implements ResourceRepository<T, Long> {
+
+    private final Map<Long, T> resources = new ConcurrentSkipListMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final Function<T, Long> idGetter;
+    private final BiConsumer<T, Long> idSetter;
+
+    public InMemoryRepository(Function<T, Long> idGetter, BiConsumer<T, Long> idSetter) {
+        this.idGetter = idGetter;
+        this.idSetter = idSetter;
+    }
+
+    @Override
+    public T findOne(Long id, QueryParams queryParams) {
+        return resources.get(id);
+    }
+
+    @Override
+    public Iterable<T> findAll(QueryParams queryParams) {
+        return new ArrayList<>(resources.values());
+    }
+
+    @Override
+    public Iterable<T> findAll(Iterable<Long> ids, QueryParams queryParams) {
+        List<T> found = new ArrayList<>();
+        for (Long id : ids) {
+            T resource = resources.get(id);
+            if (resource != null) {
+                found.add(resource);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public <S extends T> S save(S entity) {
+        Long id = idGetter.apply(entity);
+        if (id == null) {
+            id = nextId.incrementAndGet();
+            idSetter.accept(entity, id);
+        } else {
+            nextId.accumulateAndGet(id, Math::max);
+        }
+        resources.put(id, entity);
+        return entity;
+    }
+
+    @Override
+    public void delete(Long id) {
+        resources.remove(id);
+    }
+
+    public static class TaskRepository extends InMemoryRepository<BenchmarkTask> {
+        public TaskRepository() {
+            super(BenchmarkTask::getId, BenchmarkTask::setId);
+        }
+    }
+
+    public static class ProjectRepository extends InMemoryRepository<BenchmarkProject> {
+        public ProjectRepository() {
+            super(BenchmarkProject::getId, BenchmarkProject::setId);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.katharsis.benchmark.model;
+
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.RelationshipRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Relationship repository reading relationships of the tasks directly from their fields.
+ */
+public class TaskToProjectRepository implements RelationshipRepository<BenchmarkTask, Long, BenchmarkProject, Long> {
+
+    private static final String PROJECT_FIELD = "project";
+
+    private final InMemoryRepository<BenchmarkTask> taskRepository;
+    private final InMemoryRepository<BenchmarkProject> projectRepository;
+
+    public TaskToProjectRepository(InMemoryRepository<BenchmarkTask> taskRepository,
+                                   InMemoryRepository<BenchmarkProject> projectRepository) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    @Override
+    public void setRelation(BenchmarkTask source, Long targetId, String fieldName) {
+        source.setProject(targetId != null ? projectRepository.findOne(targetId, null) : null);
+    }
+
+    @Override
+    public void setRelations(BenchmarkTask source, Iterable<Long> targetIds, String fieldName) {
+        List<BenchmarkProject> projects = new ArrayList<>();
+        for (BenchmarkProject project : projectRepository.findAll(targetIds, null)) {
+            projects.add(project);
+        }
+        source.setProjects(projects);
+    }
+
+    @Override
+    public void addRelations(BenchmarkTask source, Iterable<Long> targetIds, String fieldName) {
+        List<BenchmarkProject> projects = source.getProjects() != null ?
+            new ArrayList<>(source.getProjects()) : new ArrayList<>();
+        for (BenchmarkProject project : projectRepository.findAll(targetIds, null)) {
+            if (!projects.contains(project)) {
+                projects.add(project);
+            }
+        }
+        source.setProjects(projects);
+    }
+
+    @Override
+    public void removeRelations(BenchmarkTask source, Iterable<Long> targetIds, String fieldName) {
+        if (source.getProjects() == null) {
+            return;
+        }
+        List<BenchmarkProject> projects = new ArrayList<>(source.getProjects());
+        for (Long targetId : targetIds) {
+            projects.removeIf(project -> targetId.equals(project.getId()));
+        }
+        source.setProjects(projects);
+    }
+
+    @Override
+    public BenchmarkProject findOneTarget(Long sourceId, String fieldName, QueryParams queryParams) {
+        BenchmarkTask task = taskRepository.findOne(sourceId, queryParams);
+        return task != null && PROJECT_FIELD.equals(fieldName) ? task.getProject() : null;
+    }
+
+    @Override
+    public Iterable<BenchmarkProject> findManyTargets(Long sourceId, String fieldName, QueryParams queryParams) {
+        BenchmarkTask task = taskRepository.findOne(sourceId, queryParams);
+        return task != null ? task.getProjects() : null;
+    }
+}
@@ -0,0 +1,288 @@
+package io.katharsis.dispatcher;
+
+import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.errorhandling.ErrorData;
+import io.katharsis.errorhandling.ErrorDataBuilder;
+import io.katharsis.errorhandling.ErrorResponse;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.request.dto.DataBody;
+import io.katharsis.request.dto.LinkageData;
+import io.katharsis.request.dto.Operation;
+import io.katharsis.request.dto.OperationCode;
+import io.katharsis.request.dto.OperationRef;
+import io.katharsis.request.dto.OperationsRequest;
+import io.katharsis.request.dto.RequestBody;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathBuilder;
+import io.katharsis.request.path.PathIds;
+import io.katharsis.request.path.ResourcePath;
+import io.katharsis.resource.exception.RequestBodyException;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.response.BaseResponse;
+import io.katharsis.response.HttpStatus;
+import io.katharsis.response.OperationsResponse;
+import io.katharsis.utils.PropertyUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dispatches atomic operations requests. The operations are executed in the order of the request, each of them by
+ * the controller handling the equivalent single request, so all of the operations are subject to the same rules as
+ * regular requests.
+ * <p>
+ * A resource created by an <i>add</i> operation can be referenced by the following operations with the local id
+ * (<i>lid</i>) sent in the operation's data. The processing stops at the first failing operation, whose error
+ * response is returned with the source pointer of each error prefixed by <i>/atomic:operations/&lt;index&gt;</i>. If an
+ * {@link OperationsTransaction} is given, the operations are executed in it and a failing operation rolls back the
+ * changes of the previous ones. Without a transaction the changes of the previous operations are kept, so their
+ * results are returned in the <i>atomic:results</i> meta field of each error.
+ * </p>
+ */
+public class OperationsDispatcher {
+
+    /**
+     * Source pointer of the operations of a request.
+     */
+    public static final String OPERATIONS_POINTER = "/atomic:operations";
+
+    private final RequestDispatcher requestDispatcher;
+    private final ResourceRegistry resourceRegistry;
+    private final PathBuilder pathBuilder;
+    private final OperationsTransaction transaction;
+
+    public OperationsDispatcher(RequestDispatcher requestDispatcher, ResourceRegistry resourceRegistry) {
+        this(requestDispatcher, resourceRegistry, null);
+    }
+
+    /**
+     * @param requestDispatcher dispatcher of the single requests
+     * @param resourceRegistry  resource registry
+     * @param transaction       transaction executing the operations of a request or <i>null</i> to execute them
+     *                          without a transaction
+     */
+    public OperationsDispatcher(RequestDispatcher requestDispatcher, ResourceRegistry resourceRegistry,
+                                OperationsTransaction transaction) {
+        this.requestDispatcher = requestDispatcher;
+        this.resourceRegistry = resourceRegistry;
+        this.pathBuilder = new PathBuilder(resourceRegistry);
+        this.transaction = transaction;
+    }
+
+    /**
+     * Dispatch the operations sent by a client
+     *
+     * @param operationsRequest deserialized body of the client request
+     * @param queryParams       built object containing query parameters of the request
+     * @param parameterProvider repository method parameter provider
+     * @return {@link OperationsResponse} with the responses of the operations or the error response of the failed
+     * operation
+     * @throws Exception exception thrown while processing the request
+     */
+    public BaseResponse<?> dispatchOperations(OperationsRequest operationsRequest, QueryParams queryParams,
+                                              RepositoryMethodParameterProvider parameterProvider) throws Exception {
+        try {
+            if (transaction == null) {
+                return executeOperations(operationsRequest, queryParams, parameterProvider);
+            }
+            return transaction.execute(() -> executeOperations(operationsRequest, queryParams, parameterProvider));
+        } catch (FailedOperationException e) {
+            return e.response;
+        }
+    }
+
+    private OperationsResponse executeOperations(OperationsRequest operationsRequest, QueryParams queryParams,
+                                                 RepositoryMethodParameterProvider parameterProvider)
+        throws Exception {
+        Map<String, String> localIds = new HashMap<>();
+        List<BaseResponse<?>> results = new ArrayList<>(operationsRequest.getOperations().size());
+        for (Operation operation : operationsRequest.getOperations()) {
+            BaseResponse<?> response;
+            try {
+                response = executeOperation(operation, localIds, queryParams, parameterProvider);
+            } catch (Exception e) {
+                response = requestDispatcher.toErrorResponse(e);
+            }
+            if (response instanceof ErrorResponse || (response != null &&
+                response.getHttpStatus() >= HttpStatus.BAD_REQUEST_400)) {
+                throw new FailedOperationException(toOperationError(results.size(), response, results));
+            }
+            results.add(response);
+        }
+        return new OperationsResponse(results);
+    }
+
+    /**
+     * Points the errors of a failed operation to the operation and adds the results of the completed operations if
+     * they aren't rolled back.
+     */
+    private ErrorResponse toOperationError(int index, BaseResponse<?> response,
+                                           List<BaseResponse<?>> completedResults) {
+        Iterable<ErrorData> errors = response instanceof ErrorResponse ? ((ErrorResponse) response).getData() : null;
+        if (errors == null) {
+            errors = Collections.singletonList(ErrorData.builder()
+                .setStatus(String.valueOf(response.getHttpStatus()))
+                .build());
+        }
+        String operationPointer = OPERATIONS_POINTER + PathBuilder.SEPARATOR + index;
+        List<ErrorData> operationErrors = new ArrayList<>();
+        for (ErrorData error : errors) {
+            ErrorDataBuilder builder = ErrorData.builder()
+                .setId(error.getId())
+                .setAboutLink(error.getAboutLink())
+                .setStatus(error.getStatus())
+                .setCode(error.getCode())
+                .setTitle(error.getTitle())
+                .setDetail(error.getDetail())
+                .setSourcePointer(error.getSourcePointer() != null ?
+                    operationPointer + error.getSourcePointer() : operationPointer)
+                .setSourceParameter(error.getSourceParameter())
+                .setMeta(error.getMeta() != null ? new HashMap<>(error.getMeta()) : null);
+            if (transaction == null) {
+                builder.addMetaField(OperationsResponse.RESULTS, completedResults);
+            }
+            operationErrors.add(builder.build());
+        }
+        return new ErrorResponse(operationErrors, response.getHttpStatus());
+    }
+
+    private BaseResponse<?> executeOperation(Operation operation, Map<String, String> localIds,
+                                             QueryParams queryParams,
+                                             RepositoryMethodParameterProvider parameterProvider) throws Exception {
+        HttpMethod method = operation.getOp().getMethod();
+        RequestBody requestBody = operation.getData();
+        JsonPath jsonPath = pathBuilder.buildPath(buildPath(operation, localIds));
+        boolean createsResource = operation.getOp() == OperationCode.ADD && jsonPath instanceof ResourcePath &&
+            jsonPath.getIds() == null;
+        resolveLocalIds(method, requestBody, !createsResource, localIds);
+
+        BaseResponse<?> response = requestDispatcher.dispatchRequest(jsonPath, method.name(), queryParams,
+            parameterProvider, requestBody);
+
+        if (createsResource && requestBody != null && !requestBody.isMultiple() && response != null &&
+            response.getData() != null) {
+            DataBody dataBody = requestBody.getSingleData();
+            if (dataBody.getLid() != null) {
+                localIds.put(dataBody.getLid(), getId(dataBody.getType(), response.getData()));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Builds the path of the operation target. An <i>add</i> operation without a relationship targets the collection
+     * of the resource type, the other operations target the resource of the id or local id.
+     */
+    private String buildPath(Operation operation, Map<String, String> localIds) {
+        if (operation.getHref() != null) {
+            return operation.getHref();
+        }
+        HttpMethod method = operation.getOp().getMethod();
+        OperationRef ref = operation.getRef();
+        String type;
+        String id;
+        String relationship = null;
+        if (ref != null) {
+            type = ref.getType();
+            id = ref.getId() != null ? ref.getId() : resolveLocalId(method, type, ref.getLid(), localIds);
+            relationship = ref.getRelationship();
+        } else {
+            RequestBody requestBody = operation.getData();
+            if (requestBody == null || requestBody.isMultiple() || requestBody.getSingleData() == null) {
+                throw new RequestBodyException(method, null, "Operation without ref requires a single resource");
+            }
+            type = requestBody.getSingleData().getType();
+            id = requestBody.getSingleData().getId();
+        }
+        if (type == null) {
+            throw new RequestBodyException(method, null, "No type of the operation target");
+        }
+
+        StringBuilder path = new StringBuilder(PathBuilder.SEPARATOR).append(type);
+        if (operation.getOp() != OperationCode.ADD || relationship != null) {
+            if (id == null) {
+                throw new RequestBodyException(method, type, "No id of the operation target");
+            }
+            if (id.contains(PathBuilder.SEPARATOR) || id.contains(PathIds.ID_SEPERATOR)) {
+                throw new RequestBodyException(method, type, "Invalid id of the operation target: " + id);
+            }
+            path.append(PathBuilder.SEPARATOR).append(id);
+        }
+        if (relationship != null) {
+            path.append(PathBuilder.SEPARATOR).append(PathBuilder.RELATIONSHIP_MARK)
+                .append(PathBuilder.SEPARATOR).append(relationship);
+        }
+        return path.toString();
+    }
+
+    /**
+     * Replaces the local ids of the resources referenced by the body with the ids of the created resources.
+     */
+    private static void resolveLocalIds(HttpMethod method, RequestBody requestBody, boolean resolveData,
+                                        Map<String, String> localIds) {
+        if (requestBody == null || requestBody.getData() == null) {
+            return;
+        }
+        Iterable<DataBody> dataBodies = requestBody.isMultiple() ?
+            requestBody.getMultipleData() : Collections.singletonList(requestBody.getSingleData());
+        for (DataBody dataBody : dataBodies) {
+            if (resolveData && dataBody.getId() == null && dataBody.getLid() != null) {
+                dataBody.setId(resolveLocalId(method, dataBody.getType(), dataBody.getLid(), localIds));
+            }
+            if (dataBody.getRelationships() == null) {
+                continue;
+            }
+            for (Object linkage : dataBody.getRelationships().getAdditionalProperties().values()) {
+                if (linkage instanceof LinkageData) {
+                    resolveLocalId(method, (LinkageData) linkage, localIds);
+                } else if (linkage instanceof Iterable) {
+                    for (Object element : (Iterable<?>) linkage) {
+                        resolveLocalId(method, (LinkageData) element, localIds);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void resolveLocalId(HttpMethod method, LinkageData linkageData, Map<String, String> localIds) {
+        if (linkageData.getId() == null && linkageData.getLid() != null) {
+            linkageData.setId(resolveLocalId(method, linkageData.getType(), linkageData.getLid(), localIds));
+        }
+    }
+
+    private static String resolveLocalId(HttpMethod method, String type, String lid, Map<String, String> localIds) {
+        if (lid == null) {
+            return null;
+        }
+        String id = localIds.get(lid);
+        if (id == null) {
+            throw new RequestBodyException(method, type, "Unknown local id: " + lid);
+        }
+        return id;
+    }
+
+    private String getId(String type, Object resource) {
+        RegistryEntry registryEntry = resourceRegistry.getEntry(type);
+        Object id = PropertyUtils.getProperty(resource, registryEntry.getResourceInformation()
+            .getIdField()
+            .getUnderlyingName());
+        return id != null ? id.toString() : null;
+    }
+
+    /**
+     * Stops the execution of the operations, rolling back the transaction if there is one.
+     */
+    private static class FailedOperationException extends RuntimeException {
+        private final ErrorResponse response;
+
+        private FailedOperationException(ErrorResponse response) {
+            super(null, null, false, false);
+            this.response = response;
+        }
+    }
+}
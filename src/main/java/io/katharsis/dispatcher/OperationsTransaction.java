@@ -0,0 +1,22 @@
+package io.katharsis.dispatcher;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Runs the operations of an atomic operations request in a transaction, e.g. a JTA or a Spring transaction. The
+ * operations throw an exception if any of them fails, which has to roll the transaction back.
+ *
+ * @see OperationsDispatcher
+ */
+public interface OperationsTransaction {
+
+    /**
+     * Executes all of the operations of a request.
+     *
+     * @param operations operations of the request
+     * @param <T>        type of the result
+     * @return result of the operations
+     * @throws Exception exception thrown by the operations, after the transaction has been rolled back
+     */
+    <T> T execute(Callable<T> operations) throws Exception;
+}
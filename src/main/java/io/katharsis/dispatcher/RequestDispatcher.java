@@ -1,5 +1,9 @@
 package io.katharsis.dispatcher;
 
+import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.listener.DispatchPhase;
+import io.katharsis.dispatcher.listener.DispatcherListener;
+import io.katharsis.dispatcher.listener.RequestTimer;
 import io.katharsis.dispatcher.registry.ControllerRegistry;
 import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
 import io.katharsis.errorhandling.mapper.JsonApiExceptionMapper;
@@ -8,6 +12,8 @@ import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.response.BaseResponse;
+import io.katharsis.response.CollectionResponse;
+import io.katharsis.response.HttpStatus;
 import io.katharsis.utils.java.Optional;
 
 /**
@@ -18,10 +24,24 @@ public class RequestDispatcher {
 
     private final ControllerRegistry controllerRegistry;
     private final ExceptionMapperRegistry exceptionMapperRegistry;
+    private final DispatcherListener dispatcherListener;
 
     public RequestDispatcher(ControllerRegistry controllerRegistry, ExceptionMapperRegistry exceptionMapperRegistry) {
+        this(controllerRegistry, exceptionMapperRegistry, null);
+    }
+
+    /**
+     * @param controllerRegistry      controller registry
+     * @param exceptionMapperRegistry exception mapper registry
+     * @param dispatcherListener      listener receiving timings of the requests, e.g.
+     *                                {@link io.katharsis.dispatcher.listener.DispatcherMetrics}, or <i>null</i> to
+     *                                skip the measurements
+     */
+    public RequestDispatcher(ControllerRegistry controllerRegistry, ExceptionMapperRegistry exceptionMapperRegistry,
+                             DispatcherListener dispatcherListener) {
         this.controllerRegistry = controllerRegistry;
         this.exceptionMapperRegistry = exceptionMapperRegistry;
+        this.dispatcherListener = dispatcherListener;
     }
 
     /**
@@ -40,19 +60,87 @@ public class RequestDispatcher {
                                            @SuppressWarnings("SameParameterValue") RequestBody requestBody) throws
         Exception {
 
+        if (dispatcherListener != null) {
+            return dispatchTimedRequest(jsonPath, requestType, queryParams, parameterProvider, requestBody);
+        }
         try {
             return controllerRegistry
-                .getController(jsonPath, requestType)
+                .getController(jsonPath, requestType, requestBody)
                 .handle(jsonPath, queryParams, parameterProvider, requestBody);
         } catch (Exception e) {
-            Optional<JsonApiExceptionMapper> exceptionMapper = exceptionMapperRegistry.findMapperFor(e.getClass());
-            if (exceptionMapper.isPresent()) {
-                //noinspection unchecked
-                return exceptionMapper.get()
-                    .toErrorResponse(e);
-            } else {
+            return toErrorResponse(e);
+        }
+    }
+
+    private BaseResponse<?> dispatchTimedRequest(JsonPath jsonPath, String requestType, QueryParams queryParams,
+                                                 RepositoryMethodParameterProvider parameterProvider,
+                                                 RequestBody requestBody) throws Exception {
+        String resourceType = jsonPath != null ? jsonPath.getResourceName() : null;
+        int httpStatus = HttpStatus.INTERNAL_SERVER_ERROR_500;
+        RequestTimer timer = RequestTimer.bind();
+        long start = System.nanoTime();
+        BaseResponse<?> response = null;
+        try {
+            try {
+                BaseController controller = controllerRegistry.getController(jsonPath, requestType, requestBody);
+                long handleStart = System.nanoTime();
+                timer.add(DispatchPhase.ROUTING, handleStart - start);
+                response = controller.handle(jsonPath, queryParams, parameterProvider, requestBody);
+                long controllerDuration = System.nanoTime() - handleStart;
+                timer.add(DispatchPhase.REPOSITORY, controllerDuration - timer.getDuration(DispatchPhase.INCLUDE)
+                    - timer.getDuration(DispatchPhase.META_LINKS));
+            } catch (Exception e) {
+                response = toErrorResponse(e);
+            }
+            httpStatus = response != null ? response.getHttpStatus() : HttpStatus.NO_CONTENT_204;
+            return response;
+        } finally {
+            long duration = System.nanoTime() - start;
+            timer.unbind();
+            try {
+                timer.report(dispatcherListener, resourceType, requestType);
+                dispatcherListener.onRequest(resourceType, requestType, httpStatus, duration);
+            } catch (RuntimeException e) {
+                // the response won't be serialized, so a streamed collection has to be released here
+                if (response instanceof CollectionResponse) {
+                    ((CollectionResponse) response).close();
+                }
                 throw e;
             }
         }
     }
+
+    /**
+     * Passes a duration of a phase processed outside of the dispatcher, i.e. {@link DispatchPhase#PATH_PARSE},
+     * {@link DispatchPhase#QUERY_PARSE} or {@link DispatchPhase#SERIALIZATION}, to the listener of the dispatcher.
+     *
+     * @param phase         measured phase
+     * @param jsonPath      path of the request or <i>null</i> if it isn't known
+     * @param requestType   type of the request e.g. POST, GET, PATCH
+     * @param durationNanos duration of the phase in nanoseconds
+     */
+    public void recordPhase(DispatchPhase phase, JsonPath jsonPath, String requestType, long durationNanos) {
+        if (dispatcherListener != null) {
+            dispatcherListener.onPhase(jsonPath != null ? jsonPath.getResourceName() : null, requestType, phase,
+                durationNanos);
+        }
+    }
+
+    public DispatcherListener getDispatcherListener() {
+        return dispatcherListener;
+    }
+
+    /**
+     * Maps the exception to an error response, rethrowing it if there is no mapper for it.
+     */
+    BaseResponse<?> toErrorResponse(Exception e) throws Exception {
+        Optional<JsonApiExceptionMapper> exceptionMapper = exceptionMapperRegistry.findMapperFor(e.getClass());
+        if (exceptionMapper.isPresent()) {
+            //noinspection unchecked
+            return exceptionMapper.get()
+                .toErrorResponse(e);
+        } else {
+            throw e;
+        }
+    }
 }
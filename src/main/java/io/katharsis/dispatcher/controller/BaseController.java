@@ -1,5 +1,7 @@
 package io.katharsis.dispatcher.controller;
 
+import io.katharsis.dispatcher.listener.DispatchPhase;
+import io.katharsis.dispatcher.listener.RequestTimer;
 import io.katharsis.queryParams.QueryParams;
 import io.katharsis.repository.LinksRepository;
 import io.katharsis.repository.MetaRepository;
@@ -30,6 +32,29 @@ public abstract class BaseController {
      */
     public abstract boolean isAcceptable(JsonPath jsonPath, String requestType);
 
+    /**
+     * Checks if the request is acceptable, including its body. Controllers which share a path and request type with
+     * another controller, but handle a different kind of body, override this method.
+     *
+     * @param jsonPath    Requested resource path
+     * @param requestType HTTP request type
+     * @param requestBody body of the request or <i>null</i>
+     * @return Acceptance result in boolean
+     */
+    public boolean isAcceptable(JsonPath jsonPath, String requestType, RequestBody requestBody) {
+        return isAcceptable(jsonPath, requestType);
+    }
+
+    /**
+     * Priority of the controller, used when more than one controller accepts a request. The controller with the
+     * highest priority is chosen. Predefined Katharsis controllers have priority 0.
+     *
+     * @return priority of the controller
+     */
+    public int getPriority() {
+        return 0;
+    }
+
     /**
      * Passes the request to controller method.
      *
@@ -45,6 +70,16 @@ public abstract class BaseController {
                            RequestBody requestBody) throws Exception;
 
     public MetaInformation getMetaInformation(Object repository, Iterable<?> resources, QueryParams queryParams) {
+        long start = RequestTimer.startPhase();
+        try {
+            return findMetaInformation(repository, resources, queryParams);
+        } finally {
+            RequestTimer.stopPhase(DispatchPhase.META_LINKS, start);
+        }
+    }
+
+    private static MetaInformation findMetaInformation(Object repository, Iterable<?> resources,
+                                                       QueryParams queryParams) {
         if (repository instanceof RepositoryAdapter) {
             if (((RepositoryAdapter) repository).metaRepositoryAvailable()) {
                 return ((MetaRepository) repository).getMetaInformation(resources, queryParams);
@@ -56,6 +91,16 @@ public abstract class BaseController {
     }
 
     public LinksInformation getLinksInformation(Object repository, Iterable<?> resources, QueryParams queryParams) {
+        long start = RequestTimer.startPhase();
+        try {
+            return findLinksInformation(repository, resources, queryParams);
+        } finally {
+            RequestTimer.stopPhase(DispatchPhase.META_LINKS, start);
+        }
+    }
+
+    private static LinksInformation findLinksInformation(Object repository, Iterable<?> resources,
+                                                         QueryParams queryParams) {
         if (repository instanceof RepositoryAdapter) {
             if (((RepositoryAdapter) repository).linksRepositoryAvailable()) {
                 return ((LinksRepository) repository).getLinksInformation(resources, queryParams);
@@ -4,11 +4,16 @@ import io.katharsis.dispatcher.controller.HttpMethod;
 import io.katharsis.dispatcher.controller.resource.ResourceIncludeField;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.queryParams.QueryParams;
-import io.katharsis.queryParams.params.FilterParams;
+import io.katharsis.queryParams.query.InMemoryQueryEvaluator;
+import io.katharsis.queryParams.query.ResourceQuery;
+import io.katharsis.queryParams.query.ResourceQueryBuilder;
+import io.katharsis.repository.QueryableResourceRepository;
 import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.StreamingResourceRepository;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.ResourcePath;
+import io.katharsis.resource.exception.ResourceException;
 import io.katharsis.resource.exception.ResourceNotFoundException;
 import io.katharsis.resource.include.IncludeLookupSetter;
 import io.katharsis.resource.registry.RegistryEntry;
@@ -17,22 +22,29 @@ import io.katharsis.response.BaseResponse;
 import io.katharsis.response.CollectionResponse;
 import io.katharsis.response.LinksInformation;
 import io.katharsis.response.MetaInformation;
-import io.katharsis.utils.BeanUtils;
+import io.katharsis.response.StreamedCollection;
 import io.katharsis.utils.parser.TypeParser;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public class CollectionGet extends ResourceIncludeField {
 
+    private static final int INCLUDE_BATCH_SIZE = 100;
+
+    private final ResourceQueryBuilder resourceQueryBuilder;
+
     public CollectionGet(ResourceRegistry resourceRegistry, TypeParser typeParser, IncludeLookupSetter fieldSetter) {
         super(resourceRegistry, typeParser, fieldSetter);
+        this.resourceQueryBuilder = new ResourceQueryBuilder(typeParser);
     }
 
     /**
@@ -56,9 +68,21 @@ public class CollectionGet extends ResourceIncludeField {
             throw new ResourceNotFoundException(resourceName);
         }
         Iterable<?> resources;
+        boolean queryApplied = false;
         ResourceRepository resourceRepository = registryEntry.getResourceRepository(parameterProvider);
         if (jsonPath.getIds() == null || jsonPath.getIds().getIds().isEmpty()) {
-            resources = resourceRepository.findAll(queryParams);
+            if (resourceRepository instanceof StreamingResourceRepository) {
+                return streamCollection(jsonPath, queryParams, parameterProvider, registryEntry,
+                    (StreamingResourceRepository) resourceRepository);
+            }
+            if (resourceRepository instanceof QueryableResourceRepository) {
+                ResourceQuery query = resourceQueryBuilder.build(resourceName,
+                    registryEntry.getResourceInformation(), queryParams);
+                resources = ((QueryableResourceRepository) resourceRepository).findAll(query, queryParams);
+                queryApplied = true;
+            } else {
+                resources = resourceRepository.findAll(queryParams);
+            }
         } else {
             Class<? extends Serializable> idType = (Class<? extends Serializable>)registryEntry
                 .getResourceInformation().getIdField().getType();
@@ -67,7 +91,9 @@ public class CollectionGet extends ResourceIncludeField {
             resources = resourceRepository.findAll(parsedIds, queryParams);
         }
 
-        resources = filterCollection(resources, queryParams, resourceName);
+        if (!queryApplied) {
+            resources = filterCollection(resources, queryParams, resourceName);
+        }
 
         List containers = new LinkedList();
         if (resources != null) {
@@ -82,36 +108,126 @@ public class CollectionGet extends ResourceIncludeField {
         return new CollectionResponse(containers, jsonPath, queryParams, metaInformation, linksInformation);
     }
 
-    // Filter a generic iterable collection of Objects. Limits the applied filters to the fields present in the first object.
+    /**
+     * Returns a response whose data is read from the repository stream while the response is written. Filters are
+     * applied lazily and included relationships are set for batches of resources as they are read. The first batch is
+     * read before the response is returned, so a failure to include its relationships results in an error response.
+     * The stream is closed if the response cannot be built.
+     */
+    @SuppressWarnings("unchecked")
+    private BaseResponse<?> streamCollection(JsonPath jsonPath, QueryParams queryParams,
+                                             RepositoryMethodParameterProvider parameterProvider,
+                                             RegistryEntry registryEntry,
+                                             StreamingResourceRepository resourceRepository) {
+        String resourceName = jsonPath.getElementName();
+        Stream<Object> stream = resourceRepository.streamAll(queryParams);
+        Stream<Object> resources = stream != null ? stream : Stream.empty();
+        try {
+            Predicate<Object> filter = buildFilter(registryEntry, queryParams, resourceName);
+            Stream<Object> filteredResources = filter != null ? resources.filter(filter) : resources;
+
+            Iterator<Object> iterator = filteredResources.iterator();
+            if (queryParams != null &&
+                queryParams.getRenderPlan().forType(resourceName).getIncludedRelations() != null) {
+                iterator = new IncludedElementsIterator(iterator, resourceName, queryParams, parameterProvider);
+                iterator.hasNext();
+            }
+            StreamedCollection data = new StreamedCollection(iterator, resources::close);
+
+            MetaInformation metaInformation = getMetaInformation(resourceRepository, Collections.emptyList(),
+                queryParams);
+            LinksInformation linksInformation = getLinksInformation(resourceRepository, Collections.emptyList(),
+                queryParams);
+
+            return new CollectionResponse(data, jsonPath, queryParams, metaInformation, linksInformation);
+        } catch (RuntimeException e) {
+            resources.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Filters resources returned by a repository which doesn't apply the query itself. Filters on properties which
+     * cannot be found in the resource class are ignored.
+     */
     public Iterable<?> filterCollection(Iterable<?> resources, QueryParams queryParams, String resourceName) {
-      if (queryParams != null && queryParams.getFilters() != null) {
-        FilterParams filters = queryParams.getFilters().getParams().get(resourceName);
-        Object sample = (resources.iterator().hasNext() ? resources.iterator().next() : null);
-        if (sample != null && filters != null && filters.getParams() != null && !filters.getParams().isEmpty()) {
-          // We have a set of filters defined, limit them to those fields present in our objects
-          Map<String, Set<String>> applicableFilters = filters.getParams().entrySet().stream()
-              .filter(e -> {
+        RegistryEntry registryEntry = resourceRegistry.getEntry(resourceName);
+        if (resources == null || registryEntry == null) {
+            return resources;
+        }
+        Predicate<Object> filter = buildFilter(registryEntry, queryParams, resourceName);
+        if (filter == null) {
+            return resources;
+        }
+        List<Object> filteredResources = new ArrayList<>();
+        for (Object resource : resources) {
+            if (filter.test(resource)) {
+                filteredResources.add(resource);
+            }
+        }
+        return filteredResources;
+    }
+
+    private Predicate<Object> buildFilter(RegistryEntry registryEntry, QueryParams queryParams, String resourceName) {
+        if (queryParams == null || queryParams.getFilters() == null ||
+            !queryParams.getFilters().getParams().containsKey(resourceName)) {
+            return null;
+        }
+        ResourceQuery query = resourceQueryBuilder.buildInMemory(resourceName,
+            registryEntry.getResourceInformation(), queryParams);
+        return new InMemoryQueryEvaluator(query).getPredicate();
+    }
+
+    /**
+     * Reads resources in batches and sets their included relationships before they are returned, so only a batch
+     * of resources is kept in memory at once and relationship repositories are still called for many resources.
+     */
+    private class IncludedElementsIterator implements Iterator<Object> {
+        private final Iterator<Object> resources;
+        private final String resourceName;
+        private final QueryParams queryParams;
+        private final RepositoryMethodParameterProvider parameterProvider;
+        private List<Object> batch = Collections.emptyList();
+        private int position;
+
+        private IncludedElementsIterator(Iterator<Object> resources, String resourceName, QueryParams queryParams,
+                                         RepositoryMethodParameterProvider parameterProvider) {
+            this.resources = resources;
+            this.resourceName = resourceName;
+            this.queryParams = queryParams;
+            this.parameterProvider = parameterProvider;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (position == batch.size()) {
+                readBatch();
+            }
+            return position < batch.size();
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return batch.get(position++);
+        }
+
+        private void readBatch() {
+            List<Object> resourceBatch = new ArrayList<>(INCLUDE_BATCH_SIZE);
+            while (resourceBatch.size() < INCLUDE_BATCH_SIZE && resources.hasNext()) {
+                resourceBatch.add(resources.next());
+            }
+            if (!resourceBatch.isEmpty()) {
                 try {
-                  sample.getClass().getDeclaredField(e.getKey());
-                } catch (NoSuchFieldException e1) {
-                  return false;
+                    includeFieldSetter.setIncludedElements(resourceName, resourceBatch, queryParams, parameterProvider);
+                } catch (ReflectiveOperationException e) {
+                    throw new ResourceException("Error setting included elements: " + e.getMessage(), e);
                 }
-                return true;
-              })
-              .collect(Collectors.toMap(k -> k.getKey(), v -> v.getValue()));
-          if (!applicableFilters.isEmpty()) {
-            resources = StreamSupport.stream(resources.spliterator(), false)
-                .filter(v -> {
-                  return applicableFilters.entrySet().stream()
-                    .map(e -> {
-                      return e.getValue().contains(BeanUtils.getProperty(v, e.getKey()));
-                    })
-                    .allMatch(b -> b == true);
-                })
-                .collect(Collectors.toList());
-          }
+            }
+            batch = resourceBatch;
+            position = 0;
         }
-      }
-      return resources;
     }
 }
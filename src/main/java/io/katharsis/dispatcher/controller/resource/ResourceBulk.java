@@ -0,0 +1,261 @@
+package io.katharsis.dispatcher.controller.resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.BulkResourceRepository;
+import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.request.dto.DataBody;
+import io.katharsis.request.dto.RequestBody;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.ResourcePath;
+import io.katharsis.resource.exception.RequestBodyException;
+import io.katharsis.resource.exception.RequestBodyNotFoundException;
+import io.katharsis.resource.exception.ResourceNotFoundException;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.response.BulkElementResult;
+import io.katharsis.response.BulkResponse;
+import io.katharsis.response.HttpStatus;
+import io.katharsis.response.LinksInformation;
+import io.katharsis.utils.PropertyUtils;
+import io.katharsis.utils.parser.TypeParser;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Base of the controllers handling bulk requests, which send an array of resources to a collection URL. Elements are
+ * processed independently and the result of each of them is reported in the {@link BulkResponse}. Repositories
+ * implementing {@link BulkResourceRepository} save or delete all of the valid elements with a single call.
+ */
+public abstract class ResourceBulk extends ResourceUpsert {
+
+    private final ExceptionMapperRegistry exceptionMapperRegistry;
+
+    public ResourceBulk(ResourceRegistry resourceRegistry, TypeParser typeParser, ObjectMapper objectMapper) {
+        this(resourceRegistry, typeParser, objectMapper, null);
+    }
+
+    /**
+     * @param resourceRegistry        resource registry
+     * @param typeParser              type parser
+     * @param objectMapper            object mapper
+     * @param exceptionMapperRegistry registry mapping failures of the elements to their results or <i>null</i>
+     */
+    public ResourceBulk(ResourceRegistry resourceRegistry, TypeParser typeParser, ObjectMapper objectMapper,
+                        ExceptionMapperRegistry exceptionMapperRegistry) {
+        super(resourceRegistry, typeParser, objectMapper);
+        this.exceptionMapperRegistry = exceptionMapperRegistry;
+    }
+
+    /**
+     * Bulk controllers are checked before the controllers of single resources sharing their paths.
+     */
+    @Override
+    public int getPriority() {
+        return 1;
+    }
+
+    /**
+     * Checks if it is a request with the given method for a collection URL, i.e. a resource path without ids.
+     */
+    boolean isAcceptable(JsonPath jsonPath, String requestType, HttpMethod method) {
+        return jsonPath instanceof ResourcePath &&
+            jsonPath.getIds() == null &&
+            method.name().equals(requestType);
+    }
+
+    /**
+     * Resolves the endpoint of the request and verifies that the body contains an array of resources.
+     */
+    RegistryEntry getEndpointRegistryEntry(HttpMethod method, JsonPath jsonPath, RequestBody requestBody) {
+        String resourceEndpointName = jsonPath.getResourceName();
+        RegistryEntry endpointRegistryEntry = resourceRegistry.getEntry(resourceEndpointName);
+        if (endpointRegistryEntry == null) {
+            throw new ResourceNotFoundException(resourceEndpointName);
+        }
+        if (requestBody == null) {
+            throw new RequestBodyNotFoundException(method, resourceEndpointName);
+        }
+        if (!requestBody.isMultiple()) {
+            throw new RequestBodyException(method, resourceEndpointName, "Array of data expected in the body");
+        }
+        return endpointRegistryEntry;
+    }
+
+    /**
+     * Creates or updates each element. The resources are saved with a single
+     * {@link BulkResourceRepository#saveAll(Iterable)} call if the repository supports it, and one at a time otherwise.
+     */
+    BulkResponse upsertAll(HttpMethod method, JsonPath jsonPath, QueryParams queryParams,
+                           RepositoryMethodParameterProvider parameterProvider, RegistryEntry endpointRegistryEntry,
+                           Iterable<DataBody> dataBodies, ResourceBuilder resourceBuilder, int successStatus) {
+        String resourceEndpointName = jsonPath.getResourceName();
+        List<BulkElementResult> results = new ArrayList<>();
+        List<BulkElement> elements = new ArrayList<>();
+        for (DataBody dataBody : dataBodies) {
+            int index = results.size();
+            results.add(null);
+            try {
+                RegistryEntry bodyRegistryEntry = resourceRegistry.getEntry(dataBody.getType());
+                verifyTypes(method, resourceEndpointName, endpointRegistryEntry, bodyRegistryEntry);
+                Object resource = resourceBuilder.build(dataBody, bodyRegistryEntry);
+                setAttributes(dataBody, resource, bodyRegistryEntry.getResourceInformation());
+                setRelations(resource, bodyRegistryEntry, dataBody, queryParams, parameterProvider);
+                elements.add(new BulkElement(index, dataBody.getId(), resource));
+            } catch (Exception e) {
+                results.set(index, failure(index, dataBody.getId(), e));
+            }
+        }
+
+        ResourceRepository resourceRepository = endpointRegistryEntry.getResourceRepository(parameterProvider);
+        String idFieldName = endpointRegistryEntry.getResourceInformation()
+            .getIdField()
+            .getUnderlyingName();
+        List<Object> savedResources = new ArrayList<>(elements.size());
+        if (resourceRepository instanceof BulkResourceRepository && !elements.isEmpty()) {
+            List<Object> resources = new ArrayList<>(elements.size());
+            for (BulkElement element : elements) {
+                resources.add(element.value);
+            }
+            Iterator<Object> savedIterator = null;
+            try {
+                //noinspection unchecked
+                Iterable<Object> saved = ((BulkResourceRepository) resourceRepository).saveAll(resources);
+                savedIterator = saved != null ? saved.iterator() : Collections.emptyIterator();
+            } catch (RuntimeException e) {
+                for (BulkElement element : elements) {
+                    results.set(element.index, failure(element.index, element.id, e));
+                }
+            }
+            if (savedIterator != null) {
+                for (BulkElement element : elements) {
+                    if (savedIterator.hasNext()) {
+                        Object savedResource = savedIterator.next();
+                        savedResources.add(savedResource);
+                        results.set(element.index, BulkElementResult.success(element.index,
+                            getId(savedResource, idFieldName), successStatus));
+                    } else {
+                        results.set(element.index, new BulkElementResult(element.index, element.id,
+                            HttpStatus.INTERNAL_SERVER_ERROR_500,
+                            String.format("Repository returned %d results for %d saved resources",
+                                savedResources.size(), elements.size())));
+                    }
+                }
+            }
+        } else {
+            for (BulkElement element : elements) {
+                try {
+                    //noinspection unchecked
+                    Object savedResource = resourceRepository.save(element.value);
+                    savedResources.add(savedResource);
+                    results.set(element.index, BulkElementResult.success(element.index,
+                        getId(savedResource, idFieldName), successStatus));
+                } catch (RuntimeException e) {
+                    results.set(element.index, failure(element.index, element.id, e));
+                }
+            }
+        }
+
+        LinksInformation linksInformation = getLinksInformation(resourceRepository, savedResources, queryParams);
+        return new BulkResponse(savedResources, jsonPath, queryParams, results, linksInformation, successStatus);
+    }
+
+    /**
+     * Removes each element. The resources are deleted with a single {@link BulkResourceRepository#deleteAll(Iterable)}
+     * call if the repository supports it, and one at a time otherwise.
+     */
+    BulkResponse deleteAll(JsonPath jsonPath, QueryParams queryParams,
+                           RepositoryMethodParameterProvider parameterProvider, RegistryEntry endpointRegistryEntry,
+                           Iterable<DataBody> dataBodies) {
+        String resourceEndpointName = jsonPath.getResourceName();
+        @SuppressWarnings("unchecked")
+        Class<Serializable> idClass = (Class<Serializable>) endpointRegistryEntry.getResourceInformation()
+            .getIdField()
+            .getType();
+
+        List<BulkElementResult> results = new ArrayList<>();
+        List<BulkElement> elements = new ArrayList<>();
+        for (DataBody dataBody : dataBodies) {
+            int index = results.size();
+            results.add(null);
+            try {
+                verifyTypes(HttpMethod.DELETE, resourceEndpointName, endpointRegistryEntry,
+                    resourceRegistry.getEntry(dataBody.getType()));
+                if (dataBody.getId() == null) {
+                    throw new RequestBodyException(HttpMethod.DELETE, resourceEndpointName, "No id in the data");
+                }
+                elements.add(new BulkElement(index, dataBody.getId(), typeParser.parse(dataBody.getId(), idClass)));
+            } catch (RuntimeException e) {
+                results.set(index, failure(index, dataBody.getId(), e));
+            }
+        }
+
+        ResourceRepository resourceRepository = endpointRegistryEntry.getResourceRepository(parameterProvider);
+        if (resourceRepository instanceof BulkResourceRepository && !elements.isEmpty()) {
+            List<Serializable> ids = new ArrayList<>(elements.size());
+            for (BulkElement element : elements) {
+                ids.add((Serializable) element.value);
+            }
+            RuntimeException failure = null;
+            try {
+                //noinspection unchecked
+                ((BulkResourceRepository) resourceRepository).deleteAll(ids);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            for (BulkElement element : elements) {
+                results.set(element.index, failure != null ?
+                    failure(element.index, element.id, failure) :
+                    BulkElementResult.success(element.index, element.id, HttpStatus.NO_CONTENT_204));
+            }
+        } else {
+            for (BulkElement element : elements) {
+                try {
+                    //noinspection unchecked
+                    resourceRepository.delete((Serializable) element.value);
+                    results.set(element.index,
+                        BulkElementResult.success(element.index, element.id, HttpStatus.NO_CONTENT_204));
+                } catch (RuntimeException e) {
+                    results.set(element.index, failure(element.index, element.id, e));
+                }
+            }
+        }
+
+        return new BulkResponse(Collections.emptyList(), jsonPath, queryParams, results, null, HttpStatus.OK_200);
+    }
+
+    private BulkElementResult failure(int index, String id, Exception exception) {
+        return BulkElementResult.failure(index, id, exception, exceptionMapperRegistry);
+    }
+
+    private static String getId(Object resource, String idFieldName) {
+        Object id = resource != null ? PropertyUtils.getProperty(resource, idFieldName) : null;
+        return id != null ? id.toString() : null;
+    }
+
+    /**
+     * Provides the resource of an element before its attributes and relationships are set.
+     */
+    interface ResourceBuilder {
+        Object build(DataBody dataBody, RegistryEntry bodyRegistryEntry) throws Exception;
+    }
+
+    private static class BulkElement {
+        private final int index;
+        private final String id;
+        private final Object value;
+
+        private BulkElement(int index, String id, Object value) {
+            this.index = index;
+            this.id = id;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.katharsis.dispatcher.controller.resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.request.dto.RequestBody;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.response.BaseResponse;
+import io.katharsis.utils.parser.TypeParser;
+
+/**
+ * Removes each resource identified in an array sent to a collection URL.
+ */
+public class ResourceBulkDelete extends ResourceBulk {
+
+    public ResourceBulkDelete(ResourceRegistry resourceRegistry, TypeParser typeParser, ObjectMapper objectMapper) {
+        this(resourceRegistry, typeParser, objectMapper, null);
+    }
+
+    public ResourceBulkDelete(ResourceRegistry resourceRegistry, TypeParser typeParser, ObjectMapper objectMapper,
+                              ExceptionMapperRegistry exceptionMapperRegistry) {
+        super(resourceRegistry, typeParser, objectMapper, exceptionMapperRegistry);
+    }
+
+    @Override
+    public boolean isAcceptable(JsonPath jsonPath, String requestType) {
+        return isAcceptable(jsonPath, requestType, HttpMethod.DELETE);
+    }
+
+    @Override
+    public BaseResponse<?> handle(JsonPath jsonPath, QueryParams queryParams,
+                                  RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody) {
+        RegistryEntry endpointRegistryEntry = getEndpointRegistryEntry(HttpMethod.DELETE, jsonPath, requestBody);
+        return deleteAll(jsonPath, queryParams, parameterProvider, endpointRegistryEntry,
+            requestBody.getMultipleData());
+    }
+}
@@ -0,0 +1,92 @@
+package io.katharsis.dispatcher.controller.resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.request.dto.DataBody;
+import io.katharsis.request.dto.RequestBody;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.resource.exception.RequestBodyException;
+import io.katharsis.resource.exception.ResourceNotFoundException;
+import io.katharsis.resource.field.ResourceField;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.response.BaseResponse;
+import io.katharsis.response.BulkResponse;
+import io.katharsis.response.HttpStatus;
+import io.katharsis.utils.parser.TypeParser;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Updates each resource of an array sent to a collection URL. Each element must contain the id of the resource.
+ */
+public class ResourceBulkPatch extends ResourceBulk {
+
+    public ResourceBulkPatch(ResourceRegistry resourceRegistry, TypeParser typeParser, ObjectMapper objectMapper) {
+        this(resourceRegistry, typeParser, objectMapper, null);
+    }
+
+    public ResourceBulkPatch(ResourceRegistry resourceRegistry, TypeParser typeParser, ObjectMapper objectMapper,
+                             ExceptionMapperRegistry exceptionMapperRegistry) {
+        super(resourceRegistry, typeParser, objectMapper, exceptionMapperRegistry);
+    }
+
+    @Override
+    public boolean isAcceptable(JsonPath jsonPath, String requestType) {
+        return isAcceptable(jsonPath, requestType, HttpMethod.PATCH);
+    }
+
+    @Override
+    public BaseResponse<?> handle(JsonPath jsonPath, QueryParams queryParams,
+                                  RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody) {
+        RegistryEntry endpointRegistryEntry = getEndpointRegistryEntry(HttpMethod.PATCH, jsonPath, requestBody);
+        return updateAll(jsonPath, queryParams, parameterProvider, endpointRegistryEntry,
+            requestBody.getMultipleData());
+    }
+
+    /**
+     * Fetches all of the updated resources with a single repository call before the elements are processed.
+     */
+    private BulkResponse updateAll(JsonPath jsonPath, QueryParams queryParams,
+                                   RepositoryMethodParameterProvider parameterProvider,
+                                   RegistryEntry endpointRegistryEntry, Iterable<DataBody> dataBodies) {
+        String resourceEndpointName = jsonPath.getResourceName();
+        ResourceField idField = endpointRegistryEntry.getResourceInformation()
+            .getIdField();
+        @SuppressWarnings("unchecked")
+        Class<Serializable> idClass = (Class<Serializable>) idField.getType();
+
+        List<Serializable> ids = new ArrayList<>();
+        for (DataBody dataBody : dataBodies) {
+            if (dataBody.getId() != null) {
+                try {
+                    ids.add(typeParser.parse(dataBody.getId(), idClass));
+                } catch (RuntimeException e) {
+                    // reported as a failure of the element
+                }
+            }
+        }
+        Map<Object, Object> resources = ids.isEmpty() ? Collections.emptyMap() :
+            findResources(endpointRegistryEntry, idField, ids, queryParams, parameterProvider);
+
+        return upsertAll(HttpMethod.PATCH, jsonPath, queryParams, parameterProvider, endpointRegistryEntry, dataBodies,
+            (dataBody, bodyRegistryEntry) -> {
+                if (dataBody.getId() == null) {
+                    throw new RequestBodyException(HttpMethod.PATCH, resourceEndpointName, "No id in the data");
+                }
+                Object resource = resources.get(typeParser.parse(dataBody.getId(), idClass));
+                if (resource == null) {
+                    throw new ResourceNotFoundException(String.format("Resource %s of type %s not found",
+                        dataBody.getId(), resourceEndpointName));
+                }
+                return resource;
+            }, HttpStatus.OK_200);
+    }
+}
@@ -0,0 +1,59 @@
+package io.katharsis.dispatcher.controller.resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.request.dto.DataBody;
+import io.katharsis.request.dto.RequestBody;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.response.BaseResponse;
+import io.katharsis.response.HttpStatus;
+import io.katharsis.utils.parser.TypeParser;
+
+/**
+ * Creates each resource of an array sent to a collection URL. A request with a single resource isn't accepted and is
+ * handled by {@link ResourcePost}.
+ */
+public class ResourceBulkPost extends ResourceBulk {
+
+    public ResourceBulkPost(ResourceRegistry resourceRegistry, TypeParser typeParser, ObjectMapper objectMapper) {
+        this(resourceRegistry, typeParser, objectMapper, null);
+    }
+
+    public ResourceBulkPost(ResourceRegistry resourceRegistry, TypeParser typeParser, ObjectMapper objectMapper,
+                            ExceptionMapperRegistry exceptionMapperRegistry) {
+        super(resourceRegistry, typeParser, objectMapper, exceptionMapperRegistry);
+    }
+
+    @Override
+    public boolean isAcceptable(JsonPath jsonPath, String requestType) {
+        return isAcceptable(jsonPath, requestType, HttpMethod.POST);
+    }
+
+    @Override
+    public boolean isAcceptable(JsonPath jsonPath, String requestType, RequestBody requestBody) {
+        return isAcceptable(jsonPath, requestType) && requestBody != null && requestBody.isMultiple();
+    }
+
+    @Override
+    public BaseResponse<?> handle(JsonPath jsonPath, QueryParams queryParams,
+                                  RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody)
+        throws Exception {
+        RegistryEntry endpointRegistryEntry = getEndpointRegistryEntry(HttpMethod.POST, jsonPath, requestBody);
+        return upsertAll(HttpMethod.POST, jsonPath, queryParams, parameterProvider, endpointRegistryEntry,
+            requestBody.getMultipleData(), this::buildNewResource, HttpStatus.CREATED_201);
+    }
+
+    private Object buildNewResource(DataBody dataBody, RegistryEntry bodyRegistryEntry)
+        throws IllegalAccessException, InstantiationException {
+        Object newResource = bodyRegistryEntry.getResourceInformation()
+            .getResourceClass()
+            .newInstance();
+        setId(dataBody, newResource, bodyRegistryEntry.getResourceInformation());
+        return newResource;
+    }
+}
@@ -1,11 +1,16 @@
 package io.katharsis.dispatcher.controller.resource;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.katharsis.dispatcher.controller.BaseController;
 import io.katharsis.queryParams.QueryParams;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.adapter.ResourceRepositoryAdapter;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.LinkageData;
 import io.katharsis.resource.exception.ResourceException;
@@ -22,11 +27,14 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public abstract class ResourceUpsert extends BaseController {
     final ResourceRegistry resourceRegistry;
     final TypeParser typeParser;
     private final ObjectMapper objectMapper;
+    private final ConcurrentMap<Class<?>, ObjectReader> attributeReaders = new ConcurrentHashMap<>();
 
     public ResourceUpsert(ResourceRegistry resourceRegistry, TypeParser typeParser, ObjectMapper objectMapper) {
         this.resourceRegistry = resourceRegistry;
@@ -48,29 +56,42 @@ public abstract class ResourceUpsert extends BaseController {
         }
     }
 
+    /**
+     * Binds the attributes of the body onto the instance. Attributes which are not attribute fields of the resource,
+     * e.g. ignored properties, are left out.
+     */
     void setAttributes(DataBody dataBody, Object instance, ResourceInformation resourceInformation)
         throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, InstantiationException,
         IOException {
         if (dataBody.getAttributes() != null) {
-            ObjectReader reader = objectMapper.readerFor(instance.getClass());
-            Object instanceWithNewFields = reader.readValue(dataBody.getAttributes());
-            Iterator<String> propertyNameIterator = dataBody.getAttributes()
-                .fieldNames();
+            JsonNode attributes = dataBody.getAttributes();
+            Iterator<String> propertyNameIterator = attributes.fieldNames();
             while (propertyNameIterator.hasNext()) {
                 String propertyName = propertyNameIterator.next();
-                ResourceField attributeField = resourceInformation.findAttributeFieldByName(propertyName);
-                
                 //Needed for JsonIgnore
-                if(attributeField == null) {
-                    continue;
+                if (resourceInformation.findAttributeFieldByName(propertyName) == null) {
+                    attributes = filterAttributes(attributes, resourceInformation);
+                    break;
                 }
-                
-                Object property = PropertyUtils.getProperty(instanceWithNewFields, attributeField.getUnderlyingName());
-                PropertyUtils.setProperty(instance, attributeField.getUnderlyingName(), property);
             }
+            ObjectReader reader = attributeReaders.computeIfAbsent(instance.getClass(), objectMapper::readerFor);
+            reader.withValueToUpdate(instance)
+                .readValue(attributes);
         }
     }
 
+    private static JsonNode filterAttributes(JsonNode attributes, ResourceInformation resourceInformation) {
+        ObjectNode filteredAttributes = JsonNodeFactory.instance.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = attributes.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (resourceInformation.findAttributeFieldByName(field.getKey()) != null) {
+                filteredAttributes.set(field.getKey(), field.getValue());
+            }
+        }
+        return filteredAttributes;
+    }
+
     protected void saveRelations(Object savedResource, RegistryEntry registryEntry, DataBody dataBody,
                                  RepositoryMethodParameterProvider parameterProvider)
         throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
@@ -221,20 +242,85 @@ public abstract class ResourceUpsert extends BaseController {
         Class<?> relationshipFieldClass = Generics.getResourceClass(relationshipField.getGenericType(),
             relationshipField.getType());
         RegistryEntry entry = resourceRegistry.getEntry(relationshipFieldClass);
-        Class idFieldType = entry.getResourceInformation()
-            .getIdField()
-            .getType();
+        ResourceField idField = entry.getResourceInformation()
+            .getIdField();
 
-        List relationships = new LinkedList<>();
+        List<String> relationshipIds = new ArrayList<>();
         for (LinkageData linkageData : property.getValue()) {
-            Serializable castedRelationshipId = typeParser.parse(linkageData.getId(), idFieldType);
-            Object relationObject = entry.getResourceRepository(parameterProvider)
-                .findOne(castedRelationshipId, queryParams);
-            relationships.add(relationObject);
+            relationshipIds.add(linkageData.getId());
+        }
+        @SuppressWarnings("unchecked")
+        Class<Serializable> idFieldType = (Class<Serializable>) idField.getType();
+        Iterable<Serializable> castedRelationshipIds = typeParser.parse(relationshipIds, idFieldType);
+
+        List relationships = new LinkedList<>();
+        if (!relationshipIds.isEmpty()) {
+            Map<Object, Object> relationObjects = findResources(entry, idField, castedRelationshipIds, queryParams,
+                parameterProvider);
+            for (Serializable castedRelationshipId : castedRelationshipIds) {
+                Object relationObject = relationObjects.get(castedRelationshipId);
+                if (relationObject == null) {
+                    throw new ResourceNotFoundException(String.format("Resource %s of type %s not found",
+                        castedRelationshipId, resourceRegistry.getResourceType(relationshipFieldClass)));
+                }
+                //noinspection unchecked
+                relationships.add(relationObject);
+            }
         }
         PropertyUtils.setProperty(newResource, relationshipField.getUnderlyingName(), relationships);
     }
 
+    /**
+     * Fetches resources of an entry with a single repository call, e.g. all targets of a to-many linkage. An annotated
+     * repository without a method finding resources by their identifiers, or a repository which returns <i>null</i>
+     * from it, is asked for each resource separately.
+     *
+     * @return found resources mapped by their identifiers
+     */
+    static Map<Object, Object> findResources(RegistryEntry entry, ResourceField idField,
+                                             Iterable<Serializable> castedIds, QueryParams queryParams,
+                                             RepositoryMethodParameterProvider parameterProvider) {
+        Set<Serializable> uniqueIds = new LinkedHashSet<>();
+        for (Serializable castedId : castedIds) {
+            uniqueIds.add(castedId);
+        }
+        ResourceRepository resourceRepository = entry.getResourceRepository(parameterProvider);
+        Iterable<Object> foundObjects;
+        if (resourceRepository instanceof ResourceRepositoryAdapter &&
+            !((ResourceRepositoryAdapter) resourceRepository).findAllWithIdsAvailable()) {
+            foundObjects = findEachResource(resourceRepository, uniqueIds, queryParams);
+        } else {
+            //noinspection unchecked
+            foundObjects = resourceRepository.findAll(uniqueIds, queryParams);
+            if (foundObjects == null) {
+                // e.g. a repository which implements only findOne
+                foundObjects = findEachResource(resourceRepository, uniqueIds, queryParams);
+            }
+        }
+
+        Map<Object, Object> relationObjects = new HashMap<>();
+        for (Object foundObject : foundObjects) {
+            if (foundObject != null) {
+                relationObjects.put(PropertyUtils.getProperty(foundObject, idField.getUnderlyingName()), foundObject);
+            }
+        }
+        return relationObjects;
+    }
+
+    private static Iterable<Object> findEachResource(ResourceRepository resourceRepository,
+                                                     Set<Serializable> ids, QueryParams queryParams) {
+        List<Object> foundObjects = new ArrayList<>(ids.size());
+        for (Serializable id : ids) {
+            try {
+                //noinspection unchecked
+                foundObjects.add(resourceRepository.findOne(id, queryParams));
+            } catch (ResourceNotFoundException e) {
+                // missing resources are reported by the caller
+            }
+        }
+        return foundObjects;
+    }
+
     private void setRelationField(Object newResource, RegistryEntry registryEntry,
                                   Map.Entry<String, LinkageData> property, QueryParams queryParams,
                                   RepositoryMethodParameterProvider parameterProvider) {
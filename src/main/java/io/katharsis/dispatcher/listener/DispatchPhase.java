@@ -0,0 +1,44 @@
+package io.katharsis.dispatcher.listener;
+
+/**
+ * Phases of processing a JSON API request. Routing, repository calls, include resolution and meta/links are measured
+ * by {@link io.katharsis.dispatcher.RequestDispatcher}, the remaining phases happen in the integrating framework and
+ * are reported with {@link io.katharsis.dispatcher.RequestDispatcher#recordPhase}.
+ */
+public enum DispatchPhase {
+
+    /**
+     * Building {@link io.katharsis.request.path.JsonPath} from the request path.
+     */
+    PATH_PARSE,
+
+    /**
+     * Building {@link io.katharsis.queryParams.QueryParams} from the request parameters.
+     */
+    QUERY_PARSE,
+
+    /**
+     * Choosing a controller for the request.
+     */
+    ROUTING,
+
+    /**
+     * Work of the controller outside of include resolution and meta/links, dominated by repository calls.
+     */
+    REPOSITORY,
+
+    /**
+     * Loading and setting included relationships.
+     */
+    INCLUDE,
+
+    /**
+     * Collecting meta and links information from the repositories.
+     */
+    META_LINKS,
+
+    /**
+     * Writing the response.
+     */
+    SERIALIZATION
+}
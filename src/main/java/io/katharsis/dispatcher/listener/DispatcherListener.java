@@ -0,0 +1,30 @@
+package io.katharsis.dispatcher.listener;
+
+/**
+ * Receives timings of requests processed by {@link io.katharsis.dispatcher.RequestDispatcher}. Methods are called
+ * on the request threads after a phase or a request is finished, so implementations must be thread-safe and cheap.
+ *
+ * @see DispatcherMetrics
+ */
+public interface DispatcherListener {
+
+    /**
+     * Called once for each phase the request went through.
+     *
+     * @param resourceType  type of the requested resource, <i>null</i> if it isn't known
+     * @param method        HTTP method of the request
+     * @param phase         finished phase
+     * @param durationNanos duration of the phase in nanoseconds
+     */
+    void onPhase(String resourceType, String method, DispatchPhase phase, long durationNanos);
+
+    /**
+     * Called when the dispatcher finished processing a request, including requests ended by an exception.
+     *
+     * @param resourceType  type of the requested resource, <i>null</i> if it isn't known
+     * @param method        HTTP method of the request
+     * @param httpStatus    status of the response, 500 if the exception wasn't mapped to a response
+     * @param durationNanos duration of the whole dispatch in nanoseconds
+     */
+    void onRequest(String resourceType, String method, int httpStatus, long durationNanos);
+}
@@ -0,0 +1,97 @@
+package io.katharsis.dispatcher.listener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default {@link DispatcherListener} keeping a {@link LatencyHistogram} of requests and of each phase per resource
+ * type and HTTP method. Metrics are kept in memory and can be polled with {@link #snapshot()}, e.g. by a metrics
+ * exporter.
+ */
+public class DispatcherMetrics implements DispatcherListener {
+
+    private static final int ERROR_STATUS = 400;
+
+    private final Map<MetricKey, RequestMetrics> requests = new ConcurrentHashMap<>();
+    private final Map<MetricKey, LatencyHistogram> phases = new ConcurrentHashMap<>();
+
+    @Override
+    public void onPhase(String resourceType, String method, DispatchPhase phase, long durationNanos) {
+        phases.computeIfAbsent(new MetricKey(resourceType, method, phase), key -> new LatencyHistogram())
+            .record(durationNanos);
+    }
+
+    @Override
+    public void onRequest(String resourceType, String method, int httpStatus, long durationNanos) {
+        RequestMetrics metrics = requests.computeIfAbsent(new MetricKey(resourceType, method, null),
+            key -> new RequestMetrics());
+        metrics.histogram.record(durationNanos);
+        if (httpStatus >= ERROR_STATUS) {
+            metrics.errors.increment();
+        }
+    }
+
+    public DispatcherMetricsSnapshot snapshot() {
+        List<MetricSnapshot> requestSnapshots = new ArrayList<>(requests.size());
+        for (Map.Entry<MetricKey, RequestMetrics> entry : requests.entrySet()) {
+            MetricKey key = entry.getKey();
+            requestSnapshots.add(new MetricSnapshot(key.resourceType, key.method, null,
+                entry.getValue().histogram.snapshot(), entry.getValue().errors.sum()));
+        }
+        List<MetricSnapshot> phaseSnapshots = new ArrayList<>(phases.size());
+        for (Map.Entry<MetricKey, LatencyHistogram> entry : phases.entrySet()) {
+            MetricKey key = entry.getKey();
+            phaseSnapshots.add(new MetricSnapshot(key.resourceType, key.method, key.phase,
+                entry.getValue().snapshot(), 0L));
+        }
+        return new DispatcherMetricsSnapshot(requestSnapshots, phaseSnapshots);
+    }
+
+    /**
+     * Removes all collected metrics.
+     */
+    public void reset() {
+        requests.clear();
+        phases.clear();
+    }
+
+    private static final class RequestMetrics {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+    }
+
+    private static final class MetricKey {
+        private final String resourceType;
+        private final String method;
+        private final DispatchPhase phase;
+
+        private MetricKey(String resourceType, String method, DispatchPhase phase) {
+            this.resourceType = resourceType;
+            this.method = method;
+            this.phase = phase;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            MetricKey metricKey = (MetricKey) o;
+            return Objects.equals(resourceType, metricKey.resourceType) &&
+                Objects.equals(method, metricKey.method) &&
+                phase == metricKey.phase;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(resourceType, method, phase);
+        }
+    }
+}
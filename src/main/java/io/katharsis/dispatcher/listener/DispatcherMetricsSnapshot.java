@@ -0,0 +1,50 @@
+package io.katharsis.dispatcher.listener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable view of the metrics collected by {@link DispatcherMetrics}.
+ */
+public class DispatcherMetricsSnapshot {
+
+    private final List<MetricSnapshot> requests;
+    private final List<MetricSnapshot> phases;
+
+    public DispatcherMetricsSnapshot(List<MetricSnapshot> requests, List<MetricSnapshot> phases) {
+        this.requests = Collections.unmodifiableList(new ArrayList<>(requests));
+        this.phases = Collections.unmodifiableList(new ArrayList<>(phases));
+    }
+
+    /**
+     * @return durations and error counts of whole requests for each resource type and method
+     */
+    public List<MetricSnapshot> getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return durations of the phases for each resource type and method
+     */
+    public List<MetricSnapshot> getPhases() {
+        return phases;
+    }
+
+    /**
+     * @param resourceType resource type
+     * @param method       HTTP method
+     * @param phase        phase or <i>null</i> to get whole requests
+     * @return matching metric or <i>null</i> if no such request was recorded
+     */
+    public MetricSnapshot find(String resourceType, String method, DispatchPhase phase) {
+        for (MetricSnapshot metric : phase == null ? requests : phases) {
+            if (Objects.equals(resourceType, metric.getResourceType()) && Objects.equals(method, metric.getMethod())
+                && metric.getPhase() == phase) {
+                return metric;
+            }
+        }
+        return null;
+    }
+}
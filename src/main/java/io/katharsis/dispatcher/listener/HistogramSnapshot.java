@@ -0,0 +1,60 @@
+package io.katharsis.dispatcher.listener;
+
+/**
+ * Immutable copy of a {@link LatencyHistogram}. All values are in nanoseconds.
+ */
+public class HistogramSnapshot {
+
+    private final long[] bucketCounts;
+    private final long count;
+    private final long total;
+    private final long max;
+
+    HistogramSnapshot(long[] bucketCounts, long count, long total, long max) {
+        this.bucketCounts = bucketCounts;
+        this.count = count;
+        this.total = total;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0.0 : (double) total / count;
+    }
+
+    /**
+     * Returns a value which the given percentage of the recorded values doesn't exceed.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return upper bound of the bucket containing the percentile, never larger than the maximum
+     */
+    public long getValueAtPercentile(double percentile) {
+        long recorded = 0;
+        for (long bucketCount : bucketCounts) {
+            recorded += bucketCount;
+        }
+        if (recorded == 0) {
+            return 0L;
+        }
+        long threshold = Math.max(1L, (long) Math.ceil(recorded * Math.min(percentile, 100.0) / 100.0));
+        long seen = 0;
+        for (int idx = 0; idx < bucketCounts.length; idx++) {
+            seen += bucketCounts[idx];
+            if (seen >= threshold) {
+                return Math.min(LatencyHistogram.bucketUpperBound(idx), max);
+            }
+        }
+        return max;
+    }
+}
@@ -0,0 +1,48 @@
+package io.katharsis.dispatcher.listener;
+
+/**
+ * Durations of requests or of a request phase for a resource type and HTTP method.
+ */
+public class MetricSnapshot {
+
+    private final String resourceType;
+    private final String method;
+    private final DispatchPhase phase;
+    private final HistogramSnapshot histogram;
+    private final long errorCount;
+
+    public MetricSnapshot(String resourceType, String method, DispatchPhase phase, HistogramSnapshot histogram,
+                          long errorCount) {
+        this.resourceType = resourceType;
+        this.method = method;
+        this.phase = phase;
+        this.histogram = histogram;
+        this.errorCount = errorCount;
+    }
+
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return measured phase or <i>null</i> if the snapshot concerns whole requests
+     */
+    public DispatchPhase getPhase() {
+        return phase;
+    }
+
+    public HistogramSnapshot getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * @return number of requests answered with a 4xx or 5xx status, always 0 for phases
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+}
@@ -0,0 +1,86 @@
+package io.katharsis.dispatcher.listener;
+
+/**
+ * Collects durations of the phases of a request being dispatched on the current thread. The timer is bound to the
+ * thread by {@link io.katharsis.dispatcher.RequestDispatcher} only if a {@link DispatcherListener} is configured,
+ * otherwise {@link #startPhase()} and {@link #stopPhase(DispatchPhase, long)} do nothing.
+ */
+public final class RequestTimer {
+
+    private static final ThreadLocal<RequestTimer> CURRENT = new ThreadLocal<>();
+    private static final DispatchPhase[] PHASES = DispatchPhase.values();
+
+    private final long[] durations = new long[PHASES.length];
+    private final boolean[] recorded = new boolean[PHASES.length];
+    private RequestTimer previous;
+
+    /**
+     * Binds a new timer to the current thread.
+     *
+     * @return the bound timer, which must be unbound with {@link #unbind()}
+     */
+    public static RequestTimer bind() {
+        RequestTimer timer = new RequestTimer();
+        timer.previous = CURRENT.get();
+        CURRENT.set(timer);
+        return timer;
+    }
+
+    /**
+     * Restores the timer which was bound to the thread before this one.
+     */
+    public void unbind() {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * @return start of a phase to be passed to {@link #stopPhase(DispatchPhase, long)} or 0 if no timer is bound
+     */
+    public static long startPhase() {
+        return CURRENT.get() != null ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Adds the time elapsed since <i>startNanos</i> to the phase of the timer bound to the current thread.
+     *
+     * @param phase      phase to be recorded
+     * @param startNanos value returned by {@link #startPhase()}
+     */
+    public static void stopPhase(DispatchPhase phase, long startNanos) {
+        if (startNanos == 0L) {
+            return;
+        }
+        RequestTimer timer = CURRENT.get();
+        if (timer != null) {
+            timer.add(phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    public void add(DispatchPhase phase, long durationNanos) {
+        durations[phase.ordinal()] += durationNanos;
+        recorded[phase.ordinal()] = true;
+    }
+
+    public boolean isRecorded(DispatchPhase phase) {
+        return recorded[phase.ordinal()];
+    }
+
+    public long getDuration(DispatchPhase phase) {
+        return durations[phase.ordinal()];
+    }
+
+    /**
+     * Passes all recorded phases to the listener.
+     */
+    public void report(DispatcherListener listener, String resourceType, String method) {
+        for (DispatchPhase phase : PHASES) {
+            if (recorded[phase.ordinal()]) {
+                listener.onPhase(resourceType, method, phase, durations[phase.ordinal()]);
+            }
+        }
+    }
+}
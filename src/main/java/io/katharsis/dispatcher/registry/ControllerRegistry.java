@@ -1,25 +1,45 @@
 package io.katharsis.dispatcher.registry;
 
 import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.request.dto.RequestBody;
+import io.katharsis.request.path.FieldPath;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.PathBuilder;
+import io.katharsis.request.path.PathIds;
+import io.katharsis.request.path.RelationshipsPath;
+import io.katharsis.request.path.ResourcePath;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
 /**
  * Stores a list of controllers which are used to process the incoming requests.
+ * <p>
+ * Controllers are arranged into a dispatch table keyed by kind of the path (resource, field or relationships),
+ * whether the path concerns a collection and HTTP method. The table is filled when controllers are registered by
+ * asking each controller whether it accepts a sample path of each key. If more than one controller accepts the same
+ * key, the one with the highest {@link BaseController#getPriority() priority} wins, and controllers with the same
+ * priority are ordered by registration.
+ * </p>
  *
  * @see io.katharsis.dispatcher.RequestDispatcher
  */
 public class ControllerRegistry {
 
+    private static final HttpMethod[] HTTP_METHODS = HttpMethod.values();
+
     private final List<BaseController> controllers = new LinkedList<>();
+    private volatile DispatchTable dispatchTable;
 
     public ControllerRegistry(List<BaseController> baseControllers) {
         if (baseControllers != null) {
             controllers.addAll(baseControllers);
         }
+        dispatchTable = new DispatchTable(controllers);
     }
 
     /**
@@ -29,20 +49,161 @@ public class ControllerRegistry {
      */
     public void addController(BaseController controller) {
         controllers.add(controller);
+        dispatchTable = new DispatchTable(controllers);
     }
 
     /**
-     * Iterate over all registered controllers to get the first suitable one.
+     * Get the controller registered for the kind of the path and the request type. Controllers which don't accept any
+     * of the sample paths are checked for every request, in the order of their priority.
+     *
      * @param jsonPath built JsonPath object mad from request path
      * @param requestType type of a HTTP request
      * @return suitable controller
      */
     public BaseController getController(JsonPath jsonPath, String requestType) {
-        for (BaseController controller : controllers) {
-            if (controller.isAcceptable(jsonPath, requestType)) {
+        return getController(jsonPath, requestType, null);
+    }
+
+    /**
+     * Get the controller registered for the kind of the path and the request type, which accepts the body of the
+     * request.
+     *
+     * @param jsonPath    built JsonPath object mad from request path
+     * @param requestType type of a HTTP request
+     * @param requestBody body of the request or <i>null</i>
+     * @return suitable controller
+     * @see BaseController#isAcceptable(JsonPath, String, RequestBody)
+     */
+    public BaseController getController(JsonPath jsonPath, String requestType, RequestBody requestBody) {
+        DispatchTable table = dispatchTable;
+        for (BaseController controller : table.getRoute(jsonPath, requestType)) {
+            if (controller.isAcceptable(jsonPath, requestType, requestBody)) {
                 return controller;
             }
         }
         throw new MethodNotFoundException(PathBuilder.buildPath(jsonPath), requestType);
     }
+
+    private enum PathKind {
+        RESOURCE(ResourcePath.class),
+        FIELD(FieldPath.class),
+        RELATIONSHIPS(RelationshipsPath.class);
+
+        private static final PathKind[] VALUES = values();
+        private static final String SAMPLE_RESOURCE_NAME = "resource";
+        private static final String SAMPLE_FIELD_NAME = "field";
+        private static final String SAMPLE_ID = "1";
+
+        private final Class<? extends JsonPath> pathClass;
+
+        PathKind(Class<? extends JsonPath> pathClass) {
+            this.pathClass = pathClass;
+        }
+
+        private static PathKind of(JsonPath jsonPath) {
+            for (PathKind pathKind : VALUES) {
+                if (pathKind.pathClass == jsonPath.getClass()) {
+                    return pathKind;
+                }
+            }
+            return null;
+        }
+
+        private JsonPath samplePath(boolean collection) {
+            ResourcePath resourcePath = collection ? new ResourcePath(SAMPLE_RESOURCE_NAME) :
+                new ResourcePath(SAMPLE_RESOURCE_NAME, new PathIds(SAMPLE_ID));
+            JsonPath fieldPath;
+            switch (this) {
+                case FIELD:
+                    fieldPath = new FieldPath(SAMPLE_FIELD_NAME);
+                    break;
+                case RELATIONSHIPS:
+                    fieldPath = new RelationshipsPath(SAMPLE_FIELD_NAME);
+                    break;
+                default:
+                    return resourcePath;
+            }
+            fieldPath.setParentResource(resourcePath);
+            resourcePath.setChildResource(fieldPath);
+            return fieldPath;
+        }
+    }
+
+    private static final class DispatchTable {
+        private final BaseController[][] routes = new BaseController[PathKind.VALUES.length * 2 * HTTP_METHODS.length][];
+        private final BaseController[] unroutedControllers;
+
+        private DispatchTable(List<BaseController> registeredControllers) {
+            List<BaseController> controllers = new ArrayList<>(registeredControllers);
+            Collections.sort(controllers, (first, second) -> Integer.compare(second.getPriority(), first.getPriority()));
+
+            boolean[][] accepted = new boolean[routes.length][controllers.size()];
+            boolean[] routed = new boolean[controllers.size()];
+            for (PathKind pathKind : PathKind.VALUES) {
+                for (boolean collection : new boolean[]{false, true}) {
+                    JsonPath samplePath = pathKind.samplePath(collection);
+                    for (HttpMethod method : HTTP_METHODS) {
+                        int index = index(pathKind, collection, method);
+                        for (int i = 0; i < controllers.size(); i++) {
+                            if (accepts(controllers.get(i), samplePath, method)) {
+                                accepted[index][i] = true;
+                                routed[i] = true;
+                            }
+                        }
+                    }
+                }
+            }
+
+            List<BaseController> unrouted = new ArrayList<>();
+            for (int i = 0; i < controllers.size(); i++) {
+                if (!routed[i]) {
+                    unrouted.add(controllers.get(i));
+                }
+            }
+            unroutedControllers = unrouted.toArray(new BaseController[unrouted.size()]);
+
+            for (int index = 0; index < routes.length; index++) {
+                List<BaseController> route = new ArrayList<>();
+                for (int i = 0; i < controllers.size(); i++) {
+                    if (accepted[index][i] || !routed[i]) {
+                        route.add(controllers.get(i));
+                    }
+                }
+                routes[index] = route.toArray(new BaseController[route.size()]);
+            }
+        }
+
+        /**
+         * Custom controllers can check more than the kind of a path, so failures of the sample check are ignored.
+         */
+        private static boolean accepts(BaseController controller, JsonPath samplePath, HttpMethod method) {
+            try {
+                return controller.isAcceptable(samplePath, method.name());
+            } catch (RuntimeException e) {
+                return false;
+            }
+        }
+
+        private static int index(PathKind pathKind, boolean collection, HttpMethod method) {
+            return ((pathKind.ordinal() * 2) + (collection ? 1 : 0)) * HTTP_METHODS.length + method.ordinal();
+        }
+
+        private List<BaseController> getRoute(JsonPath jsonPath, String requestType) {
+            PathKind pathKind = PathKind.of(jsonPath);
+            HttpMethod method = findMethod(requestType);
+            if (pathKind == null || method == null) {
+                return Arrays.asList(unroutedControllers);
+            }
+            return Arrays.asList(routes[index(pathKind, jsonPath.isCollection(), method)]);
+        }
+
+        private static HttpMethod findMethod(String requestType) {
+            for (HttpMethod method : HTTP_METHODS) {
+                if (method.name().equals(requestType)) {
+                    return method;
+                }
+            }
+            return null;
+        }
+    }
 }
@@ -2,12 +2,14 @@ package io.katharsis.dispatcher.registry;
 
 import io.katharsis.dispatcher.controller.BaseController;
 import io.katharsis.errorhandling.mapper.DefaultExceptionMapperLookup;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
 import io.katharsis.resource.include.IncludeLookupSetter;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.utils.parser.TypeParser;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -21,13 +23,41 @@ public class ControllerRegistryBuilder {
     private final TypeParser typeParser;
     private final ObjectMapper objectMapper;
     private final IncludeLookupSetter includeFieldSetter;
+    private final ExceptionMapperRegistry exceptionMapperRegistry;
 
     public ControllerRegistryBuilder(@SuppressWarnings("SameParameterValue") ResourceRegistry resourceRegistry, @SuppressWarnings("SameParameterValue") TypeParser typeParser,
                                      @SuppressWarnings("SameParameterValue") ObjectMapper objectMapper) {
+        this(resourceRegistry, typeParser, objectMapper, null);
+    }
+
+    /**
+     * @param resourceRegistry  resource registry
+     * @param typeParser        type parser
+     * @param objectMapper      object mapper
+     * @param includeExecutor   executor of parallel inclusion loads or <i>null</i> to load them sequentially
+     * @see IncludeLookupSetter#IncludeLookupSetter(ResourceRegistry, Executor)
+     */
+    public ControllerRegistryBuilder(ResourceRegistry resourceRegistry, TypeParser typeParser,
+                                     ObjectMapper objectMapper, Executor includeExecutor) {
+        this(resourceRegistry, typeParser, objectMapper, includeExecutor, null);
+    }
+
+    /**
+     * @param resourceRegistry        resource registry
+     * @param typeParser              type parser
+     * @param objectMapper            object mapper
+     * @param includeExecutor         executor of parallel inclusion loads or <i>null</i> to load them sequentially
+     * @param exceptionMapperRegistry registry mapping failures of bulk request elements to their results or
+     *                                <i>null</i> to report only the Katharsis exceptions
+     */
+    public ControllerRegistryBuilder(ResourceRegistry resourceRegistry, TypeParser typeParser,
+                                     ObjectMapper objectMapper, Executor includeExecutor,
+                                     ExceptionMapperRegistry exceptionMapperRegistry) {
         this.resourceRegistry = resourceRegistry;
         this.typeParser = typeParser;
         this.objectMapper = objectMapper;
-        this.includeFieldSetter = new IncludeLookupSetter(resourceRegistry);
+        this.includeFieldSetter = new IncludeLookupSetter(resourceRegistry, includeExecutor);
+        this.exceptionMapperRegistry = exceptionMapperRegistry;
     }
 
     /**
@@ -37,7 +67,8 @@ public class ControllerRegistryBuilder {
      * @throws Exception initialization exception
      */
     public ControllerRegistry build() throws Exception {
-        return build(new DefaultControllerLookup(resourceRegistry, typeParser, objectMapper, includeFieldSetter));
+        return build(new DefaultControllerLookup(resourceRegistry, typeParser, objectMapper, includeFieldSetter,
+            exceptionMapperRegistry));
     }
 
     /**
@@ -8,15 +8,19 @@ import io.katharsis.dispatcher.controller.resource.RelationshipsResourceDelete;
 import io.katharsis.dispatcher.controller.resource.RelationshipsResourceGet;
 import io.katharsis.dispatcher.controller.resource.RelationshipsResourcePatch;
 import io.katharsis.dispatcher.controller.resource.RelationshipsResourcePost;
+import io.katharsis.dispatcher.controller.resource.ResourceBulkDelete;
+import io.katharsis.dispatcher.controller.resource.ResourceBulkPatch;
+import io.katharsis.dispatcher.controller.resource.ResourceBulkPost;
 import io.katharsis.dispatcher.controller.resource.ResourceDelete;
 import io.katharsis.dispatcher.controller.resource.ResourceGet;
 import io.katharsis.dispatcher.controller.resource.ResourcePatch;
 import io.katharsis.dispatcher.controller.resource.ResourcePost;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
 import io.katharsis.resource.include.IncludeLookupSetter;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.utils.parser.TypeParser;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -30,27 +34,45 @@ public class DefaultControllerLookup implements ControllerLookup {
     private TypeParser typeParser;
     private ObjectMapper objectMapper;
     private IncludeLookupSetter includeFieldSetter;
+    private ExceptionMapperRegistry exceptionMapperRegistry;
 
     public DefaultControllerLookup(ResourceRegistry resourceRegistry, TypeParser typeParser, ObjectMapper objectMapper, IncludeLookupSetter includeFieldSetter) {
+        this(resourceRegistry, typeParser, objectMapper, includeFieldSetter, null);
+    }
+
+    /**
+     * @param resourceRegistry        resource registry
+     * @param typeParser              type parser
+     * @param objectMapper            object mapper
+     * @param includeFieldSetter      loader of the included resources
+     * @param exceptionMapperRegistry registry mapping failures of bulk request elements or <i>null</i>
+     */
+    public DefaultControllerLookup(ResourceRegistry resourceRegistry, TypeParser typeParser, ObjectMapper objectMapper,
+                                   IncludeLookupSetter includeFieldSetter,
+                                   ExceptionMapperRegistry exceptionMapperRegistry) {
         this.resourceRegistry = resourceRegistry;
         this.typeParser = typeParser;
         this.objectMapper = objectMapper;
         this.includeFieldSetter = includeFieldSetter;
+        this.exceptionMapperRegistry = exceptionMapperRegistry;
     }
 
     @Override
     public Set<BaseController> getControllers() {
-        Set<BaseController> controllers = new HashSet<>();
+        Set<BaseController> controllers = new LinkedHashSet<>();
         controllers.add(new RelationshipsResourceDelete(resourceRegistry, typeParser));
         controllers.add(new RelationshipsResourcePatch(resourceRegistry, typeParser));
         controllers.add(new RelationshipsResourcePost(resourceRegistry, typeParser));
         controllers.add(new ResourceDelete(resourceRegistry, typeParser));
+        controllers.add(new ResourceBulkDelete(resourceRegistry, typeParser, objectMapper, exceptionMapperRegistry));
         controllers.add(new CollectionGet(resourceRegistry, typeParser, includeFieldSetter));
         controllers.add(new FieldResourceGet(resourceRegistry, typeParser, includeFieldSetter));
         controllers.add(new RelationshipsResourceGet(resourceRegistry, typeParser, includeFieldSetter));
         controllers.add(new ResourceGet(resourceRegistry, typeParser, includeFieldSetter));
         controllers.add(new FieldResourcePost(resourceRegistry, typeParser, objectMapper));
         controllers.add(new ResourcePatch(resourceRegistry, typeParser, objectMapper));
+        controllers.add(new ResourceBulkPatch(resourceRegistry, typeParser, objectMapper, exceptionMapperRegistry));
+        controllers.add(new ResourceBulkPost(resourceRegistry, typeParser, objectMapper, exceptionMapperRegistry));
         controllers.add(new ResourcePost(resourceRegistry, typeParser, objectMapper));
 
         return controllers;
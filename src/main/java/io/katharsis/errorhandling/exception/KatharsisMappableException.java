@@ -16,6 +16,12 @@ public abstract class KatharsisMappableException extends KatharsisException {
         this.errorData = errorData;
     }
 
+    protected KatharsisMappableException(int httpStatus, ErrorData errorData, Throwable cause) {
+        super(errorData.getDetail(), cause);
+        this.httpStatus = httpStatus;
+        this.errorData = errorData;
+    }
+
     public ErrorData getErrorData() {
         return errorData;
     }
@@ -0,0 +1,112 @@
+package io.katharsis.jackson.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import io.katharsis.jackson.exception.ParametersDeserializationException;
+import io.katharsis.request.dto.Operation;
+import io.katharsis.request.dto.OperationCode;
+import io.katharsis.request.dto.OperationRef;
+import io.katharsis.request.dto.OperationsRequest;
+import io.katharsis.request.dto.RequestBody;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the <i>atomic:operations</i> member of an atomic operations request directly from the token stream. The
+ * <i>data</i> member of each operation is read the same way as the one of a {@link RequestBody}.
+ */
+public class OperationsRequestDeserializer extends JsonDeserializer<OperationsRequest> {
+
+    private static final String OPERATIONS_FIELD_NAME = "atomic:operations";
+    private static final String OP_FIELD_NAME = "op";
+    private static final String REF_FIELD_NAME = "ref";
+    private static final String HREF_FIELD_NAME = "href";
+    private static final String DATA_FIELD_NAME = "data";
+    private static final String TYPE_FIELD_NAME = "type";
+    private static final String ID_FIELD_NAME = "id";
+    private static final String LID_FIELD_NAME = "lid";
+    private static final String RELATIONSHIP_FIELD_NAME = "relationship";
+
+    private final RequestBodyDeserializer requestBodyDeserializer = new RequestBodyDeserializer();
+
+    @Override
+    public OperationsRequest deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        if (jp.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw ctxt.mappingException(OperationsRequest.class);
+        }
+        OperationsRequest operationsRequest = new OperationsRequest();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            JsonToken token = jp.nextToken();
+            if (OPERATIONS_FIELD_NAME.equals(fieldName) && token == JsonToken.START_ARRAY) {
+                List<Operation> operations = new ArrayList<>();
+                while (jp.nextToken() != JsonToken.END_ARRAY) {
+                    operations.add(readOperation(jp, ctxt));
+                }
+                operationsRequest.setOperations(operations);
+            } else {
+                jp.skipChildren();
+            }
+        }
+        if (operationsRequest.getOperations() == null) {
+            throw new ParametersDeserializationException("No " + OPERATIONS_FIELD_NAME + " array in the body");
+        }
+        return operationsRequest;
+    }
+
+    private Operation readOperation(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        if (jp.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw ctxt.mappingException(Operation.class);
+        }
+        Operation operation = new Operation();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            JsonToken token = jp.nextToken();
+            if (OP_FIELD_NAME.equals(fieldName)) {
+                String op = ResourceRelationshipsDeserializer.readText(jp);
+                operation.setOp(OperationCode.parse(op));
+                if (operation.getOp() == null) {
+                    throw new ParametersDeserializationException("Unknown operation: " + op);
+                }
+            } else if (HREF_FIELD_NAME.equals(fieldName)) {
+                operation.setHref(ResourceRelationshipsDeserializer.readText(jp));
+            } else if (REF_FIELD_NAME.equals(fieldName) && token == JsonToken.START_OBJECT) {
+                operation.setRef(readRef(jp));
+            } else if (DATA_FIELD_NAME.equals(fieldName)) {
+                RequestBody data = new RequestBody();
+                data.setData(requestBodyDeserializer.readData(jp, ctxt, token));
+                operation.setData(data);
+            } else {
+                jp.skipChildren();
+            }
+        }
+        if (operation.getOp() == null) {
+            throw new ParametersDeserializationException("No op in the operation");
+        }
+        return operation;
+    }
+
+    private static OperationRef readRef(JsonParser jp) throws IOException {
+        OperationRef ref = new OperationRef();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            jp.nextToken();
+            if (TYPE_FIELD_NAME.equals(fieldName)) {
+                ref.setType(ResourceRelationshipsDeserializer.readText(jp));
+            } else if (ID_FIELD_NAME.equals(fieldName)) {
+                ref.setId(ResourceRelationshipsDeserializer.readText(jp));
+            } else if (LID_FIELD_NAME.equals(fieldName)) {
+                ref.setLid(ResourceRelationshipsDeserializer.readText(jp));
+            } else if (RELATIONSHIP_FIELD_NAME.equals(fieldName)) {
+                ref.setRelationship(ResourceRelationshipsDeserializer.readText(jp));
+            } else {
+                jp.skipChildren();
+            }
+        }
+        return ref;
+    }
+}
@@ -1,47 +1,102 @@
 package io.katharsis.jackson.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.RequestBody;
 
 import java.io.IOException;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
+/**
+ * Reads a request body directly from the token stream. Identifiers, types and relationships are bound while the
+ * body is parsed, only the attributes of a resource are kept as a tree until the resource class is known.
+ * Members other than <i>data</i> are skipped.
+ */
 public class RequestBodyDeserializer extends JsonDeserializer<RequestBody> {
+
+    private static final String DATA_FIELD_NAME = "data";
+    private static final String ID_FIELD_NAME = "id";
+    private static final String TYPE_FIELD_NAME = "type";
+    private static final String LID_FIELD_NAME = "lid";
+    private static final String ATTRIBUTES_FIELD_NAME = "attributes";
+    private static final String RELATIONSHIPS_FIELD_NAME = "relationships";
+
+    private final ResourceRelationshipsDeserializer relationshipsDeserializer = new ResourceRelationshipsDeserializer();
+
     @Override
     public RequestBody deserialize(JsonParser jp, DeserializationContext deserializationContext) throws IOException {
-        JsonNode node = jp.readValueAsTree();
-        if (node == null) {
-            return null;
-        }
         RequestBody requestBody = new RequestBody();
-        JsonNode data = node.get("data");
-        Object value;
-        if (data != null) {
-            if (data.isArray()) {
-                Iterator<JsonNode> nodeIterator = data.iterator();
-                List<DataBody> dataBodies = new LinkedList<>();
-
-                while (nodeIterator.hasNext()) {
-                    DataBody newLinkage = jp.getCodec().treeToValue(nodeIterator.next(), DataBody.class);
-                    dataBodies.add(newLinkage);
-                }
-                value = dataBodies;
-            } else if (data.isObject()) {
-                value = jp.getCodec().treeToValue(data, DataBody.class);
-            } else if (data.isNull()) {
-                value = null;
+        if (jp.getCurrentToken() != JsonToken.START_OBJECT) {
+            jp.skipChildren();
+            return requestBody;
+        }
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            JsonToken token = jp.nextToken();
+            if (DATA_FIELD_NAME.equals(fieldName)) {
+                requestBody.setData(readData(jp, deserializationContext, token));
             } else {
-                throw new RuntimeException("data field has wrong type: " + data.toString());
+                jp.skipChildren();
             }
-            requestBody.setData(value);
         }
 
         return requestBody;
     }
+
+    /**
+     * Reads a <i>data</i> member, which is either a resource, an array of resources or null.
+     *
+     * @param jp    parser positioned at the first token of the value
+     * @param ctxt  deserialization context
+     * @param token current token of the parser
+     * @return {@link DataBody}, list of {@link DataBody} or <i>null</i>
+     * @throws IOException on a malformed value
+     */
+    Object readData(JsonParser jp, DeserializationContext ctxt, JsonToken token) throws IOException {
+        if (token == JsonToken.START_ARRAY) {
+            List<DataBody> dataBodies = new LinkedList<>();
+            while (jp.nextToken() != JsonToken.END_ARRAY) {
+                dataBodies.add(readDataBody(jp, ctxt));
+            }
+            return dataBodies;
+        } else if (token == JsonToken.START_OBJECT) {
+            return readDataBody(jp, ctxt);
+        } else if (token == JsonToken.VALUE_NULL) {
+            return null;
+        } else {
+            throw new RuntimeException("data field has wrong type: " + jp.getText());
+        }
+    }
+
+    private DataBody readDataBody(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        if (jp.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw ctxt.mappingException(DataBody.class);
+        }
+        DataBody dataBody = new DataBody();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            JsonToken token = jp.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            if (ID_FIELD_NAME.equals(fieldName)) {
+                dataBody.setId(ResourceRelationshipsDeserializer.readText(jp));
+            } else if (TYPE_FIELD_NAME.equals(fieldName)) {
+                dataBody.setType(ResourceRelationshipsDeserializer.readText(jp));
+            } else if (LID_FIELD_NAME.equals(fieldName)) {
+                dataBody.setLid(ResourceRelationshipsDeserializer.readText(jp));
+            } else if (ATTRIBUTES_FIELD_NAME.equals(fieldName)) {
+                dataBody.setAttributes(jp.readValueAsTree());
+            } else if (RELATIONSHIPS_FIELD_NAME.equals(fieldName)) {
+                dataBody.setRelationships(relationshipsDeserializer.deserialize(jp, ctxt));
+            } else {
+                jp.skipChildren();
+            }
+        }
+        return dataBody;
+    }
 }
@@ -1,59 +1,107 @@
 package io.katharsis.jackson.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import io.katharsis.jackson.exception.ParametersDeserializationException;
 import io.katharsis.request.dto.LinkageData;
 import io.katharsis.request.dto.ResourceRelationships;
 
 import java.io.IOException;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Deserialize ResourceLinks field which can contain either a list of {@link LinkageData} or a single {@link LinkageData}.
+ * The linkages are read directly from the token stream, members other than <i>data</i> are skipped.
  *
  * @see LinkageData
  */
 public class ResourceRelationshipsDeserializer extends JsonDeserializer<ResourceRelationships> {
     private static final String DATA_FIELD_NAME = "data";
+    private static final String ID_FIELD_NAME = "id";
+    private static final String TYPE_FIELD_NAME = "type";
+    private static final String LID_FIELD_NAME = "lid";
 
     @Override
     public ResourceRelationships deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
-        JsonNode node = jp.readValueAsTree();
-        if (node == null) {
+        if (jp.getCurrentToken() == JsonToken.VALUE_NULL) {
             return null;
         }
+        if (jp.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw ctxt.mappingException(ResourceRelationships.class);
+        }
         ResourceRelationships resourceRelationships = new ResourceRelationships();
 
-        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
-        while (fields.hasNext()) {
-            Map.Entry<String, JsonNode> field = fields.next();
-            Object value;
-            if (field.getValue() == null) {
-                throw new ParametersDeserializationException("Attribute field cannot be null for: " + field.getKey());
-            } else if (field.getValue().get(DATA_FIELD_NAME) == null) {
-                value = null;
-            } else if (field.getValue().get(DATA_FIELD_NAME).isArray()) {
-                JsonNode fieldData = field.getValue().get(DATA_FIELD_NAME);
-                Iterator<JsonNode> nodeIterator = fieldData.iterator();
-                List<LinkageData> linkageDatas = new LinkedList<>();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String relationshipName = jp.getCurrentName();
+            JsonToken token = jp.nextToken();
+            if (token == null) {
+                throw new ParametersDeserializationException("Attribute field cannot be null for: " + relationshipName);
+            }
+            Object value = null;
+            if (token == JsonToken.START_OBJECT) {
+                value = readRelationship(jp, ctxt);
+            } else {
+                jp.skipChildren();
+            }
+            resourceRelationships.setAdditionalProperty(relationshipName, value);
+        }
+
+        return resourceRelationships;
+    }
 
-                while (nodeIterator.hasNext()) {
-                    LinkageData newLinkageData = jp.getCodec().treeToValue(nodeIterator.next(), LinkageData.class);
-                    linkageDatas.add(newLinkageData);
+    private static Object readRelationship(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        Object value = null;
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            JsonToken token = jp.nextToken();
+            if (!DATA_FIELD_NAME.equals(fieldName)) {
+                jp.skipChildren();
+            } else if (token == JsonToken.START_ARRAY) {
+                List<LinkageData> linkageDatas = new LinkedList<>();
+                while (jp.nextToken() != JsonToken.END_ARRAY) {
+                    linkageDatas.add(readLinkageData(jp, ctxt));
                 }
                 value = linkageDatas;
+            } else if (token != JsonToken.VALUE_NULL) {
+                value = readLinkageData(jp, ctxt);
+            }
+        }
+        return value;
+    }
+
+    private static LinkageData readLinkageData(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        if (jp.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw ctxt.mappingException(LinkageData.class);
+        }
+        LinkageData linkageData = new LinkageData();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            JsonToken token = jp.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            if (ID_FIELD_NAME.equals(fieldName)) {
+                linkageData.setId(readText(jp));
+            } else if (TYPE_FIELD_NAME.equals(fieldName)) {
+                linkageData.setType(readText(jp));
+            } else if (LID_FIELD_NAME.equals(fieldName)) {
+                linkageData.setLid(readText(jp));
             } else {
-                value = jp.getCodec().treeToValue(field.getValue().get(DATA_FIELD_NAME), LinkageData.class);
+                jp.skipChildren();
             }
-            resourceRelationships.setAdditionalProperty(field.getKey(), value);
         }
+        return linkageData;
+    }
 
-        return resourceRelationships;
+    /**
+     * Reads a scalar value as text, skipping structured values which are not valid identifiers or types.
+     */
+    static String readText(JsonParser jp) throws IOException {
+        String text = jp.getValueAsString();
+        jp.skipChildren();
+        return text;
     }
 }
@@ -11,10 +11,14 @@ public class JsonSerializationException extends KatharsisMappableException {
     private static final String TITLE = "JSON serialization error";
 
     public JsonSerializationException(String message) {
+        this(message, null);
+    }
+
+    public JsonSerializationException(String message, Throwable cause) {
         super(HttpStatus.INTERNAL_SERVER_ERROR_500, ErrorData.builder()
             .setTitle(TITLE)
             .setDetail(message)
             .setStatus(String.valueOf(HttpStatus.INTERNAL_SERVER_ERROR_500))
-            .build());
+            .build(), cause);
     }
 }
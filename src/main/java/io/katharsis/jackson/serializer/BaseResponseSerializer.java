@@ -7,7 +7,8 @@ import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.*;
 
 import java.io.IOException;
-import java.util.*;
+import java.util.Collections;
+import java.util.Iterator;
 
 /**
  * Serializes top-level JSON object and provides ability to include compound documents
@@ -19,22 +20,25 @@ public class BaseResponseSerializer extends JsonSerializer<BaseResponse> {
     private static final String META_FIELD_NAME = "meta";
     private static final String LINKS_FIELD_NAME = "links";
 
+    private final ResourceRegistry resourceRegistry;
     private final IncludedRelationshipExtractor includedRelationshipExtractor;
 
     public BaseResponseSerializer(ResourceRegistry resourceRegistry) {
+        this.resourceRegistry = resourceRegistry;
         includedRelationshipExtractor = new IncludedRelationshipExtractor(resourceRegistry);
     }
 
     @Override
     public void serialize(BaseResponse value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
-        Set<?> includedResources = new HashSet<>();
-
         gen.writeStartObject();
 
-        if (isLinkageContainer(value)) {
-            gen.writeObjectField(DATA_FIELD_NAME, value.getData());
+        if (value instanceof ResourceResponse) {
+            serializeSingle((ResourceResponse) value, gen);
+        } else if (value instanceof CollectionResponse) {
+            serializeCollection((CollectionResponse) value, gen);
         } else {
-            writeResponseWithResources(value, gen, includedResources);
+            throw new IllegalArgumentException(String.format("Response can be either %s or %s. Got %s",
+                ResourceResponse.class, CollectionResponse.class, value.getClass()));
         }
 
         if (value.getMetaInformation() != null) {
@@ -47,71 +51,86 @@ public class BaseResponseSerializer extends JsonSerializer<BaseResponse> {
         gen.writeEndObject();
     }
 
-    private boolean isLinkageContainer(BaseResponse value) {
-        if (value instanceof ResourceResponse) {
-            return value.getData() instanceof LinkageContainer;
-        } else if (value instanceof CollectionResponse) {
-            Iterable data = ((CollectionResponse) value).getData();
-            if (data == null) {
-                return false;
-            } else {
-                Iterator iterator = data.iterator();
-                return iterator.hasNext() && iterator.next() instanceof LinkageContainer;
-            }
-        } else {
-            throw new IllegalArgumentException(String.format("Response can be either %s or %s. Got %s",
-                ResourceResponse.class, CollectionResponse.class, value.getClass()));
+    private void serializeSingle(ResourceResponse resourceResponse, JsonGenerator gen) throws IOException {
+        Object value = resourceResponse.getData();
+        if (value instanceof LinkageContainer) {
+            gen.writeObjectField(DATA_FIELD_NAME, value);
+            return;
         }
-    }
 
-    private void writeResponseWithResources(BaseResponse value, JsonGenerator gen, Set<?> includedResources) throws IOException {
-        if (value instanceof ResourceResponse) {
-            Set included = serializeSingle((ResourceResponse) value, gen);
-            //noinspection unchecked
-            includedResources.addAll(included);
-        } else if (value instanceof CollectionResponse) {
-            Set included = serializeResourceCollection((CollectionResponse) value, gen);
-            //noinspection unchecked
-            includedResources.addAll(included);
-        } else {
-            throw new IllegalArgumentException(String.format("Response can be either %s or %s. Got %s",
-                    ResourceResponse.class, CollectionResponse.class, value.getClass()));
+        IncludedResourceCollector includedResources = new IncludedResourceCollector(resourceRegistry);
+        gen.writeObjectField(DATA_FIELD_NAME, new Container(value, resourceResponse));
+        if (value != null) {
+            includedRelationshipExtractor.extractIncludedResources(value, resourceResponse, includedResources);
         }
 
-        gen.writeObjectField(INCLUDED_FIELD_NAME, includedResources);
+        writeIncluded(resourceResponse, gen, includedResources);
     }
 
-    private Set<?> serializeSingle(ResourceResponse resourceResponse, JsonGenerator gen) throws IOException {
-        Object value = resourceResponse.getData();
-        gen.writeObjectField(DATA_FIELD_NAME, new Container(value, resourceResponse));
-
-        if (value != null) {
-            return includedRelationshipExtractor.extractIncludedResources(value, resourceResponse);
+    /**
+     * Writes <i>data</i> field of a collection response in a single pass over its elements. Each element is written
+     * as soon as it is visited and its included resources are collected at the same time, so an {@link Iterable}
+     * which can be traversed only once, e.g. a database cursor, is supported. Whether the response contains
+     * linkage data is decided by its first element. {@link StreamedCollection} data is closed when it's written.
+     */
+    private void serializeCollection(CollectionResponse collectionResponse, JsonGenerator gen) throws IOException {
+        Iterable values = collectionResponse.getData();
+        if (values instanceof StreamedCollection) {
+            try (StreamedCollection streamedValues = (StreamedCollection) values) {
+                serializeCollection(collectionResponse, streamedValues, gen);
+            }
         } else {
-            return Collections.emptySet();
+            serializeCollection(collectionResponse, values, gen);
         }
     }
 
-    private Set serializeResourceCollection(CollectionResponse collectionResponse, JsonGenerator gen) throws IOException {
-        Iterable values = collectionResponse.getData();
-        Set includedFields = new HashSet<>();
-        if (values != null) {
-            for (Object value : values) {
-                //noinspection unchecked
-                includedFields.addAll(includedRelationshipExtractor.extractIncludedResources(value, collectionResponse));
+    private void serializeCollection(CollectionResponse collectionResponse, Iterable values, JsonGenerator gen)
+        throws IOException {
+        Iterator iterator = values != null ? values.iterator() : Collections.emptyIterator();
+
+        gen.writeArrayFieldStart(DATA_FIELD_NAME);
+        if (!iterator.hasNext()) {
+            gen.writeEndArray();
+            writeIncluded(collectionResponse, gen, new IncludedResourceCollector(resourceRegistry));
+            return;
+        }
+
+        Object first = iterator.next();
+        if (first instanceof LinkageContainer) {
+            gen.writeObject(first);
+            while (iterator.hasNext()) {
+                gen.writeObject(iterator.next());
             }
-        } else {
-            values = Collections.emptyList();
+            gen.writeEndArray();
+            return;
         }
 
-        List<Container> containers = new LinkedList<>();
-        for (Object value : values) {
-            containers.add(new Container(value, collectionResponse));
+        IncludedResourceCollector includedResources = new IncludedResourceCollector(resourceRegistry);
+        writeCollectionElement(collectionResponse, gen, first, includedResources);
+        while (iterator.hasNext()) {
+            writeCollectionElement(collectionResponse, gen, iterator.next(), includedResources);
         }
+        gen.writeEndArray();
 
-        gen.writeObjectField(DATA_FIELD_NAME, containers);
+        writeIncluded(collectionResponse, gen, includedResources);
+    }
+
+    private void writeCollectionElement(CollectionResponse collectionResponse, JsonGenerator gen, Object value,
+                                        IncludedResourceCollector includedResources) throws IOException {
+        gen.writeObject(new Container(value, collectionResponse));
+        includedRelationshipExtractor.extractIncludedResources(value, collectionResponse, includedResources);
+    }
 
-        return includedFields;
+    /**
+     * Writes <i>included</i> field creating a container only for each distinct resource.
+     */
+    private static void writeIncluded(BaseResponse value, JsonGenerator gen, IncludedResourceCollector includedResources)
+        throws IOException {
+        gen.writeArrayFieldStart(INCLUDED_FIELD_NAME);
+        for (Object includedResource : includedResources.getResources()) {
+            gen.writeObject(new Container(includedResource, value));
+        }
+        gen.writeEndArray();
     }
 
     public Class<BaseResponse> handledType() {
@@ -3,8 +3,7 @@ package io.katharsis.jackson.serializer;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import io.katharsis.queryParams.include.Inclusion;
-import io.katharsis.queryParams.params.IncludedRelationsParams;
+import io.katharsis.queryParams.RenderPlan;
 import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.DataLinksContainer;
@@ -29,8 +28,9 @@ public class DataLinksContainerSerializer extends JsonSerializer<DataLinksContai
     public void serialize(DataLinksContainer dataLinksContainer, JsonGenerator gen, SerializerProvider serializers) throws IOException {
         gen.writeStartObject();
 
+        RenderPlan.TypePlan typePlan = dataLinksContainer.getTypePlan();
         for (ResourceField field : dataLinksContainer.getRelationshipFields()) {
-            boolean forceInclusion = shouldForceFieldInclusion(field, dataLinksContainer.getIncludedRelations());
+            boolean forceInclusion = typePlan.isInclusionForced(field.getJsonName());
             RelationshipContainer relationshipContainer =
                 new RelationshipContainer(dataLinksContainer, field, forceInclusion);
 
@@ -40,18 +40,6 @@ public class DataLinksContainerSerializer extends JsonSerializer<DataLinksContai
         gen.writeEndObject();
     }
 
-    private boolean shouldForceFieldInclusion(ResourceField field, IncludedRelationsParams includedRelations) {
-        if (includedRelations != null) {
-            for (Inclusion inclusion : includedRelations.getParams()) {
-                if (field.getJsonName().equals(inclusion.getPath())) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
-    }
-
     public Class<DataLinksContainer> handledType() {
         return DataLinksContainer.class;
     }
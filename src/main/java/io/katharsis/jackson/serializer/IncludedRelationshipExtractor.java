@@ -2,7 +2,6 @@ package io.katharsis.jackson.serializer;
 
 import io.katharsis.queryParams.include.Inclusion;
 import io.katharsis.queryParams.params.IncludedRelationsParams;
-import io.katharsis.queryParams.params.TypedParams;
 import io.katharsis.request.path.ResourcePath;
 import io.katharsis.resource.annotations.JsonApiIncludeByDefault;
 import io.katharsis.resource.exception.ResourceFieldNotFoundException;
@@ -31,134 +30,113 @@ public class IncludedRelationshipExtractor {
     }
 
     public Set<?> extractIncludedResources(Object resource, BaseResponse response) {
-        Set includedResources = new HashSet<>();
-        //noinspection unchecked
-        includedResources.addAll(extractDefaultIncludedFields(resource, response));
-        try {
-            //noinspection unchecked
-            includedResources.addAll(extractIncludedRelationships(resource, response));
-        } catch (IllegalAccessException | NoSuchMethodException | InvocationTargetException | NoSuchFieldException e) {
-            logger.info("Exception while extracting included fields", e);
-        }
+        IncludedResourceCollector collector = new IncludedResourceCollector(resourceRegistry);
+        extractIncludedResources(resource, response, collector);
 
+        Set<Container> includedResources = new LinkedHashSet<>();
+        for (Object includedResource : collector.getResources()) {
+            includedResources.add(new Container(includedResource, response));
+        }
         return includedResources;
     }
 
-    private List<?> extractDefaultIncludedFields(Object resource, BaseResponse response) {
-        List<?> includedResources = getIncludedByDefaultResources(resource, 1);
-        List<Container> includedResourceContainers = new ArrayList<>(includedResources.size());
-        for (Object includedResource : includedResources) {
-            includedResourceContainers.add(new Container(includedResource, response));
+    /**
+     * Adds resources included by a resource to a collector. Resources included by default are followed until all
+     * reachable ones are collected, each of them is visited once.
+     *
+     * @param resource  resource which includes other resources
+     * @param response  response of the request
+     * @param collector collector of included resources
+     */
+    public void extractIncludedResources(Object resource, BaseResponse response, IncludedResourceCollector collector) {
+        extractDefaultIncludedFields(resource, collector);
+        try {
+            extractIncludedRelationships(resource, response, collector);
+        } catch (IllegalAccessException | NoSuchMethodException | InvocationTargetException | NoSuchFieldException e) {
+            logger.info("Exception while extracting included fields", e);
         }
-
-        return includedResourceContainers;
     }
 
-
-    private List<?> getIncludedByDefaultResources(Object resource, int recurrenceLevel) {
-        int recurrenceLevelCounter = recurrenceLevel;
-        if (recurrenceLevel >= 42 || resource == null) {
-            return Collections.emptyList();
+    private void extractDefaultIncludedFields(Object resource, IncludedResourceCollector collector) {
+        if (resource == null || !collector.visit(resource)) {
+            return;
         }
 
-        Set<ResourceField> relationshipFields = getRelationshipFields(resource);
-        List includedFields = new LinkedList<>();
-
-        //noinspection unchecked
-        for (ResourceField resourceField : relationshipFields) {
-            if (resourceField.isAnnotationPresent(JsonApiIncludeByDefault.class)) {
-
-                Object targetDataObj = PropertyUtils.getProperty(resource, resourceField.getUnderlyingName());
-
-                if (targetDataObj != null) {
-                    recurrenceLevelCounter++;
-
+        Deque<Object> resourcesToVisit = new ArrayDeque<>();
+        resourcesToVisit.add(resource);
+        while (!resourcesToVisit.isEmpty()) {
+            Object visitedResource = resourcesToVisit.poll();
+            for (ResourceField resourceField : getRelationshipFields(visitedResource)) {
+                if (resourceField.isAnnotationPresent(JsonApiIncludeByDefault.class)) {
+                    Object targetDataObj = PropertyUtils.getProperty(visitedResource, resourceField.getUnderlyingName());
                     if (targetDataObj instanceof Iterable) {
                         for (Object objectItem : (Iterable) targetDataObj) {
-                            //noinspection unchecked
-                            includedFields.add(objectItem);
-                            //noinspection unchecked
-                            includedFields.addAll(getIncludedByDefaultResources(objectItem, recurrenceLevelCounter));
+                            addIncludedByDefault(objectItem, collector, resourcesToVisit);
                         }
                     } else {
-                        //noinspection unchecked
-                        includedFields.add(targetDataObj);
-                        //noinspection unchecked
-                        includedFields.addAll(getIncludedByDefaultResources(targetDataObj, recurrenceLevelCounter));
+                        addIncludedByDefault(targetDataObj, collector, resourcesToVisit);
                     }
                 }
             }
         }
+    }
 
-        return includedFields;
+    private static void addIncludedByDefault(Object resource, IncludedResourceCollector collector,
+                                             Deque<Object> resourcesToVisit) {
+        if (resource != null) {
+            collector.add(resource);
+            if (collector.visit(resource)) {
+                resourcesToVisit.add(resource);
+            }
+        }
     }
 
-    private List<?> extractIncludedRelationships(Object resource, BaseResponse response)
+    private void extractIncludedRelationships(Object resource, BaseResponse response,
+                                              IncludedResourceCollector collector)
         throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, NoSuchFieldException {
-        List<?> includedResources = new LinkedList<>();
-        TypedParams<IncludedRelationsParams> includedRelations = response.getQueryParams()
-            .getIncludedRelations();
         String elementName = response.getJsonPath()
             .getElementName();
-        IncludedRelationsParams includedRelationsParams = findInclusions(includedRelations, elementName);
+        IncludedRelationsParams includedRelationsParams = response.getQueryParams()
+            .getRenderPlan()
+            .forType(elementName)
+            .getIncludedRelations();
         if (includedRelationsParams != null) {
             for (Inclusion inclusion : includedRelationsParams.getParams()) {
-                //noinspection unchecked
-                includedResources.addAll(extractIncludedRelationship(resource, inclusion, response));
+                extractIncludedRelationship(resource, inclusion, response, collector);
             }
         }
-        return includedResources;
     }
 
-    private static IncludedRelationsParams findInclusions(TypedParams<IncludedRelationsParams> queryParams,
-                                                   String resourceName) {
-        if (queryParams != null && queryParams.getParams() != null) {
-            for (Map.Entry<String, IncludedRelationsParams> entry : queryParams.getParams()
-                .entrySet()) {
-                if (resourceName.equals(entry.getKey())) {
-                    return entry.getValue();
-                }
-            }
-        }
-        return null;
-    }
-
-    private Set extractIncludedRelationship(Object resource, Inclusion inclusion, BaseResponse response)
+    private void extractIncludedRelationship(Object resource, Inclusion inclusion, BaseResponse response,
+                                             IncludedResourceCollector collector)
         throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, NoSuchFieldException {
         List<String> pathList = inclusion.getPathList();
         if (resource == null || pathList.isEmpty()) {
-            return Collections.emptySet();
+            return;
         }
         if (!(response.getJsonPath() instanceof ResourcePath)) { // the first property name is the resource itself
             pathList = pathList.subList(1, pathList.size());
             if (pathList.isEmpty()) {
-                return Collections.emptySet();
+                return;
             }
         }
-        return getElements(resource, pathList, response);
+        getElements(resource, pathList, collector);
     }
 
-    private Set getElements(Object resource, List<String> pathList, BaseResponse response)
+    private void getElements(Object resource, List<String> pathList, IncludedResourceCollector collector)
         throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, NoSuchFieldException {
-        Set elements = new HashSet();
-
         String fieldName = getRelationshipName(pathList.get(0), resource.getClass());
 
         Object property = PropertyUtils.getProperty(resource, fieldName);
-        if (property != null) {
-            if (Iterable.class.isAssignableFrom(property.getClass())) {
-                for (Object o : (Iterable) property) {
-                    //noinspection unchecked
-                    elements.add(new Container(o, response));
+        if (property instanceof Iterable) {
+            for (Object o : (Iterable) property) {
+                if (o != null) {
+                    collector.add(o);
                 }
-            } else {
-                //noinspection unchecked
-                elements.add(new Container(property, response));
             }
-        } else {
-            return Collections.emptySet();
+        } else if (property != null) {
+            collector.add(property);
         }
-        return elements;
     }
 
     private <T> String getRelationshipName(String jsonName, Class<T> resourceClazz) {
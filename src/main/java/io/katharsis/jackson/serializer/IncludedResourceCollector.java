@@ -0,0 +1,125 @@
+package io.katharsis.jackson.serializer;
+
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.utils.PropertyAccessorRegistry;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Collects resources of <i>included</i> field of a response. A resource is identified by its type and id, so each
+ * of them is collected only once regardless of how many times it is referenced. Resources without an id are
+ * identified by their instance. The resources are kept in the order they were added.
+ */
+public class IncludedResourceCollector {
+
+    private final ResourceRegistry resourceRegistry;
+    private final Map<Object, Object> resources = new LinkedHashMap<>();
+    private final Set<Object> visitedResources = new HashSet<>();
+
+    public IncludedResourceCollector(ResourceRegistry resourceRegistry) {
+        this.resourceRegistry = resourceRegistry;
+    }
+
+    /**
+     * Adds a resource unless a resource with the same type and id has already been added.
+     *
+     * @param resource resource to be included
+     * @return <i>true</i> if the resource hasn't been collected before
+     */
+    public boolean add(Object resource) {
+        Object key = getKey(resource);
+        if (resources.containsKey(key)) {
+            return false;
+        }
+        resources.put(key, resource);
+        return true;
+    }
+
+    /**
+     * Marks a resource whose relationships included by default are being followed. It's tracked apart from the
+     * collected resources, so a resource collected by an explicit inclusion is still followed when it's reached by a
+     * default inclusion later.
+     *
+     * @param resource resource to be visited
+     * @return <i>true</i> if the resource hasn't been visited before
+     */
+    public boolean visit(Object resource) {
+        return visitedResources.add(getKey(resource));
+    }
+
+    /**
+     * @return collected resources in the order they were added
+     */
+    public Collection<Object> getResources() {
+        return resources.values();
+    }
+
+    public boolean isEmpty() {
+        return resources.isEmpty();
+    }
+
+    private Object getKey(Object resource) {
+        Class<?> resourceClass = resource.getClass();
+        RegistryEntry<?> entry = resourceRegistry.getEntry(resourceClass);
+        if (entry != null) {
+            Object id = PropertyAccessorRegistry
+                .getAccessor(resourceClass, entry.getResourceInformation().getIdField().getUnderlyingName())
+                .getValue(resource);
+            if (id != null) {
+                return new ResourceKey(resourceRegistry.getResourceType(resourceClass), id);
+            }
+        }
+        return new InstanceKey(resource);
+    }
+
+    private static final class ResourceKey {
+        private final String type;
+        private final Object id;
+
+        private ResourceKey(String type, Object id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ResourceKey that = (ResourceKey) o;
+            return Objects.equals(type, that.type) && Objects.equals(id, that.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, id);
+        }
+    }
+
+    private static final class InstanceKey {
+        private final Object resource;
+
+        private InstanceKey(Object resource) {
+            this.resource = resource;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof InstanceKey && ((InstanceKey) o).resource == resource;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(resource);
+        }
+    }
+}
@@ -6,10 +6,9 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.LinkageContainer;
-import io.katharsis.utils.BeanUtils;
+import io.katharsis.utils.PropertyAccessorRegistry;
 
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * Serializes a single linkage object.
@@ -31,11 +30,7 @@ public class LinkageContainerSerializer extends JsonSerializer<LinkageContainer>
     public void serialize(LinkageContainer linkageContainer, JsonGenerator gen, SerializerProvider provider) throws IOException {
         gen.writeStartObject();
         writeType(gen, linkageContainer.getRelationshipClass());
-        try {
-            writeId(gen, linkageContainer);
-        } catch (IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-            e.printStackTrace();
-        }
+        writeId(gen, linkageContainer);
         gen.writeEndObject();
     }
 
@@ -44,11 +39,12 @@ public class LinkageContainerSerializer extends JsonSerializer<LinkageContainer>
         gen.writeObjectField(TYPE_FIELD_NAME, resourceType);
     }
 
-    private static void writeId(JsonGenerator gen, LinkageContainer linkageContainer)
-            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException, IOException {
+    private static void writeId(JsonGenerator gen, LinkageContainer linkageContainer) throws IOException {
         ResourceField idField = linkageContainer.getRelationshipEntry().getResourceInformation().getIdField();
-        String sourceId = BeanUtils.getProperty(linkageContainer.getObjectItem(), idField.getUnderlyingName());
-        gen.writeObjectField(ID_FIELD_NAME, sourceId);
+        Object objectItem = linkageContainer.getObjectItem();
+        Object sourceId = PropertyAccessorRegistry.getAccessor(objectItem.getClass(), idField.getUnderlyingName())
+            .getValue(objectItem);
+        gen.writeObjectField(ID_FIELD_NAME, sourceId == null ? "null" : sourceId.toString());
     }
 
     public Class<LinkageContainer> handledType() {
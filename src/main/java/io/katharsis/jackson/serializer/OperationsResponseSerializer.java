@@ -0,0 +1,38 @@
+package io.katharsis.jackson.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import io.katharsis.response.BaseResponse;
+import io.katharsis.response.OperationsResponse;
+
+import java.io.IOException;
+
+/**
+ * Serializes the top-level object of an atomic operations response. Each result is written by the serializer of its
+ * response and an operation without content results in an empty object.
+ */
+public class OperationsResponseSerializer extends JsonSerializer<OperationsResponse> {
+
+    @Override
+    public void serialize(OperationsResponse operationsResponse, JsonGenerator gen, SerializerProvider serializers)
+        throws IOException {
+
+        gen.writeStartObject();
+        gen.writeArrayFieldStart(OperationsResponse.RESULTS);
+        for (BaseResponse<?> result : operationsResponse.getData()) {
+            if (result == null) {
+                gen.writeStartObject();
+                gen.writeEndObject();
+            } else {
+                gen.writeObject(result);
+            }
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    public Class<OperationsResponse> handledType() {
+        return OperationsResponse.class;
+    }
+}
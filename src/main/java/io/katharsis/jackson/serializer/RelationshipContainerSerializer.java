@@ -11,7 +11,7 @@ import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.LinkageContainer;
 import io.katharsis.response.RelationshipContainer;
 import io.katharsis.utils.Generics;
-import io.katharsis.utils.PropertyUtils;
+import io.katharsis.utils.PropertyAccessorRegistry;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
@@ -48,23 +48,25 @@ public class RelationshipContainerSerializer extends JsonSerializer<Relationship
     }
 
     private void writeLinks(RelationshipContainer relationshipContainer, JsonGenerator gen) throws IOException {
-        gen.writeFieldName(LINKS_FIELD_NAME);
-        gen.writeStartObject();
-        writeLink(relationshipContainer, gen, SELF_FIELD_NAME, true);
-        writeLink(relationshipContainer, gen, RELATED_FIELD_NAME, false);
-        gen.writeEndObject();
-    }
-
-    private void writeLink(RelationshipContainer relationshipContainer, JsonGenerator gen, String fieldName,
-                           boolean addLinks) throws IOException {
         Object data = relationshipContainer.getDataLinksContainer().getData();
         Class<?> sourceClass = data.getClass();
         String resourceUrl = resourceRegistry.getResourceUrl(sourceClass);
         RegistryEntry entry = resourceRegistry.getEntry(sourceClass);
         ResourceField idField = entry.getResourceInformation().getIdField();
+        Object sourceId = PropertyAccessorRegistry.getAccessor(sourceClass, idField.getUnderlyingName())
+            .getValue(data);
+        String resourceLink = resourceUrl + "/" + sourceId;
+
+        gen.writeFieldName(LINKS_FIELD_NAME);
+        gen.writeStartObject();
+        writeLink(relationshipContainer, gen, resourceLink, SELF_FIELD_NAME, true);
+        writeLink(relationshipContainer, gen, resourceLink, RELATED_FIELD_NAME, false);
+        gen.writeEndObject();
+    }
 
-        Object sourceId = PropertyUtils.getProperty(data, idField.getUnderlyingName());
-        String url = resourceUrl + "/" + sourceId + (addLinks ? "/" + PathBuilder.RELATIONSHIP_MARK + "/" : "/")
+    private static void writeLink(RelationshipContainer relationshipContainer, JsonGenerator gen, String resourceLink,
+                                  String fieldName, boolean addLinks) throws IOException {
+        String url = resourceLink + (addLinks ? "/" + PathBuilder.RELATIONSHIP_MARK + "/" : "/")
             + relationshipContainer.getRelationshipField().getJsonName();
         gen.writeStringField(fieldName, url);
     }
@@ -104,9 +106,7 @@ public class RelationshipContainerSerializer extends JsonSerializer<Relationship
     private static void writeToManyLinkage(RelationshipContainer relationshipContainer, JsonGenerator gen,
                                     Class relationshipClass, RegistryEntry relationshipEntry)
         throws IOException, IllegalAccessException, NoSuchMethodException, InvocationTargetException {
-        ResourceField relationshipField = relationshipContainer.getRelationshipField();
-        Object targetDataObj = PropertyUtils
-            .getProperty(relationshipContainer.getDataLinksContainer().getData(), relationshipField.getUnderlyingName());
+        Object targetDataObj = getRelationshipValue(relationshipContainer);
 
         gen.writeStartArray();
         if (targetDataObj != null) {
@@ -120,8 +120,7 @@ public class RelationshipContainerSerializer extends JsonSerializer<Relationship
     private static void writeToOneLinkage(RelationshipContainer relationshipContainer, JsonGenerator gen,
                                    Class<?> relationshipClass, RegistryEntry relationshipEntry)
         throws IOException, IllegalAccessException, NoSuchMethodException, InvocationTargetException {
-        ResourceField relationshipField = relationshipContainer.getRelationshipField();
-        Object targetDataObj = PropertyUtils.getProperty(relationshipContainer.getDataLinksContainer().getData(), relationshipField.getUnderlyingName());
+        Object targetDataObj = getRelationshipValue(relationshipContainer);
         if (targetDataObj == null) {
             gen.writeObject(null);
         } else {
@@ -129,6 +128,13 @@ public class RelationshipContainerSerializer extends JsonSerializer<Relationship
         }
     }
 
+    private static Object getRelationshipValue(RelationshipContainer relationshipContainer) {
+        Object data = relationshipContainer.getDataLinksContainer().getData();
+        ResourceField relationshipField = relationshipContainer.getRelationshipField();
+        return PropertyAccessorRegistry.getAccessor(data.getClass(), relationshipField.getUnderlyingName())
+            .getValue(data);
+    }
+
     public Class<RelationshipContainer> handledType() {
         return RelationshipContainer.class;
     }
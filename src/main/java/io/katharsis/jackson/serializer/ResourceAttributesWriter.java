@@ -0,0 +1,144 @@
+package io.katharsis.jackson.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import io.katharsis.jackson.exception.JsonSerializationException;
+import io.katharsis.queryParams.RenderPlan;
+import io.katharsis.resource.field.ResourceField;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Writes resource attributes directly to a {@link JsonGenerator}. For each resource class, property writers of
+ * attribute fields are taken from a Jackson bean serializer once and reused, so neither an {@link ObjectMapper}
+ * copy nor an intermediate map is needed to write a resource.
+ * <p>
+ * If a resource class isn't serialized by a bean serializer, e.g. because it has a custom serializer, its value is
+ * converted into a map and the map entries are written instead.
+ * </p>
+ */
+public class ResourceAttributesWriter {
+
+    private final ConcurrentMap<Class<?>, AttributeWriters> attributeWriters = new ConcurrentHashMap<>();
+
+    /**
+     * Writes attributes of a resource. Attributes with <i>null</i> value are not written.
+     *
+     * @param gen             Jackson generator
+     * @param provider        Jackson serializer provider
+     * @param data            resource object
+     * @param attributeFields resource attribute definitions
+     * @param typePlan        compiled <i>fields</i> params of the resource type
+     * @throws IOException if couldn't write attributes
+     */
+    public void writeAttributes(JsonGenerator gen, SerializerProvider provider, Object data,
+                                Set<ResourceField> attributeFields, RenderPlan.TypePlan typePlan) throws IOException {
+        JsonSerializer<Object> serializer = provider.findValueSerializer(data.getClass());
+
+        gen.writeStartObject();
+        if (serializer instanceof BeanSerializerBase) {
+            AttributeWriters writers = getAttributeWriters(data.getClass(), serializer, attributeFields);
+            for (BeanPropertyWriter writer : writers.writers) {
+                if (typePlan.isFieldIncluded(writer.getName())) {
+                    writeAttribute(gen, provider, data, writer);
+                }
+            }
+        } else {
+            writeConvertedAttributes(gen, provider, data, getJsonNames(attributeFields), typePlan);
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeAttribute(JsonGenerator gen, SerializerProvider provider, Object data,
+                                       BeanPropertyWriter writer) throws IOException {
+        try {
+            if (writer instanceof NullSkippingPropertyWriter || writer.get(data) != null) {
+                writer.serializeAsField(data, gen, provider);
+            }
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JsonSerializationException("Error writing basic field: " + writer.getName(), e);
+        }
+    }
+
+    private static void writeConvertedAttributes(JsonGenerator gen, SerializerProvider provider, Object data,
+                                                 Set<String> attributeNames, RenderPlan.TypePlan typePlan)
+        throws IOException {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> dataMap = ((ObjectMapper) gen.getCodec()).convertValue(data, Map.class);
+        for (Map.Entry<String, Object> entry : dataMap.entrySet()) {
+            if (entry.getValue() != null && attributeNames.contains(entry.getKey())
+                && typePlan.isFieldIncluded(entry.getKey())) {
+                provider.defaultSerializeField(entry.getKey(), entry.getValue(), gen);
+            }
+        }
+    }
+
+    private static Set<String> getJsonNames(Set<ResourceField> fields) {
+        Set<String> jsonNames = new HashSet<>(fields.size());
+        for (ResourceField field : fields) {
+            jsonNames.add(field.getJsonName());
+        }
+        return jsonNames;
+    }
+
+    /**
+     * Bean serializers are cached by the serializer provider, so the serializer instance is used to check if the
+     * writers are still valid, e.g. when the module is registered in more than one {@link ObjectMapper}.
+     */
+    private AttributeWriters getAttributeWriters(Class<?> dataClass, JsonSerializer<Object> serializer,
+                                                 Set<ResourceField> attributeFields) {
+        AttributeWriters writers = attributeWriters.get(dataClass);
+        if (writers == null || writers.serializer != serializer) {
+            writers = new AttributeWriters(serializer, getJsonNames(attributeFields));
+            attributeWriters.put(dataClass, writers);
+        }
+        return writers;
+    }
+
+    private static class AttributeWriters {
+        private final JsonSerializer<Object> serializer;
+        private final List<BeanPropertyWriter> writers = new ArrayList<>();
+
+        private AttributeWriters(JsonSerializer<Object> serializer, Set<String> attributeNames) {
+            this.serializer = serializer;
+            Iterator<PropertyWriter> properties = serializer.properties();
+            while (properties.hasNext()) {
+                PropertyWriter property = properties.next();
+                if (!attributeNames.contains(property.getName())) {
+                    continue;
+                }
+                if (property.getClass() == BeanPropertyWriter.class) {
+                    writers.add(new NullSkippingPropertyWriter((BeanPropertyWriter) property));
+                } else if (property instanceof BeanPropertyWriter) {
+                    writers.add((BeanPropertyWriter) property);
+                }
+            }
+        }
+    }
+
+    /**
+     * Bean serializers assign a null value serializer to their properties, which would write <i>null</i> attributes.
+     * A copy without it skips them without reading the value twice.
+     */
+    private static class NullSkippingPropertyWriter extends BeanPropertyWriter {
+        private NullSkippingPropertyWriter(BeanPropertyWriter base) {
+            super(base);
+            _nullSerializer = null;
+        }
+    }
+}
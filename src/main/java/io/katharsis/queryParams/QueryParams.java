@@ -7,8 +7,6 @@ import io.katharsis.resource.RestrictedQueryParamsMembers;
 import io.katharsis.utils.StringUtils;
 
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Contains a set of parameters passed along with the request.
@@ -20,6 +18,7 @@ public class QueryParams {
     private TypedParams<IncludedFieldsParams> includedFields;
     private TypedParams<IncludedRelationsParams> includedRelations;
     private Map<RestrictedPaginationKeys, Integer> pagination;
+    private RenderPlan renderPlan;
 
 
     /**
@@ -60,7 +59,7 @@ public class QueryParams {
             } else {
                 Map<String, Set<String>> resourceParams = new LinkedHashMap<>();
                 temporaryFiltersMap.put(resourceType, resourceParams);
-                resourceParams.put(propertyPath, entry.getValue());
+                resourceParams.put(propertyPath, Collections.unmodifiableSet(entry.getValue()));
             }
         }
 
@@ -250,6 +249,7 @@ public class QueryParams {
     }
 
     void setIncludedFields(Map<String, Set<String>> sparse) {
+        renderPlan = null;
         Map<String, Set<String>> temporarySparseMap = new LinkedHashMap<>();
 
         for (Map.Entry<String, Set<String>> entry : sparse.entrySet()) {
@@ -305,6 +305,7 @@ public class QueryParams {
     }
 
     void setIncludedRelations(Map<String, Set<String>> inclusions) {
+        renderPlan = null;
         Map<String, Set<Inclusion>> temporaryInclusionsMap = new LinkedHashMap<>();
 
         for (Map.Entry<String, Set<String>> entry : inclusions.entrySet()) {
@@ -338,25 +339,49 @@ public class QueryParams {
         this.includedRelations = new TypedParams<>(Collections.unmodifiableMap(decodedInclusions));
     }
 
-    private static List<String> buildPropertyListFromEntry(Map.Entry<String, Set<String>> entry, String prefix) {
-        String entryKey = entry.getKey()
-            .substring(prefix.length());
-
-        String pattern = "[\\w-]+(?<!\\[)(?=\\])";
-        Pattern regexp = Pattern.compile(pattern);
-        Matcher matcher = regexp.matcher(entryKey);
-        List<String> matchList = new LinkedList<>();
-
-        while (matcher.find()) {
-            matchList.add(matcher.group());
+    /**
+     * Returns <i>fields</i> and <i>include</i> params compiled into a form used when serializing resources. The plan
+     * is compiled on the first call and reused afterwards.
+     *
+     * @return compiled render plan
+     */
+    public RenderPlan getRenderPlan() {
+        RenderPlan plan = renderPlan;
+        if (plan == null) {
+            plan = RenderPlan.compile(this);
+            renderPlan = plan;
         }
+        return plan;
+    }
 
+    private static List<String> buildPropertyListFromEntry(Map.Entry<String, Set<String>> entry, String prefix) {
+        String entryKey = entry.getKey();
+        List<String> matchList = new ArrayList<>(2);
+
+        for (int idx = prefix.length(); idx < entryKey.length(); idx++) {
+            if (entryKey.charAt(idx) == ']') {
+                int start = idx;
+                while (start > prefix.length() && isPropertyNameChar(entryKey.charAt(start - 1))) {
+                    start--;
+                }
+                if (start < idx) {
+                    matchList.add(entryKey.substring(start, idx));
+                }
+            }
+        }
 
         if (matchList.isEmpty()) {
-            throw new ParametersDeserializationException("Malformed filter parameter: " + entryKey);
+            throw new ParametersDeserializationException("Malformed filter parameter: " + entryKey.substring(prefix.length()));
         }
 
         return matchList;
     }
 
+    /**
+     * Checks if a character can be a part of a name in brackets, which are word characters and a dash.
+     */
+    private static boolean isPropertyNameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-';
+    }
+
 }
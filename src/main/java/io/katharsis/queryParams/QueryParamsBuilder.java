@@ -34,19 +34,12 @@ public class QueryParamsBuilder {
      * @throws ParametersDeserializationException thrown when unsupported input format is detected
      */
     public QueryParams buildQueryParams(Map<String, Set<String>> queryParams) {
-        QueryParams deserializedQueryParams = new QueryParams();
         try {
-            deserializedQueryParams.setFilters(this.queryParamsParser.parseFiltersParameters(queryParams));
-            deserializedQueryParams.setSorting(this.queryParamsParser.parseSortingParameters(queryParams));
-            deserializedQueryParams.setGrouping(this.queryParamsParser.parseGroupingParameters(queryParams));
-            deserializedQueryParams.setPagination(this.queryParamsParser.parsePaginationParameters(queryParams));
-            deserializedQueryParams.setIncludedFields(this.queryParamsParser.parseIncludedFieldsParameters(queryParams));
-            deserializedQueryParams.setIncludedRelations(this.queryParamsParser.parseIncludedRelationsParameters(queryParams));
+            return queryParamsParser.parseQueryParams(queryParams);
         } catch (KatharsisException e) {
             throw e;
         } catch (RuntimeException e) {
             throw new ParametersDeserializationException(e.getMessage());
         }
-        return deserializedQueryParams;
     }
 }
@@ -29,4 +29,21 @@ public interface QueryParamsParser {
     Map<String, Set<String>> parseIncludedRelationsParameters(Map<String, Set<String>> queryParams);
     Map<String, Set<String>> parsePaginationParameters(Map<String, Set<String>> queryParams);
 
+    /**
+     * Builds {@link QueryParams} from the request query params. The default implementation passes the params of
+     * each category to {@link QueryParams}, parsers may override it to parse all of the params at once.
+     *
+     * @param queryParams Map of provided query params
+     * @return QueryParams containing query params grouped by JSON:API standard
+     */
+    default QueryParams parseQueryParams(Map<String, Set<String>> queryParams) {
+        QueryParams deserializedQueryParams = new QueryParams();
+        deserializedQueryParams.setFilters(parseFiltersParameters(queryParams));
+        deserializedQueryParams.setSorting(parseSortingParameters(queryParams));
+        deserializedQueryParams.setGrouping(parseGroupingParameters(queryParams));
+        deserializedQueryParams.setPagination(parsePaginationParameters(queryParams));
+        deserializedQueryParams.setIncludedFields(parseIncludedFieldsParameters(queryParams));
+        deserializedQueryParams.setIncludedRelations(parseIncludedRelationsParameters(queryParams));
+        return deserializedQueryParams;
+    }
 }
@@ -0,0 +1,155 @@
+package io.katharsis.queryParams;
+
+import io.katharsis.queryParams.include.Inclusion;
+import io.katharsis.queryParams.params.IncludedFieldsParams;
+import io.katharsis.queryParams.params.IncludedRelationsParams;
+import io.katharsis.queryParams.params.TypedParams;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable view of <i>fields</i> and <i>include</i> query params compiled once per {@link QueryParams}, so
+ * serializers can check each field of each resource with a single lookup instead of scanning the params.
+ *
+ * @see QueryParams#getRenderPlan()
+ */
+public final class RenderPlan {
+
+    private final Map<String, TypePlan> typePlans;
+    private final TypePlan defaultTypePlan;
+
+    private RenderPlan(Map<String, TypePlan> typePlans, TypePlan defaultTypePlan) {
+        this.typePlans = typePlans;
+        this.defaultTypePlan = defaultTypePlan;
+    }
+
+    /**
+     * Compiles <i>fields</i> and <i>include</i> params of a request.
+     *
+     * @param queryParams request params
+     * @return compiled plan
+     */
+    public static RenderPlan compile(QueryParams queryParams) {
+        TypedParams<IncludedFieldsParams> fieldsParams = queryParams.getIncludedFields();
+        Map<String, Set<String>> includedFields = getIncludedFields(fieldsParams);
+        TypedParams<IncludedRelationsParams> includedRelations = queryParams.getIncludedRelations();
+
+        // when fields are limited for some types only, no field of other types is included
+        boolean fieldsLimited = fieldsParams != null && !fieldsParams.getParams().isEmpty();
+        TypePlan defaultTypePlan = new TypePlan(fieldsLimited ? Collections.<String>emptySet() : null, null);
+
+        Set<String> resourceTypes = new HashSet<>(includedFields.keySet());
+        if (includedRelations != null) {
+            resourceTypes.addAll(includedRelations.getParams().keySet());
+        }
+
+        Map<String, TypePlan> typePlans = new HashMap<>();
+        for (String resourceType : resourceTypes) {
+            Set<String> typeFields = includedFields.get(resourceType);
+            IncludedRelationsParams typeInclusions = includedRelations != null ?
+                includedRelations.getParams().get(resourceType) : null;
+            typePlans.put(resourceType, new TypePlan(typeFields != null ? typeFields : defaultTypePlan.includedFields,
+                typeInclusions));
+        }
+
+        return new RenderPlan(Collections.unmodifiableMap(typePlans), defaultTypePlan);
+    }
+
+    private static Map<String, Set<String>> getIncludedFields(TypedParams<IncludedFieldsParams> includedFields) {
+        Map<String, Set<String>> result = new HashMap<>();
+        if (includedFields != null) {
+            for (Map.Entry<String, IncludedFieldsParams> entry : includedFields.getParams().entrySet()) {
+                if (!entry.getValue().getParams().isEmpty()) {
+                    result.put(entry.getKey(), new HashSet<>(entry.getValue().getParams()));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a plan of a resource type. The returned instance should be reused for all fields of a resource.
+     *
+     * @param resourceType JSON API resource type
+     * @return plan of the type
+     */
+    public TypePlan forType(String resourceType) {
+        TypePlan typePlan = typePlans.get(resourceType);
+        return typePlan != null ? typePlan : defaultTypePlan;
+    }
+
+    /**
+     * Compiled params of a single resource type.
+     */
+    public static final class TypePlan {
+
+        /**
+         * JSON names of included fields or <i>null</i> if all of them are included
+         */
+        private final Set<String> includedFields;
+        private final IncludedRelationsParams includedRelations;
+        private final Set<String> inclusionPaths;
+
+        private TypePlan(Set<String> includedFields, IncludedRelationsParams includedRelations) {
+            this.includedFields = includedFields;
+            this.includedRelations = includedRelations;
+
+            Set<String> inclusionPaths = new HashSet<>();
+            if (includedRelations != null) {
+                for (Inclusion inclusion : includedRelations.getParams()) {
+                    inclusionPaths.add(inclusion.getPath());
+                }
+            }
+            this.inclusionPaths = inclusionPaths;
+        }
+
+        /**
+         * Compiles a plan which includes all fields and has the given <i>include</i> params.
+         *
+         * @param includedRelations <i>include</i> params of a type, can be <i>null</i>
+         * @return compiled plan
+         */
+        public static TypePlan forInclusions(IncludedRelationsParams includedRelations) {
+            return new TypePlan(null, includedRelations);
+        }
+
+        /**
+         * When <i>fields</i> filter is passed in the query params, <b>attributes</b> and <b>relationships</b>
+         * should be filtered accordingly to the requested fields.
+         *
+         * @param jsonName JSON name of an attribute or relationship
+         * @return <i>true</i> if it should be included in the response, <i>false</i> otherwise
+         */
+        public boolean isFieldIncluded(String jsonName) {
+            return includedFields == null || includedFields.contains(jsonName);
+        }
+
+        /**
+         * @return <i>true</i> if no <i>fields</i> params limit the fields of the type
+         */
+        public boolean isAllFieldsIncluded() {
+            return includedFields == null;
+        }
+
+        /**
+         * A relationship which is directly included should have its linkage data written, even if it's lazy.
+         *
+         * @param jsonName JSON name of a relationship
+         * @return <i>true</i> if <i>include</i> params contain the relationship as a path
+         */
+        public boolean isInclusionForced(String jsonName) {
+            return inclusionPaths.contains(jsonName);
+        }
+
+        /**
+         * @return <i>include</i> params of the type or <i>null</i> if there are none
+         */
+        public IncludedRelationsParams getIncludedRelations() {
+            return includedRelations;
+        }
+    }
+}
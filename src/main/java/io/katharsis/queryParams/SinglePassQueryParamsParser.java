@@ -0,0 +1,155 @@
+package io.katharsis.queryParams;
+
+import io.katharsis.resource.RestrictedQueryParamsMembers;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Parser which assigns each of the request query params to its {@link RestrictedQueryParamsMembers} category in a
+ * single pass over the params, instead of filtering all of them once per category. The built {@link QueryParams} are
+ * cached for identical query params, so repeated requests don't parse them again. Cached instances are shared by the
+ * requests, they're built from an immutable copy of the query params and cannot be modified.
+ */
+public class SinglePassQueryParamsParser implements QueryParamsParser {
+
+    /**
+     * Default maximum number of cached {@link QueryParams}.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
+    private static final RestrictedQueryParamsMembers[] MEMBERS = RestrictedQueryParamsMembers.values();
+
+    private final ConcurrentMap<Map<String, Set<String>>, QueryParams> cache = new ConcurrentHashMap<>();
+    private final int cacheSize;
+
+    public SinglePassQueryParamsParser() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param cacheSize maximum number of cached {@link QueryParams}, 0 disables the cache
+     */
+    public SinglePassQueryParamsParser(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    @Override
+    public Map<String, Set<String>> parseFiltersParameters(final Map<String, Set<String>> queryParams) {
+        return classify(queryParams).get(RestrictedQueryParamsMembers.filter);
+    }
+
+    @Override
+    public Map<String, Set<String>> parseSortingParameters(final Map<String, Set<String>> queryParams) {
+        return classify(queryParams).get(RestrictedQueryParamsMembers.sort);
+    }
+
+    @Override
+    public Map<String, Set<String>> parseGroupingParameters(final Map<String, Set<String>> queryParams) {
+        return classify(queryParams).get(RestrictedQueryParamsMembers.group);
+    }
+
+    @Override
+    public Map<String, Set<String>> parseIncludedFieldsParameters(final Map<String, Set<String>> queryParams) {
+        return classify(queryParams).get(RestrictedQueryParamsMembers.fields);
+    }
+
+    @Override
+    public Map<String, Set<String>> parseIncludedRelationsParameters(final Map<String, Set<String>> queryParams) {
+        return classify(queryParams).get(RestrictedQueryParamsMembers.include);
+    }
+
+    @Override
+    public Map<String, Set<String>> parsePaginationParameters(final Map<String, Set<String>> queryParams) {
+        return classify(queryParams).get(RestrictedQueryParamsMembers.page);
+    }
+
+    /**
+     * Builds {@link QueryParams} from the request query params, reusing a previously built instance for identical
+     * query params. The cache is looked up with the given params, which are copied only when a new instance is built.
+     *
+     * @param queryParams Map of provided query params
+     * @return QueryParams containing query params grouped by JSON:API standard
+     */
+    @Override
+    public QueryParams parseQueryParams(Map<String, Set<String>> queryParams) {
+        if (cacheSize <= 0) {
+            return buildQueryParams(queryParams);
+        }
+        QueryParams deserializedQueryParams = cache.get(queryParams);
+        if (deserializedQueryParams != null) {
+            return deserializedQueryParams;
+        }
+
+        Map<String, Set<String>> key = copyParams(queryParams);
+        deserializedQueryParams = buildQueryParams(key);
+        if (cache.size() >= cacheSize) {
+            evictEntry();
+        }
+        cache.putIfAbsent(key, deserializedQueryParams);
+        return deserializedQueryParams;
+    }
+
+    private static QueryParams buildQueryParams(Map<String, Set<String>> queryParams) {
+        Map<RestrictedQueryParamsMembers, Map<String, Set<String>>> classifiedParams = classify(queryParams);
+        QueryParams deserializedQueryParams = new QueryParams();
+        deserializedQueryParams.setFilters(classifiedParams.get(RestrictedQueryParamsMembers.filter));
+        deserializedQueryParams.setSorting(classifiedParams.get(RestrictedQueryParamsMembers.sort));
+        deserializedQueryParams.setGrouping(classifiedParams.get(RestrictedQueryParamsMembers.group));
+        deserializedQueryParams.setPagination(classifiedParams.get(RestrictedQueryParamsMembers.page));
+        deserializedQueryParams.setIncludedFields(classifiedParams.get(RestrictedQueryParamsMembers.fields));
+        deserializedQueryParams.setIncludedRelations(classifiedParams.get(RestrictedQueryParamsMembers.include));
+        return deserializedQueryParams;
+    }
+
+    private static Map<String, Set<String>> copyParams(Map<String, Set<String>> queryParams) {
+        Map<String, Set<String>> copy = new HashMap<>();
+        for (Map.Entry<String, Set<String>> entry : queryParams.entrySet()) {
+            copy.put(entry.getKey(), Collections.unmodifiableSet(new LinkedHashSet<>(entry.getValue())));
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Removes an arbitrary entry to keep the cache bounded without locking it on lookups.
+     */
+    private void evictEntry() {
+        Iterator<Map<String, Set<String>>> keys = cache.keySet().iterator();
+        if (keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static Map<RestrictedQueryParamsMembers, Map<String, Set<String>>> classify(Map<String, Set<String>> queryParams) {
+        Map<RestrictedQueryParamsMembers, Map<String, Set<String>>> classifiedParams =
+            new EnumMap<>(RestrictedQueryParamsMembers.class);
+        for (RestrictedQueryParamsMembers member : MEMBERS) {
+            classifiedParams.put(member, new HashMap<>());
+        }
+
+        for (Map.Entry<String, Set<String>> entry : queryParams.entrySet()) {
+            RestrictedQueryParamsMembers member = findMember(entry.getKey());
+            if (member != null) {
+                classifiedParams.get(member).put(entry.getKey(), entry.getValue());
+            }
+        }
+        return classifiedParams;
+    }
+
+    private static RestrictedQueryParamsMembers findMember(String key) {
+        for (RestrictedQueryParamsMembers member : MEMBERS) {
+            if (key.startsWith(member.name())) {
+                return member;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+package io.katharsis.queryParams.query;
+
+/**
+ * Operators of a {@link FilterSpec}. An operator is passed as the last element of a filter parameter, e.g.
+ * <i>filter[tasks][id][gt]=10</i>, and {@link #EQ} is used when it is omitted.
+ */
+public enum FilterOperator {
+    /**
+     * Property equals the value, becomes {@link #IN} when more than one value is passed
+     */
+    EQ,
+    /**
+     * Property equals one of the values
+     */
+    IN,
+    /**
+     * Property is greater than the value
+     */
+    GT,
+    /**
+     * Property is lower than the value
+     */
+    LT,
+    /**
+     * Property matches the pattern, where <i>%</i> matches any sequence of characters
+     */
+    LIKE;
+
+    private static final FilterOperator[] VALUES = values();
+
+    /**
+     * @param name name of an operator, case insensitive
+     * @return found operator or <i>null</i> if there's no operator with the name
+     */
+    public static FilterOperator fromName(String name) {
+        for (FilterOperator operator : VALUES) {
+            if (operator.name().equalsIgnoreCase(name)) {
+                return operator;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,83 @@
+package io.katharsis.queryParams.query;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A single filtering condition of a {@link ResourceQuery}. Values are parsed to the type of the filtered property
+ * if the property can be found in the resource class, otherwise they are kept as strings.
+ */
+public final class FilterSpec {
+
+    private final List<String> path;
+    private final List<String> propertyPath;
+    private final FilterOperator operator;
+    private final List<Object> values;
+    private final Class<?> valueType;
+
+    public FilterSpec(List<String> path, List<String> propertyPath, FilterOperator operator, List<Object> values,
+                      Class<?> valueType) {
+        this.path = path;
+        this.propertyPath = propertyPath;
+        this.operator = operator;
+        this.values = values;
+        this.valueType = valueType;
+    }
+
+    /**
+     * @return path of the filtered property as passed in the request
+     */
+    public List<String> getPath() {
+        return path;
+    }
+
+    /**
+     * @return path of the filtered property using names of Java properties, <i>null</i> if the property cannot be
+     * found in the resource class
+     */
+    public List<String> getPropertyPath() {
+        return propertyPath;
+    }
+
+    public FilterOperator getOperator() {
+        return operator;
+    }
+
+    /**
+     * @return values of the condition, an {@link FilterOperator#IN} condition can have more than one value
+     */
+    public List<Object> getValues() {
+        return values;
+    }
+
+    /**
+     * @return type of the filtered property or <i>null</i> if the property cannot be found in the resource class
+     */
+    public Class<?> getValueType() {
+        return valueType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FilterSpec that = (FilterSpec) o;
+        return Objects.equals(path, that.path) &&
+            operator == that.operator &&
+            Objects.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, operator, values);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(".", path) + " " + operator + " " + values;
+    }
+}
@@ -0,0 +1,288 @@
+package io.katharsis.queryParams.query;
+
+import io.katharsis.queryParams.RestrictedSortingValues;
+import io.katharsis.utils.PropertyAccessor;
+import io.katharsis.utils.PropertyAccessorRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluates a {@link ResourceQuery} against resources kept in memory. Filters and sorting are compiled once into a
+ * predicate and a comparator reading properties through cached accessors. When a limit is set, only
+ * <i>offset + limit</i> resources are kept while the resources are read, so a page of <i>k</i> resources out of
+ * <i>n</i> is selected in <i>O(n log k)</i>.
+ * <p>
+ * Filters and sorting on properties which cannot be found in the resource class are ignored. A resource of a subclass
+ * or another class which lacks a filtered property doesn't match the filter. A repository which
+ * keeps its resources in memory can implement {@link io.katharsis.repository.QueryableResourceRepository} and
+ * delegate to {@link #evaluate(Iterable)}.
+ * </p>
+ */
+public class InMemoryQueryEvaluator {
+
+    private final Predicate<Object> predicate;
+    private final Comparator<Object> comparator;
+    private final int offset;
+    private final Integer limit;
+
+    public InMemoryQueryEvaluator(ResourceQuery query) {
+        this.predicate = compileFilters(query.getFilters());
+        this.comparator = compileSorting(query.getSorting());
+        this.offset = query.getOffset() != null ? Math.max(query.getOffset(), 0) : 0;
+        this.limit = query.getLimit();
+    }
+
+    /**
+     * @return predicate matching resources which meet all of the filters or <i>null</i> if there are no filters
+     */
+    public Predicate<Object> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * @return comparator ordering resources by the sorting of the query or <i>null</i> if there's no sorting
+     */
+    public Comparator<Object> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Applies filters of the query only.
+     *
+     * @param resources resources to be filtered
+     * @param <T>       type of resources
+     * @return resources meeting all of the filters
+     */
+    public <T> List<T> filter(Iterable<T> resources) {
+        List<T> result = new ArrayList<>();
+        for (T resource : resources) {
+            if (predicate == null || predicate.test(resource)) {
+                result.add(resource);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Applies filters, sorting and pagination of the query.
+     *
+     * @param resources resources to be queried
+     * @param <T>       type of resources
+     * @return requested page of the filtered and sorted resources
+     */
+    public <T> List<T> evaluate(Iterable<T> resources) {
+        List<T> result;
+        if (limit == null) {
+            result = filter(resources);
+            if (comparator != null) {
+                result.sort(comparator);
+            }
+        } else if (comparator == null) {
+            result = selectFirst(resources, pageEnd());
+        } else {
+            result = selectTop(resources, pageEnd());
+        }
+        if (offset >= result.size()) {
+            return new ArrayList<>();
+        }
+        return offset > 0 ? new ArrayList<>(result.subList(offset, result.size())) : result;
+    }
+
+    /**
+     * @return number of resources up to the end of the requested page, saturated at {@link Integer#MAX_VALUE}
+     */
+    private int pageEnd() {
+        try {
+            return Math.addExact(offset, limit);
+        } catch (ArithmeticException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private <T> List<T> selectFirst(Iterable<T> resources, int count) {
+        List<T> result = new ArrayList<>(Math.min(count, 16));
+        for (T resource : resources) {
+            if (result.size() >= count) {
+                break;
+            }
+            if (predicate == null || predicate.test(resource)) {
+                result.add(resource);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Keeps <i>count</i> smallest resources in a heap whose head is the largest of them.
+     */
+    private <T> List<T> selectTop(Iterable<T> resources, int count) {
+        if (count <= 0) {
+            return new ArrayList<>();
+        }
+        PriorityQueue<T> heap = new PriorityQueue<>(Math.min(count, 16), comparator.reversed());
+        for (T resource : resources) {
+            if (predicate != null && !predicate.test(resource)) {
+                continue;
+            }
+            if (heap.size() < count) {
+                heap.add(resource);
+            } else if (comparator.compare(resource, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(resource);
+            }
+        }
+        List<T> result = new ArrayList<>(heap);
+        result.sort(comparator);
+        return result;
+    }
+
+    private static Predicate<Object> compileFilters(List<FilterSpec> filters) {
+        Predicate<Object> result = null;
+        for (FilterSpec filter : filters) {
+            if (filter.getPropertyPath() == null || filter.getValues().isEmpty()) {
+                continue;
+            }
+            Predicate<Object> filterPredicate = compileFilter(filter);
+            result = result == null ? filterPredicate : result.and(filterPredicate);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<Object> compileFilter(FilterSpec filter) {
+        Function<Object, Object> getter = compileGetter(filter.getPropertyPath());
+        List<Object> values = filter.getValues();
+        switch (filter.getOperator()) {
+            case GT:
+                Object lowerBound = values.get(0);
+                return resource -> compare(getter.apply(resource), lowerBound) > 0;
+            case LT:
+                Object upperBound = values.get(0);
+                return resource -> compare(getter.apply(resource), upperBound) < 0;
+            case LIKE:
+                Pattern pattern = compileLikePattern(values.get(0).toString());
+                return resource -> {
+                    Object value = getter.apply(resource);
+                    return value != null && pattern.matcher(value.toString()).matches();
+                };
+            default:
+                Set<Object> valueSet = new HashSet<>(values);
+                if (isTyped(filter)) {
+                    return resource -> valueSet.contains(getter.apply(resource));
+                }
+                // values of a type which can't be parsed are compared with the string representation of a property
+                return resource -> {
+                    Object value = getter.apply(resource);
+                    return valueSet.contains(value) || (value != null && valueSet.contains(value.toString()));
+                };
+        }
+    }
+
+    private static boolean isTyped(FilterSpec filter) {
+        for (Object value : filter.getValues()) {
+            if (!(value instanceof String)) {
+                return true;
+            }
+        }
+        return String.class.equals(filter.getValueType());
+    }
+
+    /**
+     * Converts SQL like pattern, where <i>%</i> matches any sequence of characters and <i>_</i> matches a single
+     * character, to a regular expression.
+     */
+    private static Pattern compileLikePattern(String likePattern) {
+        StringBuilder regex = new StringBuilder(likePattern.length() + 8);
+        int literalStart = 0;
+        for (int idx = 0; idx < likePattern.length(); idx++) {
+            char c = likePattern.charAt(idx);
+            if (c == '%' || c == '_') {
+                if (literalStart < idx) {
+                    regex.append(Pattern.quote(likePattern.substring(literalStart, idx)));
+                }
+                regex.append(c == '%' ? ".*" : ".");
+                literalStart = idx + 1;
+            }
+        }
+        if (literalStart < likePattern.length()) {
+            regex.append(Pattern.quote(likePattern.substring(literalStart)));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static Comparator<Object> compileSorting(List<SortSpec> sorting) {
+        Comparator<Object> result = null;
+        for (SortSpec sortSpec : sorting) {
+            if (sortSpec.getPropertyPath() == null) {
+                continue;
+            }
+            Function<Object, Object> getter = compileGetter(sortSpec.getPropertyPath());
+            Comparator<Object> propertyComparator = (first, second) ->
+                compareNullsFirst(getter.apply(first), getter.apply(second));
+            if (sortSpec.getDirection() == RestrictedSortingValues.desc) {
+                propertyComparator = propertyComparator.reversed();
+            }
+            result = result == null ? propertyComparator : result.thenComparing(propertyComparator);
+        }
+        return result;
+    }
+
+    private static Function<Object, Object> compileGetter(List<String> propertyPath) {
+        String[] names = propertyPath.toArray(new String[propertyPath.size()]);
+        return resource -> {
+            Object value = resource;
+            for (String name : names) {
+                if (value == null) {
+                    return null;
+                }
+                PropertyAccessor accessor = PropertyAccessorRegistry.getAccessor(value.getClass(), name);
+                if (!accessor.isResolved()) {
+                    // an element of another subclass may not have the property, it's compared as a missing value
+                    return null;
+                }
+                value = accessor.getValue(value);
+            }
+            return value;
+        };
+    }
+
+    /**
+     * Compares a property with a filter value, a missing or incomparable property doesn't match the filter.
+     */
+    private static int compare(Object value, Object bound) {
+        if (value == null || bound == null) {
+            return 0;
+        }
+        Integer result = compareValues(value, bound);
+        return result != null ? result : 0;
+    }
+
+    private static int compareNullsFirst(Object first, Object second) {
+        if (first == null || second == null) {
+            return first == second ? 0 : (first == null ? -1 : 1);
+        }
+        Integer result = compareValues(first, second);
+        return result != null ? result : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Integer compareValues(Object first, Object second) {
+        if (first instanceof Comparable) {
+            try {
+                return ((Comparable<Object>) first).compareTo(second);
+            } catch (ClassCastException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
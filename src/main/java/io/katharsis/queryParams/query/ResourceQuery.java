@@ -0,0 +1,77 @@
+package io.katharsis.queryParams.query;
+
+import java.util.List;
+
+/**
+ * Immutable, typed form of filtering, sorting and pagination params of a request for a single resource type. It is
+ * built by {@link ResourceQueryBuilder} and can be translated by a repository into a query of its data source.
+ *
+ * @see io.katharsis.repository.QueryableResourceRepository
+ */
+public final class ResourceQuery {
+
+    private final String resourceType;
+    private final List<FilterSpec> filters;
+    private final List<SortSpec> sorting;
+    private final Integer offset;
+    private final Integer limit;
+
+    public ResourceQuery(String resourceType, List<FilterSpec> filters, List<SortSpec> sorting, Integer offset,
+                         Integer limit) {
+        this.resourceType = resourceType;
+        this.filters = filters;
+        this.sorting = sorting;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    /**
+     * @return conditions which must be all met by a resource
+     */
+    public List<FilterSpec> getFilters() {
+        return filters;
+    }
+
+    /**
+     * @return sorting of resources, ordered from the most significant property
+     */
+    public List<SortSpec> getSorting() {
+        return sorting;
+    }
+
+    /**
+     * @return number of resources to be skipped or <i>null</i> if not requested
+     */
+    public Integer getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return maximum number of returned resources or <i>null</i> if not requested
+     */
+    public Integer getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return <i>true</i> if the query neither filters, sorts nor paginates resources
+     */
+    public boolean isEmpty() {
+        return filters.isEmpty() && sorting.isEmpty() && offset == null && limit == null;
+    }
+
+    @Override
+    public String toString() {
+        return "ResourceQuery{" +
+            "resourceType='" + resourceType + '\'' +
+            ", filters=" + filters +
+            ", sorting=" + sorting +
+            ", offset=" + offset +
+            ", limit=" + limit +
+            '}';
+    }
+}
@@ -0,0 +1,212 @@
+package io.katharsis.queryParams.query;
+
+import io.katharsis.jackson.exception.ParametersDeserializationException;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.queryParams.RestrictedPaginationKeys;
+import io.katharsis.queryParams.RestrictedSortingValues;
+import io.katharsis.queryParams.params.FilterParams;
+import io.katharsis.queryParams.params.SortingParams;
+import io.katharsis.resource.field.ResourceField;
+import io.katharsis.resource.information.ResourceInformation;
+import io.katharsis.utils.PropertyAccessor;
+import io.katharsis.utils.PropertyAccessorRegistry;
+import io.katharsis.utils.parser.TypeParser;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds a {@link ResourceQuery} from <i>filter</i>, <i>sort</i> and <i>page</i> params of a resource type. Names in
+ * a property path are matched against JSON names of the resource fields first and then against Java properties, so
+ * nested properties such as <i>filter[users][address][city]</i> can be used as well.
+ */
+public class ResourceQueryBuilder {
+
+    private static final String PATH_SEPARATOR = "\\.";
+
+    private final TypeParser typeParser;
+
+    public ResourceQueryBuilder(TypeParser typeParser) {
+        this.typeParser = typeParser;
+    }
+
+    /**
+     * Builds a query for a resource type which is passed to a repository.
+     *
+     * @param resourceType        JSON API type of the resource
+     * @param resourceInformation information about the resource used to type filter values
+     * @param queryParams         params of the request, can be <i>null</i>
+     * @return typed query
+     * @throws ParametersDeserializationException if a filter value cannot be parsed to the type of the property
+     */
+    public ResourceQuery build(String resourceType, ResourceInformation resourceInformation,
+                               QueryParams queryParams) {
+        return build(resourceType, resourceInformation, queryParams, true);
+    }
+
+    /**
+     * Builds a query for a resource type which is evaluated by {@link InMemoryQueryEvaluator}. Values of a filter
+     * which cannot be parsed to the type of the property, e.g. because there's no parser for the type, are kept as
+     * strings and compared with the string representation of the property.
+     *
+     * @param resourceType        JSON API type of the resource
+     * @param resourceInformation information about the resource used to type filter values
+     * @param queryParams         params of the request, can be <i>null</i>
+     * @return query with typed values where they can be parsed
+     */
+    public ResourceQuery buildInMemory(String resourceType, ResourceInformation resourceInformation,
+                                       QueryParams queryParams) {
+        return build(resourceType, resourceInformation, queryParams, false);
+    }
+
+    private ResourceQuery build(String resourceType, ResourceInformation resourceInformation,
+                                QueryParams queryParams, boolean strict) {
+        List<FilterSpec> filters = new ArrayList<>();
+        List<SortSpec> sorting = new ArrayList<>();
+        Integer offset = null;
+        Integer limit = null;
+
+        if (queryParams != null) {
+            FilterParams filterParams = queryParams.getFilters() != null ?
+                queryParams.getFilters().getParams().get(resourceType) : null;
+            if (filterParams != null && filterParams.getParams() != null) {
+                for (Map.Entry<String, Set<String>> entry : filterParams.getParams().entrySet()) {
+                    filters.add(buildFilter(resourceInformation, entry.getKey(), entry.getValue(), strict));
+                }
+            }
+
+            SortingParams sortingParams = queryParams.getSorting() != null ?
+                queryParams.getSorting().getParams().get(resourceType) : null;
+            if (sortingParams != null && sortingParams.getParams() != null) {
+                for (Map.Entry<String, RestrictedSortingValues> entry : sortingParams.getParams().entrySet()) {
+                    List<String> path = splitPath(entry.getKey());
+                    ResolvedPath resolvedPath = resolvePath(resourceInformation, path);
+                    sorting.add(new SortSpec(path, resolvedPath.propertyPath, entry.getValue()));
+                }
+            }
+
+            Map<RestrictedPaginationKeys, Integer> pagination = queryParams.getPagination();
+            if (pagination != null) {
+                offset = pagination.get(RestrictedPaginationKeys.offset);
+                limit = pagination.get(RestrictedPaginationKeys.limit);
+            }
+        }
+
+        return new ResourceQuery(resourceType, Collections.unmodifiableList(filters),
+            Collections.unmodifiableList(sorting), offset, limit);
+    }
+
+    private FilterSpec buildFilter(ResourceInformation resourceInformation, String key, Set<String> stringValues,
+                                   boolean strict) {
+        List<String> path = splitPath(key);
+        FilterOperator operator = null;
+        if (path.size() > 1) {
+            operator = FilterOperator.fromName(path.get(path.size() - 1));
+            if (operator != null) {
+                path = path.subList(0, path.size() - 1);
+            }
+        }
+        if (operator == null || operator == FilterOperator.EQ) {
+            operator = stringValues.size() > 1 ? FilterOperator.IN : FilterOperator.EQ;
+        }
+
+        ResolvedPath resolvedPath = resolvePath(resourceInformation, path);
+        List<Object> values = new ArrayList<>(stringValues.size());
+        try {
+            for (String stringValue : stringValues) {
+                values.add(parseValue(key, stringValue, operator, resolvedPath.type));
+            }
+        } catch (ParametersDeserializationException e) {
+            if (strict) {
+                throw e;
+            }
+            // all of the values are kept as strings, so they are compared the same way
+            values = new ArrayList<>(stringValues);
+        }
+        return new FilterSpec(Collections.unmodifiableList(path), resolvedPath.propertyPath, operator,
+            Collections.unmodifiableList(values), resolvedPath.type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object parseValue(String key, String value, FilterOperator operator, Class<?> type) {
+        if (operator == FilterOperator.LIKE || type == null || !isParsable(type)) {
+            return value;
+        }
+        try {
+            return typeParser.parse(value, (Class<? extends Serializable>) type);
+        } catch (RuntimeException e) {
+            // e.g. an unknown enum constant or a malformed UUID, not only values rejected by the parser itself
+            throw new ParametersDeserializationException(
+                String.format("Invalid value of filter %s: %s", key, value));
+        }
+    }
+
+    private static boolean isParsable(Class<?> type) {
+        return !Collection.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type) && !type.isArray()
+            && (type.isPrimitive() || Serializable.class.isAssignableFrom(type));
+    }
+
+    private static List<String> splitPath(String path) {
+        return Arrays.asList(path.split(PATH_SEPARATOR));
+    }
+
+    private static ResolvedPath resolvePath(ResourceInformation resourceInformation, List<String> path) {
+        List<String> propertyPath = new ArrayList<>(path.size());
+        Class<?> type = null;
+        for (String name : path) {
+            String propertyName = null;
+            if (type == null) {
+                ResourceField field = findField(resourceInformation, name);
+                if (field != null) {
+                    propertyName = field.getUnderlyingName();
+                    type = field.getType();
+                } else {
+                    type = resourceInformation.getResourceClass();
+                }
+            }
+            if (propertyName == null) {
+                if (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+                    return ResolvedPath.UNRESOLVED;
+                }
+                PropertyAccessor accessor = PropertyAccessorRegistry.getAccessor(type, name);
+                if (!accessor.isResolved()) {
+                    return ResolvedPath.UNRESOLVED;
+                }
+                propertyName = name;
+                type = accessor.getType();
+            }
+            propertyPath.add(propertyName);
+        }
+        return new ResolvedPath(Collections.unmodifiableList(propertyPath), type);
+    }
+
+    private static ResourceField findField(ResourceInformation resourceInformation, String name) {
+        ResourceField idField = resourceInformation.getIdField();
+        if (idField != null && idField.getJsonName().equals(name)) {
+            return idField;
+        }
+        ResourceField field = resourceInformation.findAttributeFieldByName(name);
+        if (field == null) {
+            field = resourceInformation.findRelationshipFieldByName(name);
+        }
+        return field;
+    }
+
+    private static final class ResolvedPath {
+        private static final ResolvedPath UNRESOLVED = new ResolvedPath(null, null);
+
+        private final List<String> propertyPath;
+        private final Class<?> type;
+
+        private ResolvedPath(List<String> propertyPath, Class<?> type) {
+            this.propertyPath = propertyPath;
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.katharsis.queryParams.query;
+
+import io.katharsis.queryParams.RestrictedSortingValues;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sorting of a {@link ResourceQuery} by a single property.
+ */
+public final class SortSpec {
+
+    private final List<String> path;
+    private final List<String> propertyPath;
+    private final RestrictedSortingValues direction;
+
+    public SortSpec(List<String> path, List<String> propertyPath, RestrictedSortingValues direction) {
+        this.path = path;
+        this.propertyPath = propertyPath;
+        this.direction = direction;
+    }
+
+    /**
+     * @return path of the sorted property as passed in the request
+     */
+    public List<String> getPath() {
+        return path;
+    }
+
+    /**
+     * @return path of the sorted property using names of Java properties, <i>null</i> if the property cannot be
+     * found in the resource class
+     */
+    public List<String> getPropertyPath() {
+        return propertyPath;
+    }
+
+    public RestrictedSortingValues getDirection() {
+        return direction;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SortSpec that = (SortSpec) o;
+        return Objects.equals(path, that.path) && direction == that.direction;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, direction);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(".", path) + " " + direction;
+    }
+}
@@ -0,0 +1,41 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.QueryParams;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * An optional extension of {@link RelationshipRepository} which finds relation targets of many sources at once. When
+ * a relationship marked with {@link io.katharsis.resource.annotations.JsonApiLookupIncludeAutomatically} is
+ * included, the targets of all resources in a response are requested with a single call for each relationship
+ * field and inclusion level, instead of a call for each resource.
+ *
+ * @param <T> source class type
+ * @param <T_ID> T class id type
+ * @param <D> target class type
+ * @param <D_ID> D class id type
+ */
+public interface BulkRelationshipRepository<T, T_ID extends Serializable, D, D_ID extends Serializable>
+    extends RelationshipRepository<T, T_ID, D, D_ID> {
+
+    /**
+     * Find relation's targets of many sources. It is used only for To-One relationship.
+     *
+     * @param sourceIds identifiers of sources
+     * @param fieldName name of target's filed
+     * @param queryParams parameters sent along with the request
+     * @return targets of a relation keyed by source identifiers, sources without a target can be omitted
+     */
+    Map<T_ID, D> findOneTargetsBySources(Iterable<T_ID> sourceIds, String fieldName, QueryParams queryParams);
+
+    /**
+     * Find relation's targets of many sources. It is used only for To-Many relationship.
+     *
+     * @param sourceIds identifiers of sources
+     * @param fieldName name of target's filed
+     * @param queryParams parameters sent along with the request
+     * @return targets of a relation keyed by source identifiers, sources without targets can be omitted
+     */
+    Map<T_ID, Iterable<D>> findManyTargetsBySources(Iterable<T_ID> sourceIds, String fieldName, QueryParams queryParams);
+}
@@ -0,0 +1,34 @@
+package io.katharsis.repository;
+
+import java.io.Serializable;
+
+/**
+ * An optional extension of {@link ResourceRepository} which saves and deletes many resources at once. It is used by
+ * bulk requests, which send an array of resources to a collection URL. Repositories without this interface get a
+ * {@link #save(Object)} or {@link #delete(Serializable)} call for each element of a bulk request.
+ * <p>
+ * A failing call fails all of the elements passed to it, so implementations should either save all of the resources
+ * or none of them.
+ * </p>
+ *
+ * @param <T>  Type of an entity
+ * @param <ID> Type of Identifier of an entity
+ */
+public interface BulkResourceRepository<T, ID extends Serializable> extends ResourceRepository<T, ID> {
+
+    /**
+     * Saves many resources. A resource can be either new or an existing one.
+     *
+     * @param entities resources to be saved
+     * @param <S>      type of the resources
+     * @return saved resources, in the same order as the given resources
+     */
+    <S extends T> Iterable<S> saveAll(Iterable<S> entities);
+
+    /**
+     * Removes many resources identified by ids parameter.
+     *
+     * @param ids identities of the resources to be removed
+     */
+    void deleteAll(Iterable<ID> ids);
+}
@@ -1,6 +1,7 @@
 package io.katharsis.repository;
 
 import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.adapter.RepositoryMethodInvoker;
 import io.katharsis.repository.exception.RepositoryMethodException;
 
 import java.lang.annotation.Annotation;
@@ -25,7 +26,8 @@ public class ParametersFactory {
      */
     public Object[] buildParameters(Object[] firstParameters, Method method, QueryParams queryParams,
                                     Class<? extends Annotation> annotationType) {
-        int parametersLength = method.getParameterTypes().length;
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        int parametersLength = parameterTypes.length;
         if (firstParameters.length > 0 && parametersLength < 1) {
             throw new RepositoryMethodException(
                 String.format("Method with %s annotation should have at least one parameter.", annotationType));
@@ -33,7 +35,7 @@ public class ParametersFactory {
         int parametersToResolve = parametersLength - firstParameters.length;
         Object[] additionalParameters = new Object[parametersToResolve];
         for (int i = firstParameters.length; i < parametersLength; i++) {
-            Class<?> parameterType = method.getParameterTypes()[i];
+            Class<?> parameterType = parameterTypes[i];
             if (QueryParams.class.equals(parameterType)) {
                 additionalParameters[i - firstParameters.length] = queryParams;
             } else {
@@ -68,6 +70,57 @@ public class ParametersFactory {
         return concatenate(firstParameters, additionalParameters);
     }
 
+    /**
+     * Build a list of parameters that can be provided to a resolved method.
+     *
+     * @param firstParameters parameters to be returned as the first elements in the return array
+     * @param method          resolved repository method
+     * @param queryParams     {@link QueryParams} object associated with the request
+     * @param annotationType  method annotation
+     * @return array of resolved parameters
+     */
+    public Object[] buildParameters(Object[] firstParameters, RepositoryMethodInvoker method, QueryParams queryParams,
+                                    Class<? extends Annotation> annotationType) {
+        return buildParameters(firstParameters, method, true, queryParams, annotationType);
+    }
+
+    /**
+     * Build a list of parameters that can be provided to a resolved method.
+     *
+     * @param firstParameters parameters to be returned as the first elements in the return array
+     * @param method          resolved repository method
+     * @param annotationType  method annotation
+     * @return array of resolved parameters
+     */
+    public Object[] buildParameters(Object[] firstParameters, RepositoryMethodInvoker method,
+                                    Class<? extends Annotation> annotationType) {
+        return buildParameters(firstParameters, method, false, null, annotationType);
+    }
+
+    private Object[] buildParameters(Object[] firstParameters, RepositoryMethodInvoker method,
+                                     boolean withQueryParams, QueryParams queryParams,
+                                     Class<? extends Annotation> annotationType) {
+        int parametersLength = method.getParameterCount();
+        if (firstParameters.length > 0 && parametersLength < 1) {
+            throw new RepositoryMethodException(
+                String.format("Method with %s annotation should have at least one parameter.", annotationType));
+        } else if (parametersLength < firstParameters.length) {
+            throw new RepositoryMethodException(
+                String.format("Method with %s annotation should have at least %d parameters.", annotationType,
+                    firstParameters.length));
+        }
+        Object[] parameters = new Object[parametersLength];
+        System.arraycopy(firstParameters, 0, parameters, 0, firstParameters.length);
+        for (int i = firstParameters.length; i < parametersLength; i++) {
+            if (withQueryParams && method.getParameterKind(i) == RepositoryMethodInvoker.ParameterKind.QUERY_PARAMS) {
+                parameters[i] = queryParams;
+            } else {
+                parameters[i] = parameterProvider.provide(method.getMethod(), i);
+            }
+        }
+        return parameters;
+    }
+
     /**
      * Source: https://stackoverflow.com/a/80503
      */
@@ -0,0 +1,27 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.queryParams.query.ResourceQuery;
+
+import java.io.Serializable;
+
+/**
+ * An optional extension of {@link ResourceRepository} which receives filtering, sorting and pagination params as a
+ * typed {@link ResourceQuery}, e.g. to translate them into a database query. By implementing this interface the
+ * repository declares that it applies the whole query, so the returned resources are not filtered again by Katharsis.
+ *
+ * @param <T>  Type of an entity
+ * @param <ID> Type of Identifier of an entity
+ */
+public interface QueryableResourceRepository<T, ID extends Serializable> extends ResourceRepository<T, ID> {
+
+    /**
+     * Search for resources matching the query. It is used instead of {@link #findAll(QueryParams)} when a
+     * collection is requested without identifiers.
+     *
+     * @param query       typed filtering, sorting and pagination of the request
+     * @param queryParams parameters send with the request
+     * @return resources matching the query
+     */
+    Iterable<T> findAll(ResourceQuery query, QueryParams queryParams);
+}
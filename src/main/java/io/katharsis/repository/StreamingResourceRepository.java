@@ -0,0 +1,36 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.QueryParams;
+
+import java.io.Serializable;
+import java.util.stream.Stream;
+
+/**
+ * An optional extension of {@link ResourceRepository} which returns all of the resources as a {@link Stream}, e.g.
+ * backed by a database cursor. Elements of the stream are read while the response is written, so they don't have to
+ * be kept in memory at once, and the stream is closed when the response has been written.
+ * <p>
+ * Since the elements aren't available before the response is written, {@link MetaRepository} and
+ * {@link LinksRepository} implementations receive an empty list of resources for a streamed response.
+ * </p>
+ * <p>
+ * Included relationships are set for batches of the resources. The first batch is read before the response is
+ * returned, so its failures result in an error response. A failure of a later batch happens while the response is
+ * written, after its status has been sent, and the written document is incomplete. The stream is closed in both
+ * cases.
+ * </p>
+ *
+ * @param <T>  Type of an entity
+ * @param <ID> Type of Identifier of an entity
+ */
+public interface StreamingResourceRepository<T, ID extends Serializable> extends ResourceRepository<T, ID> {
+
+    /**
+     * Stream all of the resources. It is used instead of {@link #findAll(QueryParams)} when a collection is
+     * requested without identifiers.
+     *
+     * @param queryParams parameters send with the request
+     * @return a stream of found resources, it is read once and closed afterwards
+     */
+    Stream<T> streamAll(QueryParams queryParams);
+}
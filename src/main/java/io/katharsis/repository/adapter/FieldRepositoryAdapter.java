@@ -7,60 +7,47 @@ import io.katharsis.repository.annotations.JsonApiAddField;
 import io.katharsis.repository.annotations.JsonApiAddFields;
 import io.katharsis.repository.annotations.JsonApiDeleteField;
 import io.katharsis.repository.annotations.JsonApiDeleteFields;
-import io.katharsis.utils.ClassUtils;
+import io.katharsis.repository.instrumentation.RepositoryInstrumentation;
 
-import java.lang.reflect.Method;
 
 public class FieldRepositoryAdapter<T, T_ID, D, D_ID>
     extends RepositoryAdapter<T>
     implements FieldRepository<T, T_ID, D, D_ID> {
 
-    private Method addFieldMethod;
-    private Method addFieldsMethod;
-    private Method deleteFieldMethod;
-    private Method deleteFieldsMethod;
-
     public FieldRepositoryAdapter(Object implementationObject, ParametersFactory parametersFactory) {
         super(implementationObject, parametersFactory);
     }
 
+    private FieldRepositoryAdapter(FieldRepositoryAdapter<T, T_ID, D, D_ID> adapter, RepositoryInstrumentation instrumentation, String resourceType) {
+        super(adapter, instrumentation, resourceType);
+    }
+
+    @Override
+    public FieldRepositoryAdapter<T, T_ID, D, D_ID> instrumented(RepositoryInstrumentation instrumentation, String resourceType) {
+        return new FieldRepositoryAdapter<>(this, instrumentation, resourceType);
+    }
+
     @Override
     public D addField(T_ID resource, D field, String fieldName, QueryParams queryParams) {
-        Class<JsonApiAddField> annotationType = JsonApiAddField.class;
-        if (addFieldMethod == null) {
-            addFieldMethod = ClassUtils.findMethodWith(implementationObject, annotationType);
-        }
         Object[] firstParameters = {resource, field, fieldName};
-        return invokeOperation(addFieldMethod, annotationType, firstParameters, queryParams);
+        return invokeOperation(JsonApiAddField.class, firstParameters, queryParams);
     }
 
     @Override
     public Iterable<D> addFields(T_ID resource, Iterable<D> fields, String fieldName, QueryParams queryParams) {
-        Class<JsonApiAddFields> annotationType = JsonApiAddFields.class;
-        if (addFieldsMethod == null) {
-            addFieldsMethod = ClassUtils.findMethodWith(implementationObject, annotationType);
-        }
         Object[] firstParameters = {resource, fields, fieldName};
-        return invokeOperation(addFieldsMethod, annotationType, firstParameters, queryParams);
+        return invokeOperation(JsonApiAddFields.class, firstParameters, queryParams);
     }
 
     @Override
     public void deleteField(T_ID resource, String fieldName, QueryParams queryParams) {
-        Class<JsonApiDeleteField> annotationType = JsonApiDeleteField.class;
-        if (deleteFieldMethod == null) {
-            deleteFieldMethod = ClassUtils.findMethodWith(implementationObject, annotationType);
-        }
         Object[] firstParameters = {resource, fieldName};
-        invokeOperation(deleteFieldMethod, annotationType, firstParameters, queryParams);
+        invokeOperation(JsonApiDeleteField.class, firstParameters, queryParams);
     }
 
     @Override
     public void deleteFields(T_ID resource, Iterable<D_ID> targetIds, String fieldName, QueryParams queryParams) {
-        Class<JsonApiDeleteFields> annotationType = JsonApiDeleteFields.class;
-        if (deleteFieldsMethod == null) {
-            deleteFieldsMethod = ClassUtils.findMethodWith(implementationObject, annotationType);
-        }
         Object[] firstParameters = {resource, targetIds, fieldName};
-        invokeOperation(deleteFieldsMethod, annotationType, firstParameters, queryParams);
+        invokeOperation(JsonApiDeleteFields.class, firstParameters, queryParams);
     }
 }
@@ -7,103 +7,125 @@ import io.katharsis.repository.ParametersFactory;
 import io.katharsis.repository.annotations.JsonApiLinks;
 import io.katharsis.repository.annotations.JsonApiMeta;
 import io.katharsis.repository.exception.RepositoryAnnotationNotFoundException;
+import io.katharsis.repository.instrumentation.RepositoryInstrumentation;
 import io.katharsis.response.LinksInformation;
 import io.katharsis.response.MetaInformation;
-import io.katharsis.utils.ClassUtils;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 
 public abstract class RepositoryAdapter<T> implements LinksRepository<T>, MetaRepository<T> {
 
     protected final Object implementationObject;
     protected final ParametersFactory parametersFactory;
 
-    private Method linksMethod;
-    private Method metaMethod;
+    final RepositoryInvocationPlan invocationPlan;
+    private final RepositoryInstrumentation instrumentation;
+    private final String resourceType;
 
     public RepositoryAdapter(Object implementationObject, ParametersFactory parametersFactory) {
         this.implementationObject = implementationObject;
         this.parametersFactory = parametersFactory;
+        this.invocationPlan = RepositoryInvocationPlan.forClass(implementationObject.getClass());
+        this.instrumentation = null;
+        this.resourceType = null;
+    }
+
+    /**
+     * Creates a copy of an adapter whose calls are measured.
+     *
+     * @param adapter         adapter to be copied
+     * @param instrumentation instrumentation receiving the calls
+     * @param resourceType    type of the resource the repository is registered for
+     */
+    protected RepositoryAdapter(RepositoryAdapter<T> adapter, RepositoryInstrumentation instrumentation,
+                                String resourceType) {
+        this.implementationObject = adapter.implementationObject;
+        this.parametersFactory = adapter.parametersFactory;
+        this.invocationPlan = adapter.invocationPlan;
+        this.instrumentation = instrumentation;
+        this.resourceType = resourceType;
     }
 
     public boolean linksRepositoryAvailable() {
-        assignLinksMethod();
-        return linksMethod != null;
+        return invocationPlan.getMethod(JsonApiLinks.class) != null;
     }
 
     @Override
     public LinksInformation getLinksInformation(Iterable<T> resources, QueryParams queryParams) {
-        Class<JsonApiLinks> annotationType = JsonApiLinks.class;
-        assignLinksMethod();
-        checkIfNotNull(annotationType, linksMethod);
-
-        Object[] methodParameters = parametersFactory
-            .buildParameters(new Object[]{resources}, linksMethod, queryParams, annotationType);
-
-        return invoke(linksMethod, methodParameters);
-    }
-
-    private void assignLinksMethod() {
-        if (linksMethod == null) {
-            linksMethod = ClassUtils.findMethodWith(implementationObject, JsonApiLinks.class);
-        }
+        return invokeOperation(JsonApiLinks.class, new Object[]{resources}, queryParams);
     }
 
     public boolean metaRepositoryAvailable() {
-        assignMetaMethod();
-        return metaMethod != null;
+        return invocationPlan.getMethod(JsonApiMeta.class) != null;
     }
 
     @Override
     public MetaInformation getMetaInformation(Iterable<T> resources, QueryParams queryParams) {
-        Class<JsonApiMeta> annotationType = JsonApiMeta.class;
-        assignMetaMethod();
-        checkIfNotNull(annotationType, metaMethod);
-
-        Object[] methodParameters = parametersFactory
-            .buildParameters(new Object[]{resources}, metaMethod, queryParams, annotationType);
-
-        return invoke(metaMethod, methodParameters);
+        return invokeOperation(JsonApiMeta.class, new Object[]{resources}, queryParams);
     }
 
-    private void assignMetaMethod() {
-        if (metaMethod == null) {
-            metaMethod = ClassUtils.findMethodWith(implementationObject, JsonApiMeta.class);
-        }
-    }
-
-    protected void checkIfNotNull(Class<? extends Annotation> annotationClass, Method foundMethod) {
+    protected void checkIfNotNull(Class<? extends Annotation> annotationClass, RepositoryMethodInvoker foundMethod) {
         if (foundMethod == null) {
             throw new RepositoryAnnotationNotFoundException(
                 String.format("Annotation %s for class %s not found", annotationClass, implementationObject.getClass()));
         }
     }
 
-    protected <TYPE> TYPE invokeOperation(Method foundMethod, Class<? extends Annotation> annotationType,
-                                          Object[] firstParameters) {
+    protected <TYPE> TYPE invokeOperation(Class<? extends Annotation> annotationType, Object[] firstParameters) {
+        RepositoryMethodInvoker foundMethod = invocationPlan.getMethod(annotationType);
         checkIfNotNull(annotationType, foundMethod);
         Object[] methodParameters = parametersFactory
             .buildParameters(firstParameters, foundMethod, annotationType);
-        return invoke(foundMethod, methodParameters);
+        return invoke(annotationType, foundMethod, methodParameters);
     }
 
-    protected <TYPE> TYPE invokeOperation(Method foundMethod, Class<? extends Annotation> annotationType,
-                                          Object[] firstParameters, QueryParams queryParams) {
+    protected <TYPE> TYPE invokeOperation(Class<? extends Annotation> annotationType, Object[] firstParameters,
+                                          QueryParams queryParams) {
+        RepositoryMethodInvoker foundMethod = invocationPlan.getMethod(annotationType);
         checkIfNotNull(annotationType, foundMethod);
         Object[] methodParameters = parametersFactory
             .buildParameters(firstParameters, foundMethod, queryParams, annotationType);
-        return invoke(foundMethod, methodParameters);
+        return invoke(annotationType, foundMethod, methodParameters);
+    }
+
+    /**
+     * Returns a copy of the adapter whose calls are measured. The adapter itself is left unchanged, so it can be
+     * shared by several registry entries. Adapters other than the ones of Katharsis have to override this method to
+     * be used with an instrumentation, e.g. by calling the copy constructor.
+     *
+     * @param instrumentation instrumentation receiving the calls
+     * @param resourceType    type of the resource the repository is registered for
+     * @return instrumented copy of the adapter
+     * @throws UnsupportedOperationException if the adapter can't be copied
+     */
+    public RepositoryAdapter<T> instrumented(RepositoryInstrumentation instrumentation, String resourceType) {
+        throw new UnsupportedOperationException(String.format(
+            "%s doesn't support instrumentation, override instrumented() to copy it", getClass().getName()));
+    }
+
+    private <TYPE> TYPE invoke(Class<? extends Annotation> annotationType, RepositoryMethodInvoker method,
+                               Object[] args) {
+        if (instrumentation == null) {
+            return invokeMethod(method, args);
+        }
+        try {
+            return instrumentation.invoke(resourceType, RepositoryInstrumentation.getOperation(annotationType),
+                implementationObject.getClass(), () -> this.<TYPE>invokeMethod(method, args));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
     }
 
-    private <TYPE> TYPE invoke(Method method, Object... args) {
+    @SuppressWarnings("unchecked")
+    private <TYPE> TYPE invokeMethod(RepositoryMethodInvoker method, Object[] args) {
         try {
             return (TYPE) method.invoke(implementationObject, args);
-        } catch (IllegalAccessException e) {
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new RuntimeException(e);
-        } catch (InvocationTargetException e) {
-            throw (RuntimeException) e.getCause();
         }
     }
 }
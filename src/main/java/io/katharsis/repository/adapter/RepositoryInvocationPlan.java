@@ -0,0 +1,64 @@
+package io.katharsis.repository.adapter;
+
+import io.katharsis.repository.annotations.JsonApiFindOne;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Annotated methods of a repository class. The class hierarchy is scanned once per class and every repository
+ * annotation of {@link io.katharsis.repository.annotations} is mapped to the first method annotated with it, starting
+ * with the most specific class. Other annotations, e.g. <i>@Transactional</i>, are ignored.
+ */
+public class RepositoryInvocationPlan {
+
+    private static final ClassValue<RepositoryInvocationPlan> PLANS = new ClassValue<RepositoryInvocationPlan>() {
+        @Override
+        protected RepositoryInvocationPlan computeValue(Class<?> repositoryClass) {
+            return new RepositoryInvocationPlan(repositoryClass);
+        }
+    };
+
+    private static final String ANNOTATIONS_PACKAGE = JsonApiFindOne.class.getPackage().getName();
+
+    private final Map<Class<? extends Annotation>, RepositoryMethodInvoker> methods = new HashMap<>();
+
+    private RepositoryInvocationPlan(Class<?> repositoryClass) {
+        Class<?> currentClass = repositoryClass;
+        while (currentClass != null && currentClass != Object.class) {
+            for (Method method : currentClass.getDeclaredMethods()) {
+                for (Annotation annotation : method.getDeclaredAnnotations()) {
+                    if (isRepositoryAnnotation(annotation.annotationType())
+                        && !methods.containsKey(annotation.annotationType())) {
+                        methods.put(annotation.annotationType(), new RepositoryMethodInvoker(method));
+                    }
+                }
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+    }
+
+    private static boolean isRepositoryAnnotation(Class<? extends Annotation> annotationType) {
+        String name = annotationType.getName();
+        int packageEnd = name.lastIndexOf('.');
+        return packageEnd > 0 && ANNOTATIONS_PACKAGE.equals(name.substring(0, packageEnd));
+    }
+
+    /**
+     * @param repositoryClass class of an annotated repository
+     * @return plan of the class, computed on the first call
+     */
+    public static RepositoryInvocationPlan forClass(Class<?> repositoryClass) {
+        return PLANS.get(repositoryClass);
+    }
+
+    /**
+     * @param annotationType repository method annotation
+     * @return invoker of the annotated method or <i>null</i> if there's no such method
+     */
+    public RepositoryMethodInvoker getMethod(Class<? extends Annotation> annotationType) {
+        return methods.get(annotationType);
+    }
+}
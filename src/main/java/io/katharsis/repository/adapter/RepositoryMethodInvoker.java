@@ -0,0 +1,91 @@
+package io.katharsis.repository.adapter;
+
+import io.katharsis.queryParams.QueryParams;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Resolved method of an annotated repository. Kinds of the parameters and a method handle are computed once, so a
+ * call only fills the parameter array and invokes the handle.
+ */
+public class RepositoryMethodInvoker {
+
+    /**
+     * Source of a parameter which isn't passed by the adapter.
+     */
+    public enum ParameterKind {
+        QUERY_PARAMS,
+        PROVIDED
+    }
+
+    private final Method method;
+    private final int parameterCount;
+    private final ParameterKind[] parameterKinds;
+    private final MethodHandle methodHandle;
+
+    public RepositoryMethodInvoker(Method method) {
+        this.method = method;
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        this.parameterCount = parameterTypes.length;
+        this.parameterKinds = new ParameterKind[parameterCount];
+        for (int idx = 0; idx < parameterCount; idx++) {
+            parameterKinds[idx] = QueryParams.class.equals(parameterTypes[idx]) ?
+                ParameterKind.QUERY_PARAMS : ParameterKind.PROVIDED;
+        }
+        this.methodHandle = createMethodHandle(method, parameterCount);
+    }
+
+    /**
+     * Returns a handle of type <i>(Object, Object[])Object</i> or <i>null</i> if the method isn't accessible, in
+     * which case it's called using reflection.
+     */
+    private static MethodHandle createMethodHandle(Method method, int parameterCount) {
+        try {
+            return MethodHandles.lookup()
+                .unreflect(method)
+                .asType(MethodType.genericMethodType(parameterCount + 1))
+                .asSpreader(Object[].class, parameterCount);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * @param index index of a parameter
+     * @return kind of the parameter if it isn't passed by the adapter
+     */
+    public ParameterKind getParameterKind(int index) {
+        return parameterKinds[index];
+    }
+
+    /**
+     * Calls the method. Exceptions thrown by the method are rethrown as they are.
+     *
+     * @param target     repository instance
+     * @param parameters parameters of the method
+     * @return result of the method, <i>null</i> for void methods
+     * @throws Throwable exception thrown by the method
+     */
+    public Object invoke(Object target, Object[] parameters) throws Throwable {
+        if (methodHandle != null) {
+            return (Object) methodHandle.invokeExact(target, parameters);
+        }
+        try {
+            return method.invoke(target, parameters);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
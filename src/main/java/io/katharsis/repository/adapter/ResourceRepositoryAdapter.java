@@ -4,68 +4,53 @@ import io.katharsis.queryParams.QueryParams;
 import io.katharsis.repository.ParametersFactory;
 import io.katharsis.repository.ResourceRepository;
 import io.katharsis.repository.annotations.*;
-import io.katharsis.utils.ClassUtils;
+import io.katharsis.repository.instrumentation.RepositoryInstrumentation;
 
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 
 public class ResourceRepositoryAdapter<T, ID extends Serializable>
     extends RepositoryAdapter<T>
     implements ResourceRepository<T, ID> {
 
-    private Method findOneMethod;
-    private Method findAllMethod;
-    private Method findAllWithIds;
-    private Method saveMethod;
-    private Method deleteMethod;
-
     public ResourceRepositoryAdapter(Object implementationObject, ParametersFactory parametersFactory) {
         super(implementationObject, parametersFactory);
     }
 
+    private ResourceRepositoryAdapter(ResourceRepositoryAdapter<T, ID> adapter, RepositoryInstrumentation instrumentation, String resourceType) {
+        super(adapter, instrumentation, resourceType);
+    }
+
+    @Override
+    public ResourceRepositoryAdapter<T, ID> instrumented(RepositoryInstrumentation instrumentation, String resourceType) {
+        return new ResourceRepositoryAdapter<>(this, instrumentation, resourceType);
+    }
+
     @Override
     public T findOne(ID id, QueryParams queryParams) {
-        Class<JsonApiFindOne> annotationType = JsonApiFindOne.class;
-        if (findOneMethod == null) {
-            findOneMethod = ClassUtils.findMethodWith(implementationObject, annotationType);
-        }
-        return invokeOperation(findOneMethod, annotationType, new Object[]{id}, queryParams);
+        return invokeOperation(JsonApiFindOne.class, new Object[]{id}, queryParams);
     }
 
     @Override
     public Iterable<T> findAll(QueryParams queryParams) {
-        Class<JsonApiFindAll> annotationType = JsonApiFindAll.class;
-        if (findAllMethod == null) {
-            findAllMethod = ClassUtils.findMethodWith(implementationObject, annotationType);
-        }
-        return invokeOperation(findAllMethod, annotationType, new Object[]{}, queryParams);
+        return invokeOperation(JsonApiFindAll.class, new Object[]{}, queryParams);
+    }
+
+    public boolean findAllWithIdsAvailable() {
+        return invocationPlan.getMethod(JsonApiFindAllWithIds.class) != null;
     }
 
     @Override
     public Iterable<T> findAll(Iterable<ID> ids, QueryParams queryParams) {
-        Class<JsonApiFindAllWithIds> annotationType = JsonApiFindAllWithIds.class;
-        if (findAllWithIds == null) {
-            findAllWithIds = ClassUtils.findMethodWith(implementationObject, annotationType);
-        }
-        return invokeOperation(findAllWithIds, annotationType, new Object[]{ids}, queryParams);
+        return invokeOperation(JsonApiFindAllWithIds.class, new Object[]{ids}, queryParams);
     }
 
     @Override
     public <S extends T> S save(S entity) {
-        Class<JsonApiSave> annotationType = JsonApiSave.class;
-        if (saveMethod == null) {
-            saveMethod = ClassUtils.findMethodWith(implementationObject, annotationType);
-        }
-        return invokeOperation(saveMethod, annotationType, new Object[]{entity});
+        return invokeOperation(JsonApiSave.class, new Object[]{entity});
     }
 
     @Override
     public void delete(ID id) {
-        Class<JsonApiDelete> annotationType = JsonApiDelete.class;
-        if (deleteMethod == null) {
-            deleteMethod = ClassUtils.findMethodWith(implementationObject, annotationType);
-        }
-        invokeOperation(deleteMethod, annotationType, new Object[]{id});
+        invokeOperation(JsonApiDelete.class, new Object[]{id});
     }
 }
@@ -0,0 +1,66 @@
+package io.katharsis.repository.instrumentation;
+
+/**
+ * A finished call of a repository method.
+ */
+public class RepositoryCall {
+
+    /**
+     * Result size of calls whose results cannot be counted without consuming them, e.g. streams.
+     */
+    public static final int UNKNOWN_SIZE = -1;
+
+    private final String resourceType;
+    private final String operation;
+    private final Class<?> repositoryClass;
+    private final long durationNanos;
+    private final int resultSize;
+    private final Throwable failure;
+
+    public RepositoryCall(String resourceType, String operation, Class<?> repositoryClass, long durationNanos,
+                          int resultSize, Throwable failure) {
+        this.resourceType = resourceType;
+        this.operation = operation;
+        this.repositoryClass = repositoryClass;
+        this.durationNanos = durationNanos;
+        this.resultSize = resultSize;
+        this.failure = failure;
+    }
+
+    /**
+     * @return type of the resource the repository is registered for, the source type for relationship repositories
+     */
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    /**
+     * @return name of the repository interface method, e.g. <i>findAll</i>, <i>findAllWithIds</i> or
+     * <i>findManyTargets</i>, regardless of the name of an annotated method
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    public Class<?> getRepositoryClass() {
+        return repositoryClass;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return number of returned resources, 0 for methods without a result or {@link #UNKNOWN_SIZE}
+     */
+    public int getResultSize() {
+        return resultSize;
+    }
+
+    /**
+     * @return exception thrown by the repository or <i>null</i> if the call succeeded
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+}
@@ -0,0 +1,12 @@
+package io.katharsis.repository.instrumentation;
+
+/**
+ * Receives repository calls measured by {@link RepositoryInstrumentation}. It's called on the request threads after
+ * each call, so implementations must be thread-safe and cheap.
+ *
+ * @see RepositoryMetrics
+ */
+public interface RepositoryCallSink {
+
+    void onCall(RepositoryCall call);
+}
@@ -0,0 +1,203 @@
+package io.katharsis.repository.instrumentation;
+
+import io.katharsis.repository.adapter.RepositoryAdapter;
+import io.katharsis.repository.annotations.JsonApiLinks;
+import io.katharsis.repository.annotations.JsonApiMeta;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.BaseStream;
+
+/**
+ * Measures calls of resource and relationship repositories and passes them to a {@link RepositoryCallSink}. Calls
+ * slower than the threshold are logged as warnings. Annotated repositories are measured by their
+ * {@link RepositoryAdapter}, repositories implementing the interfaces directly are wrapped in a proxy implementing
+ * all of their interfaces.
+ * <p>
+ * The instrumentation is enabled with
+ * {@link io.katharsis.resource.registry.ResourceRegistry#setRepositoryInstrumentation(RepositoryInstrumentation)}.
+ */
+public class RepositoryInstrumentation {
+
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryInstrumentation.class);
+
+    private static final ClassValue<String> ANNOTATION_OPERATIONS = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> annotationType) {
+            if (annotationType == JsonApiMeta.class) {
+                return "getMetaInformation";
+            } else if (annotationType == JsonApiLinks.class) {
+                return "getLinksInformation";
+            }
+            String name = annotationType.getSimpleName().replaceFirst("^JsonApi", "");
+            return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+        }
+    };
+
+    private final RepositoryCallSink sink;
+    private final long slowCallThresholdNanos;
+
+    /**
+     * @param sink receiver of the measured calls
+     */
+    public RepositoryInstrumentation(RepositoryCallSink sink) {
+        this(sink, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param sink               receiver of the measured calls or <i>null</i> to only log slow calls
+     * @param slowCallThreshold  calls taking at least this long are logged, 0 disables the logging
+     * @param unit               unit of the threshold
+     */
+    public RepositoryInstrumentation(RepositoryCallSink sink, long slowCallThreshold, TimeUnit unit) {
+        this.sink = sink;
+        this.slowCallThresholdNanos = unit.toNanos(slowCallThreshold);
+    }
+
+    /**
+     * Returns a repository whose calls are measured. An instrumented copy of an adapter is returned, any other
+     * repository is wrapped. The given repository itself is left unchanged.
+     *
+     * @param repository   repository or adapter to be instrumented
+     * @param resourceType type of the resource the repository is registered for
+     * @param <R>          repository type
+     * @return instrumented repository
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R decorate(R repository, String resourceType) {
+        if (repository == null) {
+            return null;
+        }
+        if (repository instanceof RepositoryAdapter) {
+            return (R) ((RepositoryAdapter<?>) repository).instrumented(this, resourceType);
+        }
+        Class<?> repositoryClass = repository.getClass();
+        return (R) Proxy.newProxyInstance(repositoryClass.getClassLoader(), getInterfaces(repositoryClass),
+            new InstrumentedRepositoryHandler(repository, resourceType));
+    }
+
+    /**
+     * Calls a repository operation and records it.
+     *
+     * @param resourceType    type of the resource the repository is registered for
+     * @param operation       name of the repository interface method
+     * @param repositoryClass class implementing the operation
+     * @param call            the call to be measured
+     * @param <T>             result type
+     * @return result of the call
+     * @throws Exception exception thrown by the call
+     */
+    public <T> T invoke(String resourceType, String operation, Class<?> repositoryClass, Callable<T> call)
+        throws Exception {
+        long start = System.nanoTime();
+        T result = null;
+        Throwable failure = null;
+        try {
+            result = call.call();
+            return result;
+        } catch (Exception | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            record(new RepositoryCall(resourceType, operation, repositoryClass, System.nanoTime() - start,
+                failure == null ? resultSize(result) : 0, failure));
+        }
+    }
+
+    /**
+     * @param annotationType repository method annotation
+     * @return name of the repository interface method equivalent to the annotated method
+     */
+    public static String getOperation(Class<? extends Annotation> annotationType) {
+        return ANNOTATION_OPERATIONS.get(annotationType);
+    }
+
+    private void record(RepositoryCall call) {
+        if (sink != null) {
+            sink.onCall(call);
+        }
+        if (slowCallThresholdNanos > 0 && call.getDurationNanos() >= slowCallThresholdNanos) {
+            logger.warn("Slow repository call {}.{} of {} took {} ms", call.getRepositoryClass().getName(),
+                call.getOperation(), call.getResourceType(), TimeUnit.NANOSECONDS.toMillis(call.getDurationNanos()));
+        }
+    }
+
+    private static int resultSize(Object result) {
+        if (result == null) {
+            return 0;
+        } else if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        } else if (result instanceof Iterable || result instanceof BaseStream) {
+            return RepositoryCall.UNKNOWN_SIZE;
+        }
+        return 1;
+    }
+
+    private static Class<?>[] getInterfaces(Class<?> repositoryClass) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> currentClass = repositoryClass; currentClass != null;
+             currentClass = currentClass.getSuperclass()) {
+            addInterfaces(interfaces, currentClass.getInterfaces());
+        }
+        return interfaces.toArray(new Class<?>[interfaces.size()]);
+    }
+
+    private static void addInterfaces(Set<Class<?>> interfaces, Class<?>[] classInterfaces) {
+        for (Class<?> classInterface : classInterfaces) {
+            if (interfaces.add(classInterface)) {
+                addInterfaces(interfaces, classInterface.getInterfaces());
+            }
+        }
+    }
+
+    private static String getOperation(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if ("findAll".equals(method.getName()) && parameterTypes.length == 2
+            && Iterable.class.isAssignableFrom(parameterTypes[0])) {
+            return "findAllWithIds";
+        }
+        return method.getName();
+    }
+
+    private class InstrumentedRepositoryHandler implements InvocationHandler {
+        private final Object repository;
+        private final String resourceType;
+
+        private InstrumentedRepositoryHandler(Object repository, String resourceType) {
+            this.repository = repository;
+            this.resourceType = resourceType;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                if ("equals".equals(method.getName())) {
+                    return proxy == args[0] || repository.equals(args[0]);
+                }
+                return method.invoke(repository, args);
+            }
+            return RepositoryInstrumentation.this.invoke(resourceType, getOperation(method), repository.getClass(),
+                () -> {
+                    try {
+                        return method.invoke(repository, args);
+                    } catch (InvocationTargetException e) {
+                        Throwable cause = e.getCause();
+                        if (cause instanceof Error) {
+                            throw (Error) cause;
+                        }
+                        throw (Exception) cause;
+                    }
+                });
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.katharsis.repository.instrumentation;
+
+import io.katharsis.dispatcher.listener.HistogramSnapshot;
+
+/**
+ * Calls of a repository method for a resource type collected by {@link RepositoryMetrics}.
+ */
+public class RepositoryMetricSnapshot {
+
+    private final String resourceType;
+    private final String operation;
+    private final HistogramSnapshot durations;
+    private final HistogramSnapshot resultSizes;
+    private final long errorCount;
+
+    public RepositoryMetricSnapshot(String resourceType, String operation, HistogramSnapshot durations,
+                                    HistogramSnapshot resultSizes, long errorCount) {
+        this.resourceType = resourceType;
+        this.operation = operation;
+        this.durations = durations;
+        this.resultSizes = resultSizes;
+        this.errorCount = errorCount;
+    }
+
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public long getCallCount() {
+        return durations.getCount();
+    }
+
+    /**
+     * @return durations of the calls in nanoseconds
+     */
+    public HistogramSnapshot getDurations() {
+        return durations;
+    }
+
+    /**
+     * @return sizes of the results of successful calls whose size is known
+     */
+    public HistogramSnapshot getResultSizes() {
+        return resultSizes;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+}
@@ -0,0 +1,96 @@
+package io.katharsis.repository.instrumentation;
+
+import io.katharsis.dispatcher.listener.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default {@link RepositoryCallSink} keeping durations, result sizes and error counts per resource type and
+ * repository method in memory. The metrics can be polled with {@link #snapshot()}.
+ */
+public class RepositoryMetrics implements RepositoryCallSink {
+
+    private final Map<MetricKey, CallMetrics> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public void onCall(RepositoryCall call) {
+        CallMetrics callMetrics = metrics.computeIfAbsent(new MetricKey(call.getResourceType(), call.getOperation()),
+            key -> new CallMetrics());
+        callMetrics.durations.record(call.getDurationNanos());
+        if (call.getFailure() != null) {
+            callMetrics.errors.increment();
+        } else if (call.getResultSize() != RepositoryCall.UNKNOWN_SIZE) {
+            callMetrics.resultSizes.record(call.getResultSize());
+        }
+    }
+
+    public List<RepositoryMetricSnapshot> snapshot() {
+        List<RepositoryMetricSnapshot> snapshots = new ArrayList<>(metrics.size());
+        for (Map.Entry<MetricKey, CallMetrics> entry : metrics.entrySet()) {
+            CallMetrics callMetrics = entry.getValue();
+            snapshots.add(new RepositoryMetricSnapshot(entry.getKey().resourceType, entry.getKey().operation,
+                callMetrics.durations.snapshot(), callMetrics.resultSizes.snapshot(), callMetrics.errors.sum()));
+        }
+        return snapshots;
+    }
+
+    /**
+     * @param resourceType resource type
+     * @param operation    repository method
+     * @return metrics of the method or <i>null</i> if it hasn't been called
+     */
+    public RepositoryMetricSnapshot snapshot(String resourceType, String operation) {
+        CallMetrics callMetrics = metrics.get(new MetricKey(resourceType, operation));
+        if (callMetrics == null) {
+            return null;
+        }
+        return new RepositoryMetricSnapshot(resourceType, operation, callMetrics.durations.snapshot(),
+            callMetrics.resultSizes.snapshot(), callMetrics.errors.sum());
+    }
+
+    /**
+     * Removes all collected metrics.
+     */
+    public void reset() {
+        metrics.clear();
+    }
+
+    private static final class CallMetrics {
+        private final LatencyHistogram durations = new LatencyHistogram();
+        private final LatencyHistogram resultSizes = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+    }
+
+    private static final class MetricKey {
+        private final String resourceType;
+        private final String operation;
+
+        private MetricKey(String resourceType, String operation) {
+            this.resourceType = resourceType;
+            this.operation = operation;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            MetricKey metricKey = (MetricKey) o;
+            return Objects.equals(resourceType, metricKey.resourceType) &&
+                Objects.equals(operation, metricKey.operation);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(resourceType, operation);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import io.katharsis.jackson.deserializer.ResourceRelationshipsDeserializer;
 
 public class DataBody {
     private String id;
+    private String lid;
     private String type;
 
     @JsonDeserialize(using = ResourceRelationshipsDeserializer.class)
@@ -21,6 +22,18 @@ public class DataBody {
         this.id = id;
     }
 
+    /**
+     * @return local identifier of a resource created in an atomic operations request, used in place of its id by
+     * later operations of the request
+     */
+    public String getLid() {
+        return lid;
+    }
+
+    public void setLid(String lid) {
+        this.lid = lid;
+    }
+
     public String getType() {
         return type;
     }
@@ -3,6 +3,7 @@ package io.katharsis.request.dto;
 public class LinkageData {
     private String type;
     private String id;
+    private String lid;
 
     public LinkageData() {
     }
@@ -27,4 +28,15 @@ public class LinkageData {
     public void setId(String id) {
         this.id = id;
     }
+
+    /**
+     * @return local identifier of a resource created by an earlier operation of an atomic operations request
+     */
+    public String getLid() {
+        return lid;
+    }
+
+    public void setLid(String lid) {
+        this.lid = lid;
+    }
 }
@@ -0,0 +1,52 @@
+package io.katharsis.request.dto;
+
+/**
+ * A single operation of an atomic operations request. The target is given either by {@link #getRef() ref} or
+ * {@link #getHref() href}; without them an <i>add</i> operation creates the resource in {@link #getData() data} and
+ * other operations address the resource identified by it.
+ *
+ * @see OperationsRequest
+ */
+public class Operation {
+
+    private OperationCode op;
+    private OperationRef ref;
+    private String href;
+    private RequestBody data;
+
+    public OperationCode getOp() {
+        return op;
+    }
+
+    public void setOp(OperationCode op) {
+        this.op = op;
+    }
+
+    public OperationRef getRef() {
+        return ref;
+    }
+
+    public void setRef(OperationRef ref) {
+        this.ref = ref;
+    }
+
+    public String getHref() {
+        return href;
+    }
+
+    public void setHref(String href) {
+        this.href = href;
+    }
+
+    /**
+     * @return <i>data</i> member of the operation, passed to the controllers as a request body, or <i>null</i> if
+     * the operation has none
+     */
+    public RequestBody getData() {
+        return data;
+    }
+
+    public void setData(RequestBody data) {
+        this.data = data;
+    }
+}
@@ -0,0 +1,35 @@
+package io.katharsis.request.dto;
+
+import io.katharsis.dispatcher.controller.HttpMethod;
+
+/**
+ * Kind of an {@link Operation}, mapped to the HTTP method of the controller handling it.
+ */
+public enum OperationCode {
+    ADD(HttpMethod.POST),
+    UPDATE(HttpMethod.PATCH),
+    REMOVE(HttpMethod.DELETE);
+
+    private final HttpMethod method;
+
+    OperationCode(HttpMethod method) {
+        this.method = method;
+    }
+
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * @param value name of the operation as sent in the <i>op</i> member, e.g. <i>add</i>
+     * @return matching operation code or <i>null</i> if the operation is unknown
+     */
+    public static OperationCode parse(String value) {
+        for (OperationCode operationCode : values()) {
+            if (operationCode.name().equalsIgnoreCase(value)) {
+                return operationCode;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,25 @@
+package io.katharsis.request.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.katharsis.jackson.deserializer.OperationsRequestDeserializer;
+
+import java.util.List;
+
+/**
+ * Body of an atomic operations request, an ordered list of operations sent in the <i>atomic:operations</i> member.
+ *
+ * @see io.katharsis.dispatcher.OperationsDispatcher
+ */
+@JsonDeserialize(using = OperationsRequestDeserializer.class)
+public class OperationsRequest {
+
+    private List<Operation> operations;
+
+    public List<Operation> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<Operation> operations) {
+        this.operations = operations;
+    }
+}
@@ -3,24 +3,49 @@ package io.katharsis.request.path;
 import io.katharsis.resource.exception.ResourceException;
 import io.katharsis.resource.exception.ResourceFieldNotFoundException;
 import io.katharsis.resource.exception.ResourceNotFoundException;
-import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.utils.StringUtils;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Builder responsible for parsing URL path.
+ * <p>
+ * Parsed paths without ids, e.g. <i>/tasks</i>, are kept in a bounded cache shared by builders of the same
+ * {@link ResourceRegistry}, so the frequently requested collection paths are parsed only once. Each call returns its
+ * own copy of the cached path, so the returned {@link JsonPath} instances can be modified.
+ * </p>
  */
 public class PathBuilder {
     public static final String SEPARATOR = "/";
     public static final String RELATIONSHIP_MARK = "relationships";
 
+    /**
+     * Maximum number of parsed paths without ids cached for a resource registry.
+     */
+    public static final int PATH_CACHE_SIZE = 1024;
+
+    private static final char SEPARATOR_CHAR = '/';
+    private static final char ID_SEPARATOR_CHAR = ',';
+
+    private static final Map<ResourceRegistry, ConcurrentMap<String, JsonPath>> PATH_CACHES =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
     private final ResourceRegistry resourceRegistry;
+    private final ConcurrentMap<String, JsonPath> pathCache;
 
     public PathBuilder(ResourceRegistry resourceRegistry) {
         this.resourceRegistry = resourceRegistry;
+        this.pathCache = PATH_CACHES.computeIfAbsent(resourceRegistry, registry -> new ConcurrentHashMap<>());
     }
 
     /**
@@ -31,8 +56,65 @@ public class PathBuilder {
      * @return doubly-linked list which represents path given at the input
      */
     public JsonPath buildPath(String path) {
-        String[] strings = splitPath(path);
-        if (strings.length == 0 || (strings.length == 1 && "".equals(strings[0]))) {
+        JsonPath cachedPath = pathCache.get(path);
+        if (cachedPath != null) {
+            return copyPath(cachedPath);
+        }
+
+        JsonPath jsonPath = parsePath(path);
+        if (getRootPath(jsonPath).getIds() == null) {
+            if (pathCache.size() >= PATH_CACHE_SIZE) {
+                evictPath();
+            }
+            pathCache.putIfAbsent(path, copyPath(jsonPath));
+        }
+        return jsonPath;
+    }
+
+    private void evictPath() {
+        Iterator<String> paths = pathCache.keySet().iterator();
+        if (paths.hasNext()) {
+            paths.next();
+            paths.remove();
+        }
+    }
+
+    private static JsonPath getRootPath(JsonPath jsonPath) {
+        JsonPath rootPath = jsonPath;
+        while (rootPath.getParentResource() != null) {
+            rootPath = rootPath.getParentResource();
+        }
+        return rootPath;
+    }
+
+    /**
+     * Copies each element of a path from its root to the given element, so the copy can be modified without
+     * affecting the cached path.
+     */
+    private static JsonPath copyPath(JsonPath jsonPath) {
+        JsonPath previousCopy = null, currentCopy = null;
+        for (JsonPath currentPath = getRootPath(jsonPath); ; currentPath = currentPath.getChildResource()) {
+            if (currentPath instanceof RelationshipsPath) {
+                currentCopy = new RelationshipsPath(currentPath.getElementName());
+            } else if (currentPath instanceof FieldPath) {
+                currentCopy = new FieldPath(currentPath.getElementName());
+            } else {
+                currentCopy = new ResourcePath(currentPath.getElementName(), currentPath.getIds());
+            }
+            if (previousCopy != null) {
+                previousCopy.setChildResource(currentCopy);
+                currentCopy.setParentResource(previousCopy);
+            }
+            if (currentPath == jsonPath) {
+                return currentCopy;
+            }
+            previousCopy = currentCopy;
+        }
+    }
+
+    private JsonPath parsePath(String path) {
+        List<String> strings = splitPath(path);
+        if (strings.isEmpty() || (strings.size() == 1 && strings.get(0).isEmpty())) {
             throw new ResourceException("Path is empty");
         }
 
@@ -41,40 +123,36 @@ public class PathBuilder {
         boolean relationshipMark;
         String elementName;
 
-        for (int currentElementIdx = 0; currentElementIdx < strings.length; ) {
+        for (int currentElementIdx = 0; currentElementIdx < strings.size(); ) {
             elementName = null;
             pathIds = null;
             relationshipMark = false;
 
-            if (RELATIONSHIP_MARK.equals(strings[currentElementIdx])) {
+            if (RELATIONSHIP_MARK.equals(strings.get(currentElementIdx))) {
                 relationshipMark = true;
                 currentElementIdx++;
             }
 
-            if (currentElementIdx < strings.length && !RELATIONSHIP_MARK.equals(strings[currentElementIdx])) {
-                elementName = strings[currentElementIdx];
+            if (currentElementIdx < strings.size() && !RELATIONSHIP_MARK.equals(strings.get(currentElementIdx))) {
+                elementName = strings.get(currentElementIdx);
                 currentElementIdx++;
             }
 
-            if (currentElementIdx < strings.length && !RELATIONSHIP_MARK.equals(strings[currentElementIdx])) {
-                pathIds = createPathIds(strings[currentElementIdx]);
+            if (currentElementIdx < strings.size() && !RELATIONSHIP_MARK.equals(strings.get(currentElementIdx))) {
+                pathIds = createPathIds(strings.get(currentElementIdx));
                 currentElementIdx++;
             }
-            RegistryEntry entry = resourceRegistry.getEntry(elementName);
             if (previousJsonPath != null) {
                 currentJsonPath = getNonResourcePath(previousJsonPath, elementName, relationshipMark);
                 if (pathIds != null) {
                     throw new ResourceException("RelationshipsPath and FieldPath cannot contain ids");
                 }
-            } else if (entry != null && !relationshipMark) {
-                currentJsonPath = new ResourcePath(elementName);
+            } else if (resourceRegistry.getEntry(elementName) != null && !relationshipMark) {
+                currentJsonPath = new ResourcePath(elementName, pathIds);
             } else {
                 throw new ResourceNotFoundException(path);
             }
 
-            if (pathIds != null) {
-                currentJsonPath.setIds(pathIds);
-            }
             if (previousJsonPath != null) {
                 previousJsonPath.setChildResource(currentJsonPath);
                 currentJsonPath.setParentResource(previousJsonPath);
@@ -86,35 +164,49 @@ public class PathBuilder {
     }
 
     private JsonPath getNonResourcePath(JsonPath previousJsonPath, String elementName, boolean relationshipMark) {
-        String previousElementName = previousJsonPath.getElementName();
-        RegistryEntry previousEntry = resourceRegistry.getEntry(previousElementName);
-        Set<ResourceField> resourceFields = previousEntry.getResourceInformation().getRelationshipFields();
-        for (ResourceField field : resourceFields) {
-            if (field.getJsonName().equals(elementName)) {
-                if (relationshipMark) {
-                    return new RelationshipsPath(elementName);
-                } else {
-                    return new FieldPath(elementName);
-                }
-            }
+        RegistryEntry previousEntry = resourceRegistry.getEntry(previousJsonPath.getElementName());
+        if (previousEntry.getResourceInformation().findRelationshipFieldByName(elementName) == null) {
+            //TODO: Throw different exception? element name can be null..
+            throw new ResourceFieldNotFoundException(elementName);
+        }
+        if (relationshipMark) {
+            return new RelationshipsPath(elementName);
+        } else {
+            return new FieldPath(elementName);
         }
-        //TODO: Throw different exception? element name can be null..
-        throw new ResourceFieldNotFoundException(elementName);
     }
 
     private static PathIds createPathIds(String idsString) {
-        List<String> pathIds = Arrays.asList(idsString.split(PathIds.ID_SEPERATOR));
-        return new PathIds(pathIds);
+        List<String> ids = split(idsString, 0, idsString.length(), ID_SEPARATOR_CHAR);
+        while (ids.size() > 1 && ids.get(ids.size() - 1).isEmpty()) {
+            ids.remove(ids.size() - 1);
+        }
+        return new PathIds(ids);
     }
 
-    private static String[] splitPath(String path) {
-        if (path.startsWith(SEPARATOR)) {
-            path = path.substring(1);
+    /**
+     * Splits the path into its elements, ignoring a leading separator and trailing empty elements.
+     */
+    private static List<String> splitPath(String path) {
+        int start = path.startsWith(SEPARATOR) ? 1 : 0;
+        int end = path.length();
+        while (end > start && path.charAt(end - 1) == SEPARATOR_CHAR) {
+            end--;
         }
-        if (path.endsWith(SEPARATOR)) {
-            path = path.substring(0, path.length());
+        return split(path, start, end, SEPARATOR_CHAR);
+    }
+
+    private static List<String> split(String value, int start, int end, char separator) {
+        List<String> elements = new ArrayList<>(4);
+        int elementStart = start;
+        for (int idx = start; idx < end; idx++) {
+            if (value.charAt(idx) == separator) {
+                elements.add(value.substring(elementStart, idx));
+                elementStart = idx + 1;
+            }
         }
-        return path.split(SEPARATOR);
+        elements.add(value.substring(elementStart, end));
+        return elements;
     }
 
     /**
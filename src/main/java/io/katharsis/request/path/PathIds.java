@@ -1,7 +1,8 @@
 package io.katharsis.request.path;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -10,16 +11,19 @@ import java.util.List;
 public class PathIds {
     public static final String ID_SEPERATOR = ",";
 
-    private final List<String> ids = new LinkedList<>();
+    private final List<String> ids;
 
     public PathIds(@SuppressWarnings("SameParameterValue") String id) {
-        ids.add(id);
+        ids = Collections.singletonList(id);
     }
 
     public PathIds(Collection<String> id) {
-        ids.addAll(id);
+        ids = Collections.unmodifiableList(new ArrayList<>(id));
     }
 
+    /**
+     * @return unmodifiable list of the ids
+     */
     public List<String> getIds() {
         return ids;
     }
@@ -12,10 +12,14 @@ public class ResourceException extends KatharsisMappableException {
     private static final String TITLE = "Resource error";
 
     public ResourceException(String message) {
+        this(message, null);
+    }
+
+    public ResourceException(String message, Throwable cause) {
         super(HttpStatus.INTERNAL_SERVER_ERROR_500, ErrorData.builder()
                 .setTitle(TITLE)
                 .setDetail(message)
                 .setStatus(String.valueOf(HttpStatus.INTERNAL_SERVER_ERROR_500))
-                .build());
+                .build(), cause);
     }
 }
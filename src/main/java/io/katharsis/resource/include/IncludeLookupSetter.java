@@ -1,19 +1,20 @@
 package io.katharsis.resource.include;
 
+import io.katharsis.dispatcher.listener.DispatchPhase;
+import io.katharsis.dispatcher.listener.RequestTimer;
 import io.katharsis.queryParams.QueryParams;
 import io.katharsis.queryParams.include.Inclusion;
 import io.katharsis.queryParams.params.IncludedRelationsParams;
-import io.katharsis.queryParams.params.TypedParams;
+import io.katharsis.repository.BulkRelationshipRepository;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.repository.exception.RelationshipRepositoryNotFoundException;
 import io.katharsis.resource.annotations.JsonApiLookupIncludeAutomatically;
-import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
-import io.katharsis.utils.ClassUtils;
 import io.katharsis.utils.Generics;
-import io.katharsis.utils.PropertyUtils;
+import io.katharsis.utils.PropertyAccessor;
+import io.katharsis.utils.PropertyAccessorRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,134 +22,349 @@ import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 public class IncludeLookupSetter {
     private static final transient Logger logger = LoggerFactory.getLogger(IncludeLookupSetter.class);
 
     private final ResourceRegistry resourceRegistry;
+    private final Executor executor;
 
     public IncludeLookupSetter(ResourceRegistry resourceRegistry) {
+        this(resourceRegistry, null);
+    }
+
+    /**
+     * Creates a setter which loads the independent inclusion paths in parallel using the given executor, e.g. a
+     * virtual thread executor on JDK 21+. The relationships of each level are submitted as separate tasks and a task
+     * submits the next level of its path when it's finished, so a task never waits for another one. Sibling paths
+     * which set the same field of the same class, e.g. <i>include=project,tasks.project</i>, are loaded one after
+     * another. The calling thread waits until all loads are finished before {@link #setIncludedElements} returns, so
+     * it must not be a thread of a bounded executor passed here.
+     * <p>
+     * Relationship repositories must be safe to call concurrently. The {@link RepositoryMethodParameterProvider} of
+     * the request is called on the executor threads, so it must not depend on state bound to the request thread,
+     * e.g. thread locals of a servlet container.
+     *
+     * @param resourceRegistry resource registry
+     * @param executor         executor of relationship loads or <i>null</i> to load them in the calling thread
+     */
+    public IncludeLookupSetter(ResourceRegistry resourceRegistry, Executor executor) {
         this.resourceRegistry = resourceRegistry;
+        this.executor = executor;
     }
 
+    /**
+     * Sets included relationships of a resource or a collection of resources. Relationships marked with
+     * {@link JsonApiLookupIncludeAutomatically} which are <i>null</i> are loaded from relationship repositories. The
+     * resources are processed level by level of each inclusion path, so if a repository implements
+     * {@link BulkRelationshipRepository}, it's called once for each relationship field and level.
+     */
     public void setIncludedElements(String resourceName, Object resource, QueryParams queryParams,
                                     RepositoryMethodParameterProvider parameterProvider)
             throws InvocationTargetException, NoSuchMethodException, NoSuchFieldException, IllegalAccessException {
         if (resource != null && queryParams.getIncludedRelations() != null) {
-            if (Iterable.class.isAssignableFrom(resource.getClass())) {
-                for (Object target : (Iterable<?>) resource) {
-                    try {
-                        setIncludedElements(resourceName, target, queryParams, parameterProvider);
-                    } catch (InvocationTargetException | NoSuchMethodException | NoSuchFieldException | IllegalAccessException e) {
-                        logger.error("Error with spliterator", e);
-                    }
+            IncludedRelationsParams includedRelationsParams = queryParams.getRenderPlan()
+                .forType(resourceName)
+                .getIncludedRelations();
+            if (includedRelationsParams != null) {
+                List<Object> resources = new ArrayList<>();
+                addElements(resources, resource);
+                InclusionNode inclusionTree = new InclusionNode();
+                for (Inclusion inclusion : includedRelationsParams.getParams()) {
+                    inclusionTree.add(inclusion.getPathList());
+                }
+                long start = RequestTimer.startPhase();
+                try {
+                    getRootElements(resources, inclusionTree, queryParams, parameterProvider);
+                } finally {
+                    RequestTimer.stopPhase(DispatchPhase.INCLUDE, start);
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the relationships in the calling thread or, if there's an executor, in parallel and waits for all of
+     * them, so none of the loads is running when the response is serialized.
+     */
+    private void getRootElements(List<Object> resources, InclusionNode node, QueryParams queryParams,
+                                 RepositoryMethodParameterProvider parameterProvider) {
+        if (executor == null) {
+            getElements(resources, node, queryParams, parameterProvider);
+        } else {
+            try {
+                getElementsAsync(resources, node, queryParams, parameterProvider).join();
+            } catch (CompletionException e) {
+                Throwable failure = e.getCause() != null ? e.getCause() : e;
+                if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                } else if (failure instanceof Error) {
+                    throw (Error) failure;
                 }
-            } else {
-                IncludedRelationsParams includedRelationsParams = findInclusions(queryParams.getIncludedRelations(),
-                    resourceName);
-                if (includedRelationsParams != null) {
-                    for (Inclusion inclusion : includedRelationsParams.getParams()) {
-                        List<String> pathList = inclusion.getPathList();
-                        if (resource != null && !pathList.isEmpty()) {
-                            getElements(resource, pathList, queryParams, parameterProvider);
-                        }
+                throw e;
+            }
+        }
+    }
+
+    private void getElements(List<Object> resources, InclusionNode node, QueryParams queryParams,
+                             RepositoryMethodParameterProvider parameterProvider) {
+        for (Map.Entry<String, InclusionNode> child : node.children.entrySet()) {
+            List<Object> properties = getProperties(resources, child.getKey(), queryParams, parameterProvider);
+            if (!child.getValue().children.isEmpty() && !properties.isEmpty()) {
+                getElements(properties, child.getValue(), queryParams, parameterProvider);
+            }
+        }
+    }
+
+    /**
+     * Submits a task for each group of overlapping child paths. The paths of a group are chained, so they don't set
+     * the same fields concurrently, and each loaded level composes the future of its children instead of joining it.
+     */
+    private CompletableFuture<Void> getElementsAsync(List<Object> resources, InclusionNode node,
+                                                     QueryParams queryParams,
+                                                     RepositoryMethodParameterProvider parameterProvider) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (List<Map.Entry<String, InclusionNode>> group : groupOverlappingPaths(resources, node)) {
+            CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+            for (Map.Entry<String, InclusionNode> child : group) {
+                future = future.thenComposeAsync(ignored -> {
+                    List<Object> properties = getProperties(resources, child.getKey(), queryParams,
+                        parameterProvider);
+                    if (child.getValue().children.isEmpty() || properties.isEmpty()) {
+                        return CompletableFuture.<Void>completedFuture(null);
                     }
+                    return getElementsAsync(properties, child.getValue(), queryParams, parameterProvider);
+                }, executor);
+            }
+            futures.add(future);
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]));
+    }
+
+    /**
+     * Groups the child paths of a node which set a common field, based on the declared types of the relationship
+     * fields reachable from the classes of the resources.
+     */
+    private static List<List<Map.Entry<String, InclusionNode>>> groupOverlappingPaths(List<Object> resources,
+                                                                                     InclusionNode node) {
+        Set<Class<?>> resourceClasses = new LinkedHashSet<>();
+        for (Object resource : resources) {
+            resourceClasses.add(resource.getClass());
+        }
+        List<List<Map.Entry<String, InclusionNode>>> groups = new ArrayList<>();
+        List<Set<Field>> groupFields = new ArrayList<>();
+        for (Map.Entry<String, InclusionNode> child : node.children.entrySet()) {
+            List<Map.Entry<String, InclusionNode>> group = new ArrayList<>();
+            Set<Field> fields = new HashSet<>();
+            group.add(child);
+            collectFields(resourceClasses, child.getKey(), child.getValue(), fields);
+            for (int i = groups.size() - 1; i >= 0; i--) {
+                if (!Collections.disjoint(groupFields.get(i), fields)) {
+                    group.addAll(0, groups.remove(i));
+                    fields.addAll(groupFields.remove(i));
                 }
             }
+            groups.add(group);
+            groupFields.add(fields);
         }
+        return groups;
     }
 
-    private static IncludedRelationsParams findInclusions(TypedParams<IncludedRelationsParams> queryParams, String
-        resourceName) {
-        IncludedRelationsParams includedRelationsParams = null;
-        for (Map.Entry<String, IncludedRelationsParams> entry : queryParams.getParams()
-            .entrySet()) {
-            if (resourceName.equals(entry.getKey())) {
-                includedRelationsParams = entry.getValue();
+    private static void collectFields(Set<Class<?>> resourceClasses, String fieldName, InclusionNode node,
+                                      Set<Field> fields) {
+        Set<Class<?>> propertyClasses = new LinkedHashSet<>();
+        for (Class<?> resourceClass : resourceClasses) {
+            Field field = PropertyAccessorRegistry.getAccessor(resourceClass, fieldName).getField();
+            if (field != null) {
+                fields.add(field);
+                propertyClasses.add(getPropertyClass(field));
             }
         }
-        return includedRelationsParams;
+        for (Map.Entry<String, InclusionNode> child : node.children.entrySet()) {
+            collectFields(propertyClasses, child.getKey(), child.getValue(), fields);
+        }
     }
 
-    private void getElements(Object resource, List<String> pathList, QueryParams queryParams,
-                             RepositoryMethodParameterProvider parameterProvider)
-            throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, NoSuchFieldException {
-        if (!pathList.isEmpty()) {
-            Field field = ClassUtils.findClassField(resource.getClass(), pathList.get(0));
-            if (field == null) {
-                logger.warn("Error loading relationship, couldn't find field " + pathList.get(0));
-                return;
+    private static Class<?> getPropertyClass(Field field) {
+        if (Iterable.class.isAssignableFrom(field.getType())) {
+            Type genericType = field.getGenericType();
+            if (genericType instanceof ParameterizedType) {
+                Type elementType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+                if (elementType instanceof Class) {
+                    return (Class<?>) elementType;
+                }
             }
-            Object property = PropertyUtils.getProperty(resource, field.getName());
-            //attempt to load relationship if it's null
-            if (property == null && field.isAnnotationPresent(JsonApiLookupIncludeAutomatically.class)) {
-                try {
-                    property = loadRelationship(resource, field, queryParams, parameterProvider);
-                    PropertyUtils.setProperty(resource, field.getName(), property);
-                } catch( Exception e ) {
-                    logger.error("Error loading relationship, couldn't automatically include", e);
+            return Object.class;
+        }
+        return field.getType();
+    }
+
+    private static void addElements(List<Object> elements, Object value) {
+        if (value instanceof Iterable) {
+            for (Object element : (Iterable<?>) value) {
+                if (element != null) {
+                    elements.add(element);
                 }
             }
+        } else {
+            elements.add(value);
+        }
+    }
 
-            if (property != null) {
-                List<String> subPathList = pathList.subList(1, pathList.size());
-                if (Iterable.class.isAssignableFrom(property.getClass())) {
-                    for (Object o : ((Iterable) property)) {
-                        //noinspection unchecked
-                        getElements(o, subPathList, queryParams, parameterProvider);
+    private List<Object> getProperties(List<Object> resources, String fieldName, QueryParams queryParams,
+                                       RepositoryMethodParameterProvider parameterProvider) {
+        List<Object> properties = new ArrayList<>();
+        for (Map.Entry<Class<?>, List<Object>> classResources : groupByClass(resources).entrySet()) {
+            PropertyAccessor accessor = PropertyAccessorRegistry.getAccessor(classResources.getKey(), fieldName);
+            Field field = accessor.getField();
+            if (field == null) {
+                logger.warn("Error loading relationship, couldn't find field " + fieldName);
+                continue;
+            }
+
+            //attempt to load relationships which are null
+            if (field.isAnnotationPresent(JsonApiLookupIncludeAutomatically.class)) {
+                List<Object> missingResources = new ArrayList<>();
+                for (Object resource : classResources.getValue()) {
+                    if (accessor.getValue(resource) == null) {
+                        missingResources.add(resource);
                     }
-                } else {
-                    //noinspection unchecked
-                    getElements(property, subPathList, queryParams, parameterProvider);
                 }
+                if (!missingResources.isEmpty()) {
+                    loadRelationships(classResources.getKey(), missingResources, accessor, queryParams,
+                        parameterProvider);
+                }
+            }
+
+            for (Object resource : classResources.getValue()) {
+                Object property = accessor.getValue(resource);
+                if (property != null) {
+                    addElements(properties, property);
+                }
+            }
+        }
+        return properties;
+    }
+
+    private static Map<Class<?>, List<Object>> groupByClass(List<Object> resources) {
+        Map<Class<?>, List<Object>> resourcesByClass = new LinkedHashMap<>();
+        Set<Object> visitedResources = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        for (Object resource : resources) {
+            if (visitedResources.add(resource)) {
+                List<Object> classResources = resourcesByClass.get(resource.getClass());
+                if (classResources == null) {
+                    classResources = new ArrayList<>();
+                    resourcesByClass.put(resource.getClass(), classResources);
+                }
+                classResources.add(resource);
             }
         }
+        return resourcesByClass;
     }
 
-    private Object loadRelationship(Object root, Field relationshipField, QueryParams queryParams,
-                                    RepositoryMethodParameterProvider parameterProvider) {
-        Class<?> resourceClass = getClassFromField(relationshipField);
-        RegistryEntry<?> rootEntry = resourceRegistry.getEntry(root.getClass());
+    private void loadRelationships(Class<?> rootClass, List<Object> roots, PropertyAccessor accessor,
+                                   QueryParams queryParams, RepositoryMethodParameterProvider parameterProvider) {
+        Field relationshipField = accessor.getField();
+        Class<?> resourceClass = getPropertyClass(relationshipField);
+        RegistryEntry<?> rootEntry = resourceRegistry.getEntry(rootClass);
         RegistryEntry<?> registryEntry = resourceRegistry.getEntry(resourceClass);
 
         if (rootEntry == null || registryEntry == null) {
-            return null;
+            return;
         }
 
-        ResourceField rootIdField = rootEntry.getResourceInformation().getIdField();
-        Serializable castedResourceId = (Serializable) PropertyUtils.getProperty(root, rootIdField.getUnderlyingName());
-
-        Class<?> baseRelationshipFieldClass = relationshipField.getType();
-        Class<?> relationshipFieldClass = Generics.getResourceClass(root.getClass(), resourceClass);
+        PropertyAccessor idAccessor = PropertyAccessorRegistry
+            .getAccessor(rootClass, rootEntry.getResourceInformation().getIdField().getUnderlyingName());
+        Class<?> relationshipFieldClass = Generics.getResourceClass(rootClass, resourceClass);
+        boolean toMany = Iterable.class.isAssignableFrom(relationshipField.getType());
 
+        RelationshipRepository relationshipRepository;
         try {
-            RelationshipRepository relationshipRepositoryForClass = rootEntry
-                .getRelationshipRepositoryForClass(relationshipFieldClass, parameterProvider);
-            if (relationshipRepositoryForClass != null) {
-                if (Iterable.class.isAssignableFrom(baseRelationshipFieldClass)) {
-                    return relationshipRepositoryForClass.findManyTargets(castedResourceId, relationshipField.getName
-                        (), queryParams);
-                } else {
-                    return relationshipRepositoryForClass.findOneTarget(castedResourceId, relationshipField.getName(), queryParams);
-                }
-            }
+            relationshipRepository = rootEntry.getRelationshipRepositoryForClass(relationshipFieldClass,
+                parameterProvider);
         } catch (RelationshipRepositoryNotFoundException e) {
             logger.debug("Relationship is not defined", e);
+            return;
+        }
+        if (relationshipRepository == null) {
+            return;
         }
 
-        return null;
+        if (relationshipRepository instanceof BulkRelationshipRepository) {
+            try {
+                loadRelationships(roots, accessor, idAccessor, (BulkRelationshipRepository) relationshipRepository,
+                    toMany, queryParams);
+            } catch (Exception e) {
+                logger.error("Error loading relationship, couldn't automatically include", e);
+            }
+        } else {
+            for (Object root : roots) {
+                try {
+                    Serializable castedResourceId = (Serializable) idAccessor.getValue(root);
+                    Object property = toMany ?
+                        relationshipRepository.findManyTargets(castedResourceId, relationshipField.getName(), queryParams) :
+                        relationshipRepository.findOneTarget(castedResourceId, relationshipField.getName(), queryParams);
+                    accessor.setValue(root, property);
+                } catch (Exception e) {
+                    logger.error("Error loading relationship, couldn't automatically include", e);
+                }
+            }
+        }
     }
 
-    private Class<?> getClassFromField(Field relationshipField) {
-        Class<?> resourceClass = null;
-        if (Iterable.class.isAssignableFrom(relationshipField.getType())) {
-            ParameterizedType stringListType = (ParameterizedType) relationshipField.getGenericType();
-            resourceClass = (Class<?>) stringListType.getActualTypeArguments()[0];
-        } else {
-            resourceClass = relationshipField.getType();
+    @SuppressWarnings("unchecked")
+    private static void loadRelationships(List<Object> roots, PropertyAccessor accessor, PropertyAccessor idAccessor,
+                                          BulkRelationshipRepository relationshipRepository, boolean toMany,
+                                          QueryParams queryParams) {
+        Set<Serializable> sourceIds = new LinkedHashSet<>();
+        for (Object root : roots) {
+            sourceIds.add((Serializable) idAccessor.getValue(root));
+        }
+
+        String fieldName = accessor.getField().getName();
+        Map<Serializable, ?> targets = toMany ?
+            relationshipRepository.findManyTargetsBySources(sourceIds, fieldName, queryParams) :
+            relationshipRepository.findOneTargetsBySources(sourceIds, fieldName, queryParams);
+        if (targets == null) {
+            return;
+        }
+        for (Object root : roots) {
+            Object property = targets.get(idAccessor.getValue(root));
+            if (property != null) {
+                accessor.setValue(root, property);
+            }
+        }
+    }
+
+    /**
+     * Inclusion paths merged by their common segments, so a relationship shared by many paths is loaded once.
+     */
+    private static class InclusionNode {
+        private final Map<String, InclusionNode> children = new LinkedHashMap<>();
+
+        private void add(List<String> pathList) {
+            InclusionNode node = this;
+            for (String fieldName : pathList) {
+                InclusionNode child = node.children.get(fieldName);
+                if (child == null) {
+                    child = new InclusionNode();
+                    node.children.put(fieldName, child);
+                }
+                node = child;
+            }
         }
-        return resourceClass;
     }
 }
@@ -2,6 +2,9 @@ package io.katharsis.resource.information;
 
 import io.katharsis.resource.field.ResourceField;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -26,12 +29,20 @@ public final class ResourceInformation {
      */
     private final Set<ResourceField> relationshipFields;
 
+    /**
+     * Fields indexed by their JSON names, used to find fields named in requests.
+     */
+    private final Map<String, ResourceField> attributeFieldsByName;
+    private final Map<String, ResourceField> relationshipFieldsByName;
+
     public ResourceInformation(Class<?> resourceClass, ResourceField idField, Set<ResourceField> attributeFields,
         Set<ResourceField> relationshipFields) {
         this.resourceClass = resourceClass;
         this.idField = idField;
         this.attributeFields = attributeFields;
         this.relationshipFields = relationshipFields;
+        this.attributeFieldsByName = indexByJsonName(attributeFields);
+        this.relationshipFieldsByName = indexByJsonName(relationshipFields);
     }
 
     public Class<?> getResourceClass() {
@@ -51,22 +62,22 @@ public final class ResourceInformation {
     }
 
     public ResourceField findAttributeFieldByName(String name) {
-        return getJsonField(name, attributeFields);
+        return attributeFieldsByName.get(name);
     }
 
     public ResourceField findRelationshipFieldByName(String name) {
-        return getJsonField(name, relationshipFields);
+        return relationshipFieldsByName.get(name);
     }
 
-    private static ResourceField getJsonField(String name, Set<ResourceField> fields) {
-        ResourceField foundField = null;
+    private static Map<String, ResourceField> indexByJsonName(Set<ResourceField> fields) {
+        if (fields == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, ResourceField> fieldsByName = new HashMap<>();
         for (ResourceField field : fields) {
-            if (field.getJsonName().equals(name)) {
-                foundField = field;
-                break;
-            }
+            fieldsByName.putIfAbsent(field.getJsonName(), field);
         }
-        return foundField;
+        return fieldsByName;
     }
 
     @Override
@@ -4,11 +4,15 @@ import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.repository.ResourceRepository;
 import io.katharsis.repository.exception.RelationshipRepositoryNotFoundException;
+import io.katharsis.repository.instrumentation.RepositoryInstrumentation;
+import io.katharsis.resource.annotations.JsonApiResource;
 import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.registry.repository.*;
 
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -25,7 +29,9 @@ public class RegistryEntry<T> {
     private final ResourceInformation resourceInformation;
     private final ResourceEntry<T, ?> resourceEntry;
     private final List<RelationshipEntry<T, ?>> relationshipEntries;
+    private final Map<Class<?>, RelationshipEntry<T, ?>> relationshipEntriesByTarget;
     private RegistryEntry parentRegistryEntry = null;
+    private volatile RepositoryDecorations repositoryDecorations;
 
     public RegistryEntry(ResourceInformation resourceInformation,
                          @SuppressWarnings("SameParameterValue") ResourceEntry<T, ?> resourceEntry) {
@@ -38,6 +44,12 @@ public class RegistryEntry<T> {
         this.resourceInformation = resourceInformation;
         this.resourceEntry = resourceEntry;
         this.relationshipEntries = relationshipEntries;
+        this.relationshipEntriesByTarget = new IdentityHashMap<>();
+        if (relationshipEntries != null) {
+            for (RelationshipEntry<T, ?> relationshipEntry : relationshipEntries) {
+                relationshipEntriesByTarget.putIfAbsent(relationshipEntry.getTargetAffiliation(), relationshipEntry);
+            }
+        }
     }
 
     public ResourceRepository<T, ?> getResourceRepository(RepositoryMethodParameterProvider parameterProvider) {
@@ -47,7 +59,7 @@ public class RegistryEntry<T> {
         } else if (resourceEntry instanceof AnnotatedResourceEntryBuilder) {
             repoInstance = ((AnnotatedResourceEntryBuilder<T, ?>) resourceEntry).build(parameterProvider);
         }
-        return repoInstance;
+        return decorate(repoInstance);
     }
 
     public List<RelationshipEntry<T, ?>> getRelationshipEntries() {
@@ -55,12 +67,9 @@ public class RegistryEntry<T> {
     }
 
     public RelationshipRepository<T, ?, ?, ?> getRelationshipRepositoryForClass(Class clazz, RepositoryMethodParameterProvider parameterProvider) {
-        RelationshipEntry<T, ?> foundRelationshipEntry = null;
-        for (RelationshipEntry<T, ?> relationshipEntry : relationshipEntries) {
-            if (clazz == relationshipEntry.getTargetAffiliation()) {
-                foundRelationshipEntry = relationshipEntry;
-                break;
-            }
+        RelationshipEntry<T, ?> foundRelationshipEntry = relationshipEntriesByTarget.get(clazz);
+        if (foundRelationshipEntry == null) {
+            foundRelationshipEntry = findRelationshipEntry(clazz);
         }
         if (foundRelationshipEntry == null) {
             throw new RelationshipRepositoryNotFoundException(resourceInformation.getResourceClass(), clazz);
@@ -73,7 +82,71 @@ public class RegistryEntry<T> {
             repoInstance = ((AnnotatedRelationshipEntryBuilder<T, ?>) foundRelationshipEntry).build(parameterProvider);
         }
 
-        return repoInstance;
+        return decorate(repoInstance);
+    }
+
+    /**
+     * Scans the relationship entries, which may have been added to {@link #getRelationshipEntries()} after the
+     * entry was created.
+     */
+    private RelationshipEntry<T, ?> findRelationshipEntry(Class<?> clazz) {
+        for (RelationshipEntry<T, ?> relationshipEntry : relationshipEntries) {
+            if (clazz == relationshipEntry.getTargetAffiliation()) {
+                return relationshipEntry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Measures calls of the repositories returned by this entry. Repositories of direct entries and the adapters
+     * built without a parameter provider are wrapped once, other adapters are copied when they are returned.
+     *
+     * @param instrumentation instrumentation or <i>null</i> to return the repositories as they are
+     */
+    public void setRepositoryInstrumentation(RepositoryInstrumentation instrumentation) {
+        if (instrumentation == null) {
+            repositoryDecorations = null;
+            return;
+        }
+        String resourceType = getResourceType();
+        Map<Object, Object> directRepositories = new IdentityHashMap<>();
+        if (resourceEntry instanceof DirectResourceEntry) {
+            Object repository = ((DirectResourceEntry<T, ?>) resourceEntry).getResourceRepository();
+            directRepositories.put(repository, instrumentation.decorate(repository, resourceType));
+        } else if (resourceEntry instanceof AnnotatedResourceEntryBuilder) {
+            Object repository = ((AnnotatedResourceEntryBuilder<T, ?>) resourceEntry).build(null);
+            directRepositories.put(repository, instrumentation.decorate(repository, resourceType));
+        }
+        for (RelationshipEntry<T, ?> relationshipEntry : relationshipEntries) {
+            if (relationshipEntry instanceof DirectRelationshipEntry) {
+                Object repository = ((DirectRelationshipEntry<T, ?>) relationshipEntry).getRelationshipRepository();
+                directRepositories.put(repository, instrumentation.decorate(repository, resourceType));
+            } else if (relationshipEntry instanceof AnnotatedRelationshipEntryBuilder) {
+                Object repository = ((AnnotatedRelationshipEntryBuilder<T, ?>) relationshipEntry).build(null);
+                directRepositories.put(repository, instrumentation.decorate(repository, resourceType));
+            }
+        }
+        repositoryDecorations = new RepositoryDecorations(instrumentation, resourceType, directRepositories);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> R decorate(R repository) {
+        RepositoryDecorations decorations = repositoryDecorations;
+        if (decorations == null || repository == null) {
+            return repository;
+        }
+        Object directRepository = decorations.directRepositories.get(repository);
+        if (directRepository != null) {
+            return (R) directRepository;
+        }
+        return decorations.instrumentation.decorate(repository, decorations.resourceType);
+    }
+
+    private String getResourceType() {
+        JsonApiResource jsonApiResource = resourceInformation != null ?
+            resourceInformation.getResourceClass().getAnnotation(JsonApiResource.class) : null;
+        return jsonApiResource != null ? jsonApiResource.type() : null;
     }
 
     public ResourceInformation getResourceInformation() {
@@ -129,4 +202,17 @@ public class RegistryEntry<T> {
     public int hashCode() {
         return Objects.hash(resourceInformation, resourceEntry, relationshipEntries, parentRegistryEntry);
     }
+
+    private static final class RepositoryDecorations {
+        private final RepositoryInstrumentation instrumentation;
+        private final String resourceType;
+        private final Map<Object, Object> directRepositories;
+
+        private RepositoryDecorations(RepositoryInstrumentation instrumentation, String resourceType,
+                                      Map<Object, Object> directRepositories) {
+            this.instrumentation = instrumentation;
+            this.resourceType = resourceType;
+            this.directRepositories = directRepositories;
+        }
+    }
 }
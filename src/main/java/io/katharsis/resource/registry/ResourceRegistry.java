@@ -1,20 +1,34 @@
 package io.katharsis.resource.registry;
 
+import io.katharsis.repository.instrumentation.RepositoryInstrumentation;
 import io.katharsis.resource.annotations.JsonApiResource;
 import io.katharsis.resource.exception.init.ResourceNotFoundInitializationException;
 import io.katharsis.utils.ClassUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.annotation.Annotation;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 public class ResourceRegistry {
     private final Map<Class, RegistryEntry> resources = new HashMap<>();
+    private final Map<String, RegistryEntry> resourcesByType = new HashMap<>();
     private final String serviceUrl;
     private final Logger logger = LoggerFactory.getLogger(ResourceRegistry.class);
+    private RepositoryInstrumentation repositoryInstrumentation;
+
+    /**
+     * Memoized resource class, type and URL of every class passed to the registry, so the class hierarchy and its
+     * annotations are inspected only once per class.
+     */
+    private final ClassValue<ResourceClassInformation> resourceClassInformation =
+        new ClassValue<ResourceClassInformation>() {
+            @Override
+            protected ResourceClassInformation computeValue(Class<?> type) {
+                return new ResourceClassInformation(ClassUtils.getJsonApiResourceClass(type), serviceUrl);
+            }
+        };
 
     public ResourceRegistry(String serviceUrl) {
         this.serviceUrl = serviceUrl;
@@ -28,6 +42,13 @@ public class ResourceRegistry {
      */
     public <T> void addEntry(Class<T> resource, RegistryEntry<? extends T> registryEntry) {
         resources.put(resource, registryEntry);
+        if (repositoryInstrumentation != null) {
+            registryEntry.setRepositoryInstrumentation(repositoryInstrumentation);
+        }
+        String resourceType = getResourceType(resource);
+        if (resourceType != null) {
+            resourcesByType.put(resourceType, registryEntry);
+        }
         logger.debug("Added resource {} to ResourceRegistry", resource.getName());
     }
 
@@ -39,13 +60,7 @@ public class ResourceRegistry {
      * @return registry entry or <i>null</i>
      */
     public RegistryEntry getEntry(String searchType) {
-        for (Map.Entry<Class, RegistryEntry> entry : resources.entrySet()) {
-            String type = getResourceType(entry.getKey());
-            if (type.equals(searchType)) {
-                return entry.getValue();
-            }
-        }
-        return null;
+        return resourcesByType.get(searchType);
     }
 
     /**
@@ -57,7 +72,7 @@ public class ResourceRegistry {
      * @return registry entry
      */
     public RegistryEntry getEntry(Class clazz) {
-        Class resourceClazz = ClassUtils.getJsonApiResourceClass(clazz);
+        Class<?> resourceClazz = resourceClassInformation.get(clazz).resourceClass;
         if (resourceClazz == null) {
             throw new ResourceNotFoundInitializationException(clazz.getCanonicalName());
         }
@@ -76,23 +91,27 @@ public class ResourceRegistry {
      * @return resource type or null
      */
     public String getResourceType(Class clazz) {
-        Class resourceClazz = ClassUtils.getJsonApiResourceClass(clazz);
-        if (resourceClazz == null) {
-            return null;
-        }
-        Annotation[] annotations = resourceClazz.getAnnotations();
-        for (Annotation annotation : annotations) {
-            if (annotation instanceof JsonApiResource) {
-                JsonApiResource apiResource = (JsonApiResource) annotation;
-                return apiResource.type();
-            }
-        }
-        // won't reach this
-        return null;
+        return resourceClassInformation.get(clazz).resourceType;
     }
 
     public String getResourceUrl(Class clazz) {
-        return serviceUrl + "/" + getResourceType(clazz);
+        return resourceClassInformation.get(clazz).resourceUrl;
+    }
+
+    /**
+     * Measures calls of the repositories of all registered resources and of resources registered later.
+     *
+     * @param repositoryInstrumentation instrumentation or <i>null</i> to stop measuring the calls
+     */
+    public void setRepositoryInstrumentation(RepositoryInstrumentation repositoryInstrumentation) {
+        this.repositoryInstrumentation = repositoryInstrumentation;
+        for (RegistryEntry registryEntry : resources.values()) {
+            registryEntry.setRepositoryInstrumentation(repositoryInstrumentation);
+        }
+    }
+
+    public RepositoryInstrumentation getRepositoryInstrumentation() {
+        return repositoryInstrumentation;
     }
 
     public String getServiceUrl() {
@@ -106,4 +125,16 @@ public class ResourceRegistry {
     public Map<Class, RegistryEntry> getResources() {
         return Collections.unmodifiableMap(resources);
     }
+
+    private static class ResourceClassInformation {
+        private final Class<?> resourceClass;
+        private final String resourceType;
+        private final String resourceUrl;
+
+        private ResourceClassInformation(Class<?> resourceClass, String serviceUrl) {
+            this.resourceClass = resourceClass;
+            this.resourceType = resourceClass != null ? resourceClass.getAnnotation(JsonApiResource.class).type() : null;
+            this.resourceUrl = serviceUrl + "/" + resourceType;
+        }
+    }
 }
@@ -11,13 +11,31 @@ import io.katharsis.utils.java.Optional;
 public class AnnotatedRelationshipEntryBuilder<T, D> implements RelationshipEntry<T, D> {
 
     private Object repositoryInstance;
+    private volatile Class<?> targetAffiliation;
+    private final RelationshipRepositoryAdapter<T, ?, ?, ?> defaultAdapter;
 
+    /**
+     * Resolves the annotated methods of the repository, so adapters built for the requests don't scan the class,
+     * and builds the adapter used when no parameter provider is given.
+     *
+     * @param repositoryInstance annotated repository
+     */
     public AnnotatedRelationshipEntryBuilder(Object repositoryInstance) {
         this.repositoryInstance = repositoryInstance;
+        this.defaultAdapter = new RelationshipRepositoryAdapter<>(repositoryInstance, new ParametersFactory(null));
     }
 
     @Override
     public Class<?> getTargetAffiliation() {
+        Class<?> affiliation = targetAffiliation;
+        if (affiliation == null) {
+            affiliation = resolveTargetAffiliation();
+            targetAffiliation = affiliation;
+        }
+        return affiliation;
+    }
+
+    private Class<?> resolveTargetAffiliation() {
         final Optional<JsonApiRelationshipRepository> annotation = ClassUtils.getAnnotation(
                 repositoryInstance.getClass(),
                 JsonApiRelationshipRepository.class
@@ -35,7 +53,17 @@ public class AnnotatedRelationshipEntryBuilder<T, D> implements RelationshipEntr
         }
     }
 
+    /**
+     * Returns an adapter calling the repository with parameters of the provider. Without a provider the adapter
+     * built with the entry is returned, otherwise a new adapter is built for each call.
+     *
+     * @param parameterProvider provider of additional repository method parameters
+     * @return adapter of the repository
+     */
     public RelationshipRepository<T, ?, ?, ?> build(RepositoryMethodParameterProvider parameterProvider) {
+        if (parameterProvider == null) {
+            return defaultAdapter;
+        }
         return new RelationshipRepositoryAdapter<>(repositoryInstance, new ParametersFactory(parameterProvider));
     }
 
@@ -9,12 +9,30 @@ import java.io.Serializable;
 
 public class AnnotatedResourceEntryBuilder<T, ID extends Serializable> implements ResourceEntry<T, ID> {
     private final Object repositoryImplementation;
+    private final ResourceRepositoryAdapter<T, ?> defaultAdapter;
 
+    /**
+     * Resolves the annotated methods of the repository, so adapters built for the requests don't scan the class,
+     * and builds the adapter used when no parameter provider is given.
+     *
+     * @param repositoryImplementation annotated repository
+     */
     public AnnotatedResourceEntryBuilder(Object repositoryImplementation) {
         this.repositoryImplementation = repositoryImplementation;
+        this.defaultAdapter = new ResourceRepositoryAdapter<>(repositoryImplementation, new ParametersFactory(null));
     }
 
+    /**
+     * Returns an adapter calling the repository with parameters of the provider. Without a provider the adapter
+     * built with the entry is returned, otherwise a new adapter is built for each call.
+     *
+     * @param parameterProvider provider of additional repository method parameters
+     * @return adapter of the repository
+     */
     public ResourceRepository<T, ?> build(RepositoryMethodParameterProvider parameterProvider) {
+        if (parameterProvider == null) {
+            return defaultAdapter;
+        }
         return new ResourceRepositoryAdapter<>(repositoryImplementation, new ParametersFactory(parameterProvider));
     }
 
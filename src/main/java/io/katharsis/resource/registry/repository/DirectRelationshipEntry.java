@@ -6,6 +6,7 @@ import net.jodah.typetools.TypeResolver;
 public class DirectRelationshipEntry<T, D> implements RelationshipEntry<T, D> {
 
     private RelationshipRepository relationshipRepository;
+    private volatile Class<?> targetAffiliation;
 
     public DirectRelationshipEntry(RelationshipRepository relationshipRepository) {
         this.relationshipRepository = relationshipRepository;
@@ -13,9 +14,14 @@ public class DirectRelationshipEntry<T, D> implements RelationshipEntry<T, D> {
 
     @Override
     public Class<?> getTargetAffiliation() {
-        Class<?>[] typeArgs = TypeResolver
-            .resolveRawArguments(RelationshipRepository.class, relationshipRepository.getClass());
-        return typeArgs[RelationshipRepository.TARGET_TYPE_GENERIC_PARAMETER_IDX];
+        Class<?> affiliation = targetAffiliation;
+        if (affiliation == null) {
+            Class<?>[] typeArgs = TypeResolver
+                .resolveRawArguments(RelationshipRepository.class, relationshipRepository.getClass());
+            affiliation = typeArgs[RelationshipRepository.TARGET_TYPE_GENERIC_PARAMETER_IDX];
+            targetAffiliation = affiliation;
+        }
+        return affiliation;
     }
 
     public RelationshipRepository getRelationshipRepository() {
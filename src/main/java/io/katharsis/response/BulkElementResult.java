@@ -0,0 +1,114 @@
+package io.katharsis.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.katharsis.errorhandling.ErrorData;
+import io.katharsis.errorhandling.ErrorResponse;
+import io.katharsis.errorhandling.exception.KatharsisMappableException;
+import io.katharsis.errorhandling.exception.KatharsisMatchingException;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
+import io.katharsis.errorhandling.mapper.JsonApiExceptionMapper;
+import io.katharsis.utils.java.Optional;
+
+/**
+ * Outcome of a single element of a bulk request, written to the <i>results</i> array of the response's meta object.
+ *
+ * @see BulkResponse
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public final class BulkElementResult {
+
+    private static final String NOT_FOUND_DETAIL = "Resource not found";
+    private static final String MALFORMED_VALUE_DETAIL = "Malformed value";
+    private static final String INTERNAL_ERROR_DETAIL = "Internal server error";
+
+    private final int index;
+    private final String id;
+    private final int status;
+    private final String detail;
+
+    public BulkElementResult(int index, String id, int status, String detail) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.detail = detail;
+    }
+
+    /**
+     * Creates the result of an element which has been processed.
+     *
+     * @param index  position of the element in the request
+     * @param id     identifier of the resource
+     * @param status HTTP status of the element
+     * @return successful result
+     */
+    public static BulkElementResult success(int index, String id, int status) {
+        return new BulkElementResult(index, id, status, null);
+    }
+
+    /**
+     * Creates the result of an element which couldn't be processed. An exception with a mapper in the registry gets
+     * the status and detail of the mapped error. Otherwise the status is taken from
+     * {@link KatharsisMappableException}, {@link KatharsisMatchingException} results in 404, a malformed JSON value
+     * results in 400 and any other exception in 500. Messages of unmapped exceptions other than
+     * {@link KatharsisMappableException} are not sent to the client.
+     *
+     * @param index                   position of the element in the request
+     * @param id                      identifier sent in the element or <i>null</i>
+     * @param exception               cause of the failure
+     * @param exceptionMapperRegistry registry of the exception mappers or <i>null</i>
+     * @return failed result
+     */
+    public static BulkElementResult failure(int index, String id, Exception exception,
+                                            ExceptionMapperRegistry exceptionMapperRegistry) {
+        if (exceptionMapperRegistry != null) {
+            Optional<JsonApiExceptionMapper> exceptionMapper =
+                exceptionMapperRegistry.findMapperFor(exception.getClass());
+            if (exceptionMapper.isPresent()) {
+                //noinspection unchecked
+                ErrorResponse errorResponse = exceptionMapper.get().toErrorResponse(exception);
+                return new BulkElementResult(index, id, errorResponse.getHttpStatus(), getDetail(errorResponse));
+            }
+        }
+        if (exception instanceof KatharsisMappableException) {
+            return new BulkElementResult(index, id, ((KatharsisMappableException) exception).getHttpStatus(),
+                exception.getMessage());
+        } else if (exception instanceof KatharsisMatchingException) {
+            return new BulkElementResult(index, id, HttpStatus.NOT_FOUND_404, NOT_FOUND_DETAIL);
+        } else if (exception instanceof JsonProcessingException) {
+            return new BulkElementResult(index, id, HttpStatus.BAD_REQUEST_400, MALFORMED_VALUE_DETAIL);
+        }
+        return new BulkElementResult(index, id, HttpStatus.INTERNAL_SERVER_ERROR_500, INTERNAL_ERROR_DETAIL);
+    }
+
+    private static String getDetail(ErrorResponse errorResponse) {
+        if (errorResponse.getData() != null) {
+            for (ErrorData errorData : errorResponse.getData()) {
+                return errorData.getDetail() != null ? errorData.getDetail() : errorData.getTitle();
+            }
+        }
+        return null;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    @JsonIgnore
+    public boolean isSuccessful() {
+        return status < HttpStatus.BAD_REQUEST_400;
+    }
+}
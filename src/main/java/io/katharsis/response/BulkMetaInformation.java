@@ -0,0 +1,21 @@
+package io.katharsis.response;
+
+import java.util.List;
+
+/**
+ * Meta object of a bulk response with the result of each element of the request, in the order of the request.
+ *
+ * @see BulkResponse
+ */
+public final class BulkMetaInformation implements MetaInformation {
+
+    private final List<BulkElementResult> results;
+
+    public BulkMetaInformation(List<BulkElementResult> results) {
+        this.results = results;
+    }
+
+    public List<BulkElementResult> getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,47 @@
+package io.katharsis.response;
+
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.request.path.JsonPath;
+
+import java.util.List;
+
+/**
+ * Response of a bulk request, which creates, updates or deletes an array of resources sent to a collection URL. The
+ * data value contains the resources which have been saved and the meta object reports the result of each element:
+ * <pre>
+ * {@code
+ * {
+ *   data: [],
+ *   meta: {
+ *     results: [{index: 0, id: "1", status: 201}, {index: 1, status: 409, detail: "..."}]
+ *   }
+ * }
+ * }
+ * </pre>
+ * The response has the status of a successful element if all of the elements succeeded and
+ * {@link HttpStatus#MULTI_STATUS_207} otherwise.
+ */
+public class BulkResponse extends CollectionResponse {
+
+    private final int successStatus;
+
+    public BulkResponse(Iterable data, JsonPath jsonPath, QueryParams queryParams, List<BulkElementResult> results,
+                        LinksInformation linksInformation, int successStatus) {
+        super(data, jsonPath, queryParams, new BulkMetaInformation(results), linksInformation);
+        this.successStatus = successStatus;
+    }
+
+    @Override
+    public int getHttpStatus() {
+        for (BulkElementResult result : getResults()) {
+            if (!result.isSuccessful()) {
+                return HttpStatus.MULTI_STATUS_207;
+            }
+        }
+        return successStatus;
+    }
+
+    public List<BulkElementResult> getResults() {
+        return ((BulkMetaInformation) getMetaInformation()).getResults();
+    }
+}
@@ -15,8 +15,10 @@ import java.util.Objects;
  * }
  * }
  * </pre>
+ * A response with {@link StreamedCollection} data holds an open repository stream until it's serialized, so a
+ * response which isn't serialized has to be closed.
  */
-public class CollectionResponse implements BaseResponse<Iterable> {
+public class CollectionResponse implements BaseResponse<Iterable>, AutoCloseable {
 
     private Iterable data;
 
@@ -74,6 +76,16 @@ public class CollectionResponse implements BaseResponse<Iterable> {
         this.data = data;
     }
 
+    /**
+     * Releases the repository stream of {@link StreamedCollection} data. Serializing the response closes it too.
+     */
+    @Override
+    public void close() {
+        if (data instanceof StreamedCollection) {
+            ((StreamedCollection) data).close();
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
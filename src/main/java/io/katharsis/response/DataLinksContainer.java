@@ -1,6 +1,7 @@
 package io.katharsis.response;
 
 import io.katharsis.jackson.serializer.DataLinksContainerSerializer;
+import io.katharsis.queryParams.RenderPlan;
 import io.katharsis.queryParams.params.IncludedRelationsParams;
 import io.katharsis.resource.field.ResourceField;
 
@@ -25,11 +26,17 @@ public class DataLinksContainer {
     private final Object data;
     private final Set<ResourceField> relationshipFields;
     private final IncludedRelationsParams includedRelations;
+    private final RenderPlan.TypePlan typePlan;
 
     public DataLinksContainer(Object data, Set<ResourceField> relationshipFields, IncludedRelationsParams includedRelations) {
+        this(data, relationshipFields, RenderPlan.TypePlan.forInclusions(includedRelations));
+    }
+
+    public DataLinksContainer(Object data, Set<ResourceField> relationshipFields, RenderPlan.TypePlan typePlan) {
         this.data = data;
         this.relationshipFields = relationshipFields;
-        this.includedRelations = includedRelations;
+        this.includedRelations = typePlan.getIncludedRelations();
+        this.typePlan = typePlan;
     }
 
     public Object getData() {
@@ -44,6 +51,10 @@ public class DataLinksContainer {
         return includedRelations;
     }
 
+    public RenderPlan.TypePlan getTypePlan() {
+        return typePlan;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -5,6 +5,7 @@ public interface HttpStatus {
     int OK_200 = 200;
     int CREATED_201 = 201;
     int NO_CONTENT_204 = 204;
+    int MULTI_STATUS_207 = 207;
     int NOT_FOUND_404 = 404;
     int BAD_REQUEST_400 = 400;
     int FORBIDDEN_403 = 403;
@@ -0,0 +1,53 @@
+package io.katharsis.response;
+
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.request.path.JsonPath;
+
+import java.util.List;
+
+/**
+ * Response of an atomic operations request with the responses of the operations, in the order of the request. An
+ * operation without content has a <i>null</i> response.
+ *
+ * @see io.katharsis.dispatcher.OperationsDispatcher
+ */
+public class OperationsResponse implements BaseResponse<List<BaseResponse<?>>> {
+
+    public static final String RESULTS = "atomic:results";
+
+    private final List<BaseResponse<?>> results;
+
+    public OperationsResponse(List<BaseResponse<?>> results) {
+        this.results = results;
+    }
+
+    @Override
+    public int getHttpStatus() {
+        return HttpStatus.OK_200;
+    }
+
+    @Override
+    public List<BaseResponse<?>> getData() {
+        return results;
+    }
+
+    @Override
+    public JsonPath getJsonPath() {
+        return null;
+    }
+
+    @Override
+    public QueryParams getQueryParams() {
+        return null;
+    }
+
+    @Override
+    public MetaInformation getMetaInformation() {
+        return null;
+    }
+
+    @Override
+    public LinksInformation getLinksInformation() {
+        return null;
+    }
+}
@@ -0,0 +1,35 @@
+package io.katharsis.response;
+
+import java.util.Iterator;
+
+/**
+ * Data of a {@link CollectionResponse} whose elements are produced while the response is written. It can be iterated
+ * only once and it must be closed afterwards to release the underlying resource, which is done by
+ * {@link io.katharsis.jackson.serializer.BaseResponseSerializer}.
+ */
+public class StreamedCollection implements Iterable<Object>, AutoCloseable {
+
+    private final Iterator<?> iterator;
+    private final Runnable onClose;
+    private boolean iterated;
+
+    public StreamedCollection(Iterator<?> iterator, Runnable onClose) {
+        this.iterator = iterator;
+        this.onClose = onClose;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<Object> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("Streamed collection can be iterated only once");
+        }
+        iterated = true;
+        return (Iterator<Object>) iterator;
+    }
+
+    @Override
+    public void close() {
+        onClose.run();
+    }
+}
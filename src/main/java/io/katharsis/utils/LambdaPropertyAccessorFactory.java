@@ -0,0 +1,87 @@
+package io.katharsis.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Default {@link PropertyAccessorFactory}. Getters and setters are turned into {@link Function} and
+ * {@link BiConsumer} instances generated by {@link LambdaMetafactory}, which the JIT can inline like a direct method
+ * call.
+ * <p>
+ * Generated classes can only link to public methods of public classes visible from the class loader of Katharsis.
+ * Fields and all other methods are accessed using {@link ReflectionPropertyAccessorFactory}.
+ * </p>
+ */
+public class LambdaPropertyAccessorFactory implements PropertyAccessorFactory {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LambdaPropertyAccessorFactory.class);
+
+    private static final MethodType GETTER_FACTORY_TYPE = MethodType.methodType(Function.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_FACTORY_TYPE = MethodType.methodType(BiConsumer.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    private final PropertyAccessorFactory fallback = new ReflectionPropertyAccessorFactory();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Function<Object, Object> createGetter(Member member) {
+        if (isLinkable(member)) {
+            try {
+                MethodHandle handle = lookup.unreflect((Method) member);
+                CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply", GETTER_FACTORY_TYPE,
+                    GETTER_TYPE, handle, handle.type().wrap());
+                return (Function<Object, Object>) callSite.getTarget().invoke();
+            } catch (Throwable e) {
+                LOGGER.debug("Couldn't create a getter lambda for " + member + ", using reflection", e);
+            }
+        }
+        return fallback.createGetter(member);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public BiConsumer<Object, Object> createSetter(Member member) {
+        if (isLinkable(member)) {
+            try {
+                MethodHandle handle = lookup.unreflect((Method) member);
+                CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept", SETTER_FACTORY_TYPE,
+                    SETTER_TYPE, handle, handle.type().wrap().changeReturnType(void.class));
+                return (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+            } catch (Throwable e) {
+                LOGGER.debug("Couldn't create a setter lambda for " + member + ", using reflection", e);
+            }
+        }
+        return fallback.createSetter(member);
+    }
+
+    private static boolean isLinkable(Member member) {
+        if (!(member instanceof Method) || Modifier.isStatic(member.getModifiers())) {
+            return false;
+        }
+        Class<?> declaringClass = member.getDeclaringClass();
+        return Modifier.isPublic(member.getModifiers())
+            && Modifier.isPublic(declaringClass.getModifiers())
+            && isVisible(declaringClass);
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, LambdaPropertyAccessorFactory.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
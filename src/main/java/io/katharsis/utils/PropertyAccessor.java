@@ -0,0 +1,222 @@
+package io.katharsis.utils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Resolved way of reading and writing a single property of a class. The lookup rules are the same as described in
+ * {@link PropertyUtils}, but they are applied only once when an accessor is created by
+ * {@link PropertyAccessorRegistry}. Found members are turned into functions by a {@link PropertyAccessorFactory}.
+ */
+public final class PropertyAccessor {
+
+    private final Class<?> beanClass;
+    private final String name;
+    private final Field field;
+    private final Class<?> type;
+
+    private final Function<Object, Object> reader;
+    private final NoSuchMethodException readFailure;
+
+    private final BiConsumer<Object, Object> writer;
+    private final Class<?> writeType;
+    private final NoSuchMethodException writeFailure;
+
+    PropertyAccessor(Class<?> beanClass, String name, PropertyAccessorFactory accessorFactory) {
+        this.beanClass = beanClass;
+        this.name = name;
+        this.field = ClassUtils.findClassField(beanClass, name);
+
+        Member readMember = null;
+        NoSuchMethodException readFailure = null;
+        Member writeMember = null;
+        Class<?> writeType = null;
+        NoSuchMethodException writeFailure = null;
+
+        if (field != null) {
+            if (Modifier.isPublic(field.getModifiers())) {
+                readMember = field;
+                writeMember = field;
+                writeType = field.getType();
+            } else {
+                try {
+                    readMember = getGetter(beanClass, name);
+                } catch (NoSuchMethodException e) {
+                    readFailure = e;
+                }
+                try {
+                    Method setter = getSetter(beanClass, name, field.getType());
+                    writeMember = setter;
+                    writeType = setter.getParameterTypes()[0];
+                } catch (NoSuchMethodException e) {
+                    writeFailure = e;
+                }
+            }
+        } else {
+            Method getter = findGetter(beanClass, name);
+            if (getter != null) {
+                readMember = getter;
+                try {
+                    Method setter = getSetter(beanClass, name, getter.getReturnType());
+                    writeMember = setter;
+                    writeType = setter.getParameterTypes()[0];
+                } catch (NoSuchMethodException e) {
+                    writeFailure = e;
+                }
+            }
+        }
+
+        this.type = field != null ? field.getType() :
+            (readMember != null ? ((Method) readMember).getReturnType() : null);
+        this.reader = readMember != null ? accessorFactory.createGetter(readMember) : null;
+        this.readFailure = readFailure;
+        this.writer = writeMember != null ? accessorFactory.createSetter(writeMember) : null;
+        this.writeType = writeType;
+        this.writeFailure = writeFailure;
+    }
+
+    /**
+     * @return name of the property
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return class the accessor has been resolved for
+     */
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * @return a field with the name of the property regardless of its visibility or <i>null</i> if the property is
+     * only defined by a getter
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * @return type of the field or the return type of the getter of the property, <i>null</i> if the property is
+     * not resolved
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return <i>true</i> if either a field or a getter exists for the property
+     */
+    public boolean isResolved() {
+        return field != null || reader != null;
+    }
+
+    /**
+     * Get bean's property value.
+     *
+     * @param bean bean to be accessed, must be an instance of {@link #getBeanClass()}
+     * @return bean's property value
+     */
+    public Object getValue(Object bean) {
+        if (reader == null) {
+            throw missingAccessor(readFailure, "Cannot find an getter for %s.%s");
+        }
+        try {
+            return reader.apply(bean);
+        } catch (PropertyException e) {
+            throw new PropertyException(e.getCause(), beanClass, name);
+        } catch (RuntimeException e) {
+            throw new PropertyException(e, beanClass, name);
+        }
+    }
+
+    /**
+     * Set bean's property value.
+     *
+     * @param bean  bean to be accessed, must be an instance of {@link #getBeanClass()}
+     * @param value value to be set
+     */
+    public void setValue(Object bean, Object value) {
+        if (writer == null) {
+            throw missingAccessor(writeFailure, "Cannot find a getter for %s.%s");
+        }
+        try {
+            writer.accept(bean, prepareValue(value, writeType));
+        } catch (PropertyException e) {
+            throw new PropertyException(e.getCause(), beanClass, name);
+        } catch (RuntimeException e) {
+            throw new PropertyException(e, beanClass, name);
+        }
+    }
+
+    private PropertyException missingAccessor(NoSuchMethodException failure, String messageFormat) {
+        if (failure != null) {
+            return new PropertyException(failure, beanClass, name);
+        }
+        String message = String.format(messageFormat, beanClass.getCanonicalName(), name);
+        return new PropertyException(message, beanClass, name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object prepareValue(Object value, Class<?> fieldClass) {
+        if (Set.class.isAssignableFrom(fieldClass) && value instanceof List) {
+            List listValue = (List) value;
+            Set setValue = new HashSet<>(listValue.size());
+            setValue.addAll(listValue);
+            return setValue;
+        } else if (List.class.isAssignableFrom(fieldClass) && value instanceof Set) {
+            return new LinkedList<>((Set) value);
+        }
+        return value;
+    }
+
+    private static Method findGetter(Class<?> beanClass, String fieldName) {
+        List<Method> classGetters = ClassUtils.getClassGetters(beanClass);
+
+        for (Method getter : classGetters) {
+            String getterFieldName = getGetterFieldName(getter);
+            if (getterFieldName.equals(fieldName)) {
+                return getter;
+            }
+        }
+        return null;
+    }
+
+    private static String getGetterFieldName(Method getter) {
+        if (isBoolean(getter.getReturnType())) {
+            return getter.getName().substring(2, 3).toLowerCase() + getter.getName().substring(3);
+        } else {
+            return getter.getName().substring(3, 4).toLowerCase() + getter.getName().substring(4);
+        }
+    }
+
+    private static boolean isBoolean(Class<?> returnType) {
+        return boolean.class.equals(returnType) || Boolean.class.equals(returnType);
+    }
+
+    private static Method getGetter(Class<?> beanClass, String fieldName) throws NoSuchMethodException {
+        String upperCaseName = fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+
+        try {
+            return beanClass.getMethod("get" + upperCaseName);
+        } catch (NoSuchMethodException e) {
+            return beanClass.getMethod("is" + upperCaseName);
+        }
+    }
+
+    private static Method getSetter(Class<?> beanClass, String fieldName, Class<?> fieldType)
+        throws NoSuchMethodException {
+        String upperCaseName = fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+
+        return beanClass.getMethod("set" + upperCaseName, fieldType);
+    }
+}
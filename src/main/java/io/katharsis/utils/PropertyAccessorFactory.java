@@ -0,0 +1,36 @@
+package io.katharsis.utils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Creates functions which read and write resolved bean properties. Each {@link PropertyAccessor} asks the factory
+ * once for a getter and a setter, so implementations can spend more time on creation to make invocations cheaper.
+ * <p>
+ * The factory used by {@link PropertyAccessorRegistry} is looked up using {@link java.util.ServiceLoader}, that is
+ * an implementation can be provided by registering it in
+ * <i>META-INF/services/io.katharsis.utils.PropertyAccessorFactory</i>. If none is registered,
+ * {@link LambdaPropertyAccessorFactory} is used.
+ * </p>
+ */
+public interface PropertyAccessorFactory {
+
+    /**
+     * Creates a function returning a value of a property.
+     *
+     * @param member a public {@link Field} or a getter {@link Method}
+     * @return function accepting a bean and returning the property value
+     */
+    Function<Object, Object> createGetter(Member member);
+
+    /**
+     * Creates a function assigning a value to a property.
+     *
+     * @param member a public {@link Field} or a setter {@link Method}
+     * @return function accepting a bean and a value to be set
+     */
+    BiConsumer<Object, Object> createSetter(Member member);
+}
@@ -0,0 +1,67 @@
+package io.katharsis.utils;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps resolved {@link PropertyAccessor} instances per class and property name, so reflection lookups of fields
+ * and methods are made only once for each property.
+ * <p>
+ * Functions reading and writing the properties are created by a {@link PropertyAccessorFactory} found using
+ * {@link ServiceLoader}, or {@link LambdaPropertyAccessorFactory} if none is registered.
+ * </p>
+ * <p>
+ * Only accessors of existing properties are kept. Lookups of unknown properties are resolved on each call, which
+ * prevents the cache from growing with names coming from a request.
+ * </p>
+ */
+public final class PropertyAccessorRegistry {
+
+    private static final ClassValue<ConcurrentMap<String, PropertyAccessor>> ACCESSORS =
+        new ClassValue<ConcurrentMap<String, PropertyAccessor>>() {
+            @Override
+            protected ConcurrentMap<String, PropertyAccessor> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    private static final PropertyAccessorFactory ACCESSOR_FACTORY = loadAccessorFactory();
+
+    private PropertyAccessorRegistry() {
+    }
+
+    private static PropertyAccessorFactory loadAccessorFactory() {
+        ServiceLoader<PropertyAccessorFactory> serviceLoader = ServiceLoader
+            .load(PropertyAccessorFactory.class, PropertyAccessorRegistry.class.getClassLoader());
+        Iterator<PropertyAccessorFactory> factories = serviceLoader.iterator();
+        if (factories.hasNext()) {
+            return factories.next();
+        }
+        return new LambdaPropertyAccessorFactory();
+    }
+
+    /**
+     * Returns an accessor of a property. If the property doesn't exist, an accessor is still returned, but all
+     * of its read and write operations throw {@link PropertyException}.
+     *
+     * @param beanClass class which contains the property
+     * @param name      name of the property
+     * @return property accessor
+     */
+    public static PropertyAccessor getAccessor(Class<?> beanClass, String name) {
+        ConcurrentMap<String, PropertyAccessor> classAccessors = ACCESSORS.get(beanClass);
+        PropertyAccessor accessor = classAccessors.get(name);
+        if (accessor == null) {
+            accessor = new PropertyAccessor(beanClass, name, ACCESSOR_FACTORY);
+            if (accessor.isResolved()) {
+                PropertyAccessor existing = classAccessors.putIfAbsent(name, accessor);
+                if (existing != null) {
+                    accessor = existing;
+                }
+            }
+        }
+        return accessor;
+    }
+}
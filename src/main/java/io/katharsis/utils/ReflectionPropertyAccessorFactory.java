@@ -0,0 +1,61 @@
+package io.katharsis.utils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Accesses properties using {@link Field#get(Object)} and {@link Method#invoke(Object, Object...)}. It works for
+ * every accessible member, so it is used whenever a faster way of access cannot be created.
+ */
+public class ReflectionPropertyAccessorFactory implements PropertyAccessorFactory {
+
+    @Override
+    public Function<Object, Object> createGetter(Member member) {
+        if (member instanceof Field) {
+            Field field = (Field) member;
+            return bean -> {
+                try {
+                    return field.get(bean);
+                } catch (IllegalAccessException e) {
+                    throw new PropertyException(e, field.getDeclaringClass(), field.getName());
+                }
+            };
+        } else {
+            Method getter = (Method) member;
+            return bean -> {
+                try {
+                    return getter.invoke(bean);
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new PropertyException(e, getter.getDeclaringClass(), getter.getName());
+                }
+            };
+        }
+    }
+
+    @Override
+    public BiConsumer<Object, Object> createSetter(Member member) {
+        if (member instanceof Field) {
+            Field field = (Field) member;
+            return (bean, value) -> {
+                try {
+                    field.set(bean, value);
+                } catch (IllegalAccessException e) {
+                    throw new PropertyException(e, field.getDeclaringClass(), field.getName());
+                }
+            };
+        } else {
+            Method setter = (Method) member;
+            return (bean, value) -> {
+                try {
+                    setter.invoke(bean, value);
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new PropertyException(e, setter.getDeclaringClass(), setter.getName());
+                }
+            };
+        }
+    }
+}
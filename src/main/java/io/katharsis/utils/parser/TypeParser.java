@@ -1,11 +1,15 @@
 package io.katharsis.utils.parser;
 
 import java.io.Serializable;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,10 +29,23 @@ import java.util.List;
  *     <li>{@link java.util.UUID}</li>
  *     <li>An {@link Enum}</li>
  *     <li>A class with a {@link String} only constructor</li>
+ *     <li>A class with a static <i>valueOf(String)</i>, <i>of(String)</i> or <i>parse(CharSequence)</i> factory
+ *     method, e.g. the {@link java.time} types</li>
  * </ol>
+ * The parser of a class is resolved once and cached, so {@link StandardTypeParsers#parsers} registered after the first
+ * parse to a class don't apply to it.
  */
 public class TypeParser {
 
+    private static final MethodType PARSER_TYPE = MethodType.methodType(Object.class, String.class);
+
+    private static final ClassValue<StandardTypeParser> PARSERS = new ClassValue<StandardTypeParser>() {
+        @Override
+        protected StandardTypeParser computeValue(Class<?> clazz) {
+            return createParser(clazz);
+        }
+    };
+
     /**
      * Parses an {@link Iterable} of String instances to {@link Iterable} of parsed values.
      * @param inputs list of Strings
@@ -36,10 +53,13 @@ public class TypeParser {
      * @param <T> type of class
      * @return {@link Iterable} of parsed values
      */
+    @SuppressWarnings("unchecked")
     public <T extends Serializable> Iterable<T> parse(Iterable<String> inputs, Class<T> clazz) {
-        List<T> parsedValues = new LinkedList<>();
+        StandardTypeParser parser = PARSERS.get(clazz);
+        List<T> parsedValues = inputs instanceof Collection ?
+            new ArrayList<>(((Collection) inputs).size()) : new ArrayList<>();
         for (String input : inputs) {
-            parsedValues.add(parse(input, clazz));
+            parsedValues.add((T) parse(parser, input));
         }
 
         return parsedValues;
@@ -52,48 +72,79 @@ public class TypeParser {
      * @param <T> type of class
      * @return instance of parsed value
      */
+    @SuppressWarnings("unchecked")
     public <T extends Serializable> T parse(String input, Class<T> clazz) {
+        return (T) parse(PARSERS.get(clazz), input);
+    }
+
+    private static Object parse(StandardTypeParser parser, String input) {
         try {
-            return parseInput(input, clazz);
-        } catch (InvocationTargetException | InstantiationException | IllegalAccessException | NoSuchMethodException |
-                NumberFormatException | ParserException
-                e) {
+            return parser.parse(input);
+        } catch (NumberFormatException | ParserException e) {
             throw new ParserException(e.getMessage());
         }
     }
 
     @SuppressWarnings("unchecked")
-    private <T extends Serializable> T parseInput(String input, Class<T> clazz)
-            throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
-        T parsedValue;
+    private static StandardTypeParser createParser(Class<?> clazz) {
         if (String.class.equals(clazz)) {
-            parsedValue = (T) input;
+            return input -> input;
         } else if (StandardTypeParsers.parsers.containsKey(clazz)) {
-            StandardTypeParser standardTypeParser = StandardTypeParsers.parsers.get(clazz);
-
-            parsedValue = (T) standardTypeParser.parse(input);
-        } else if (isEnum(clazz)) {
-            parsedValue = (T) Enum.valueOf((Class<Enum>)clazz.asSubclass(Enum.class), input.trim());
-        } else if (containsStringConstructor(clazz)) {
-            parsedValue = clazz.getDeclaredConstructor(String.class).newInstance(input);
-        } else {
-            throw new ParserException(String.format("Cannot parse to %s : %s", clazz.getName(), input));
+            return StandardTypeParsers.parsers.get(clazz);
+        } else if (clazz.isEnum()) {
+            Class<Enum> enumClass = (Class<Enum>) clazz.asSubclass(Enum.class);
+            return input -> Enum.valueOf(enumClass, input.trim());
+        }
+        MethodHandle handle = findStringConstructor(clazz);
+        if (handle == null) {
+            handle = findFactoryMethod(clazz);
         }
-        return parsedValue;
+        if (handle == null) {
+            return input -> {
+                throw new ParserException(String.format("Cannot parse to %s : %s", clazz.getName(), input));
+            };
+        }
+        MethodHandle parserHandle = handle.asType(PARSER_TYPE);
+        return input -> {
+            try {
+                return parserHandle.invokeExact(input);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ParserException(String.format("Cannot parse to %s : %s", clazz.getName(), input));
+            }
+        };
     }
 
-    private static <T extends Serializable> boolean isEnum(Class<T> clazz) {
-        return clazz.isEnum();
+    private static MethodHandle findStringConstructor(Class<?> clazz) {
+        try {
+            return MethodHandles.lookup().unreflectConstructor(clazz.getConstructor(String.class));
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            // e.g. SecurityException or InaccessibleObjectException when the constructor can't be accessed
+            return null;
+        }
     }
 
-    private boolean containsStringConstructor(Class<?> clazz) throws NoSuchMethodException {
-        boolean result = false;
-        for (Constructor constructor : clazz.getDeclaredConstructors()) {
+    private static MethodHandle findFactoryMethod(Class<?> clazz) {
+        MethodHandle handle = findFactoryMethod(clazz, "valueOf", String.class);
+        if (handle == null) {
+            handle = findFactoryMethod(clazz, "of", String.class);
+        }
+        if (handle == null) {
+            handle = findFactoryMethod(clazz, "parse", CharSequence.class);
+        }
+        return handle;
+    }
 
-            if (constructor.getParameterTypes().length == 1 && constructor.getParameterTypes()[0] == String.class) {
-                result = true;
+    private static MethodHandle findFactoryMethod(Class<?> clazz, String name, Class<?> parameterType) {
+        try {
+            Method method = clazz.getMethod(name, parameterType);
+            if (!Modifier.isStatic(method.getModifiers()) || !clazz.isAssignableFrom(method.getReturnType())) {
+                return null;
             }
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
         }
-        return result;
     }
 }
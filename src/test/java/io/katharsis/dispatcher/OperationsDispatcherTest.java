@@ -0,0 +1,172 @@
+package io.katharsis.dispatcher;
+
+import io.katharsis.dispatcher.controller.BaseControllerTest;
+import io.katharsis.dispatcher.registry.ControllerRegistry;
+import io.katharsis.dispatcher.registry.ControllerRegistryBuilder;
+import io.katharsis.errorhandling.ErrorData;
+import io.katharsis.errorhandling.ErrorResponse;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistryBuilder;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.request.dto.OperationCode;
+import io.katharsis.request.dto.OperationsRequest;
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.models.Task;
+import io.katharsis.response.BaseResponse;
+import io.katharsis.response.HttpStatus;
+import io.katharsis.response.OperationsResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OperationsDispatcherTest extends BaseControllerTest {
+
+    private RequestDispatcher requestDispatcher;
+
+    @Before
+    public void prepareDispatcher() throws Exception {
+        ControllerRegistry controllerRegistry = new ControllerRegistryBuilder(resourceRegistry, typeParser,
+            objectMapper).build();
+        ExceptionMapperRegistry exceptionMapperRegistry = new ExceptionMapperRegistryBuilder()
+            .build("io.katharsis.resource.mock");
+        requestDispatcher = new RequestDispatcher(controllerRegistry, exceptionMapperRegistry);
+    }
+
+    @Test
+    public void onOperationsWithLocalIdsShouldResolveThemToCreatedResources() throws Exception {
+        // GIVEN
+        String body = "{\"atomic:operations\": [" +
+            "{\"op\": \"add\", \"data\": {\"type\": \"projects\", \"lid\": \"p\", " +
+            "\"attributes\": {\"name\": \"sample project\"}}}," +
+            "{\"op\": \"add\", \"data\": {\"type\": \"tasks\", \"lid\": \"t\", " +
+            "\"attributes\": {\"name\": \"sample task\"}, " +
+            "\"relationships\": {\"project\": {\"data\": {\"type\": \"projects\", \"lid\": \"p\"}}}}}," +
+            "{\"op\": \"update\", \"ref\": {\"type\": \"tasks\", \"lid\": \"t\"}, " +
+            "\"data\": {\"type\": \"tasks\", \"lid\": \"t\", \"attributes\": {\"name\": \"renamed task\"}}}" +
+            "]}";
+        OperationsRequest operationsRequest = objectMapper.readValue(body, OperationsRequest.class);
+        OperationsDispatcher sut = new OperationsDispatcher(requestDispatcher, resourceRegistry);
+
+        // WHEN
+        BaseResponse<?> response = sut.dispatchOperations(operationsRequest, new QueryParams(), null);
+
+        // THEN
+        assertThat(response).isExactlyInstanceOf(OperationsResponse.class);
+        assertThat(response.getHttpStatus()).isEqualTo(HttpStatus.OK_200);
+        OperationsResponse operationsResponse = (OperationsResponse) response;
+        assertThat(operationsResponse.getData()).hasSize(3);
+        Project project = (Project) operationsResponse.getData().get(0).getData();
+        Task task = (Task) operationsResponse.getData().get(2).getData();
+        assertThat(task.getName()).isEqualTo("renamed task");
+        assertThat(task.getProject().getId()).isEqualTo(project.getId());
+        assertThat(objectMapper.writeValueAsString(response)).startsWith("{\"atomic:results\":[{\"data\":");
+    }
+
+    @Test
+    public void onFailingOperationShouldStopAndRollBackTransaction() throws Exception {
+        // GIVEN
+        String body = "{\"atomic:operations\": [" +
+            "{\"op\": \"add\", \"data\": {\"type\": \"projects\", \"attributes\": {\"name\": \"sample project\"}}}," +
+            "{\"op\": \"remove\", \"ref\": {\"type\": \"projects\", \"lid\": \"unknown\"}}," +
+            "{\"op\": \"add\", \"data\": {\"type\": \"projects\", \"attributes\": {\"name\": \"other project\"}}}" +
+            "]}";
+        OperationsRequest operationsRequest = objectMapper.readValue(body, OperationsRequest.class);
+        RecordingTransaction transaction = new RecordingTransaction();
+        OperationsDispatcher sut = new OperationsDispatcher(requestDispatcher, resourceRegistry, transaction);
+
+        // WHEN
+        BaseResponse<?> response = sut.dispatchOperations(operationsRequest, new QueryParams(), null);
+
+        // THEN
+        assertThat(operationsRequest.getOperations()).extracting("op")
+            .containsExactly(OperationCode.ADD, OperationCode.REMOVE, OperationCode.ADD);
+        assertThat(response).isExactlyInstanceOf(ErrorResponse.class);
+        assertThat(response.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST_400);
+        assertThat(transaction.rolledBack).isTrue();
+        ErrorData error = ((ErrorResponse) response).getData().iterator().next();
+        assertThat(error.getSourcePointer()).startsWith("/atomic:operations/1");
+        assertThat(error.getMeta()).isNull();
+    }
+
+    @Test
+    public void onFailingOperationWithoutTransactionShouldReturnCompletedResults() throws Exception {
+        // GIVEN
+        String body = "{\"atomic:operations\": [" +
+            "{\"op\": \"add\", \"data\": {\"type\": \"projects\", \"attributes\": {\"name\": \"sample project\"}}}," +
+            "{\"op\": \"remove\", \"ref\": {\"type\": \"projects\", \"lid\": \"unknown\"}}" +
+            "]}";
+        OperationsRequest operationsRequest = objectMapper.readValue(body, OperationsRequest.class);
+        OperationsDispatcher sut = new OperationsDispatcher(requestDispatcher, resourceRegistry);
+
+        // WHEN
+        BaseResponse<?> response = sut.dispatchOperations(operationsRequest, new QueryParams(), null);
+
+        // THEN
+        assertThat(response).isExactlyInstanceOf(ErrorResponse.class);
+        ErrorData error = ((ErrorResponse) response).getData().iterator().next();
+        assertThat(error.getSourcePointer()).isEqualTo("/atomic:operations/1");
+        List<?> completedResults = (List<?>) error.getMeta().get(OperationsResponse.RESULTS);
+        assertThat(completedResults).hasSize(1);
+        assertThat(((BaseResponse<?>) completedResults.get(0)).getData()).isInstanceOf(Project.class);
+        assertThat(objectMapper.writeValueAsString(response)).contains("\"atomic:results\":[{\"data\":");
+    }
+
+    @Test
+    public void onAddWithHrefShouldRecordLocalId() throws Exception {
+        // GIVEN
+        String body = "{\"atomic:operations\": [" +
+            "{\"op\": \"add\", \"href\": \"/projects\", \"data\": {\"type\": \"projects\", \"lid\": \"p\", " +
+            "\"attributes\": {\"name\": \"sample project\"}}}," +
+            "{\"op\": \"update\", \"ref\": {\"type\": \"projects\", \"lid\": \"p\"}, " +
+            "\"data\": {\"type\": \"projects\", \"lid\": \"p\", \"attributes\": {\"name\": \"renamed project\"}}}" +
+            "]}";
+        OperationsRequest operationsRequest = objectMapper.readValue(body, OperationsRequest.class);
+        OperationsDispatcher sut = new OperationsDispatcher(requestDispatcher, resourceRegistry);
+
+        // WHEN
+        BaseResponse<?> response = sut.dispatchOperations(operationsRequest, new QueryParams(), null);
+
+        // THEN
+        assertThat(response).isExactlyInstanceOf(OperationsResponse.class);
+        OperationsResponse operationsResponse = (OperationsResponse) response;
+        Project created = (Project) operationsResponse.getData().get(0).getData();
+        Project updated = (Project) operationsResponse.getData().get(1).getData();
+        assertThat(updated.getId()).isEqualTo(created.getId());
+        assertThat(updated.getName()).isEqualTo("renamed project");
+    }
+
+    @Test
+    public void onIdWithSeparatorShouldReturnBadRequest() throws Exception {
+        // GIVEN
+        String body = "{\"atomic:operations\": [" +
+            "{\"op\": \"remove\", \"ref\": {\"type\": \"projects\", \"id\": \"1/relationships/tasks\"}}" +
+            "]}";
+        OperationsRequest operationsRequest = objectMapper.readValue(body, OperationsRequest.class);
+        OperationsDispatcher sut = new OperationsDispatcher(requestDispatcher, resourceRegistry);
+
+        // WHEN
+        BaseResponse<?> response = sut.dispatchOperations(operationsRequest, new QueryParams(), null);
+
+        // THEN
+        assertThat(response).isExactlyInstanceOf(ErrorResponse.class);
+        assertThat(response.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST_400);
+    }
+
+    private static class RecordingTransaction implements OperationsTransaction {
+        private boolean rolledBack;
+
+        @Override
+        public <T> T execute(Callable<T> operations) throws Exception {
+            try {
+                return operations.call();
+            } catch (Exception e) {
+                rolledBack = true;
+                throw e;
+            }
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package io.katharsis.dispatcher;
 
+import io.katharsis.dispatcher.controller.BaseController;
 import io.katharsis.dispatcher.controller.collection.CollectionGet;
+import io.katharsis.dispatcher.listener.DispatchPhase;
+import io.katharsis.dispatcher.listener.DispatcherMetrics;
+import io.katharsis.dispatcher.listener.DispatcherMetricsSnapshot;
+import io.katharsis.dispatcher.listener.MetricSnapshot;
 import io.katharsis.dispatcher.registry.ControllerRegistry;
+import io.katharsis.dispatcher.registry.ControllerRegistryBuilder;
 import io.katharsis.errorhandling.ErrorResponse;
 import io.katharsis.errorhandling.mapper.ExceptionMapperRegistryTest;
 import io.katharsis.locator.SampleJsonServiceLocator;
@@ -18,11 +24,15 @@ import io.katharsis.resource.registry.ResourceRegistryBuilderTest;
 import io.katharsis.resource.registry.ResourceRegistryTest;
 import io.katharsis.response.BaseResponse;
 import io.katharsis.response.HttpStatus;
+import io.katharsis.utils.parser.TypeParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.Collections;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -57,6 +67,8 @@ public class RequestDispatcherTest {
 
         // WHEN
         when(collectionGet.isAcceptable(any(JsonPath.class), eq(requestType))).thenCallRealMethod();
+        when(collectionGet.isAcceptable(any(JsonPath.class), eq(requestType), any(RequestBody.class)))
+            .thenCallRealMethod();
         JsonPath jsonPath = pathBuilder.buildPath(path);
         sut.dispatchRequest(jsonPath, requestType, new QueryParams(), null, null);
 
@@ -69,7 +81,7 @@ public class RequestDispatcherTest {
 
         ControllerRegistry controllerRegistry = mock(ControllerRegistry.class);
         //noinspection unchecked
-        when(controllerRegistry.getController(any(JsonPath.class), anyString())).thenThrow(IllegalStateException.class);
+        when(controllerRegistry.getController(any(JsonPath.class), anyString(), any(RequestBody.class))).thenThrow(IllegalStateException.class);
 
         RequestDispatcher requestDispatcher = new RequestDispatcher(controllerRegistry,
             ExceptionMapperRegistryTest.exceptionMapperRegistry);
@@ -88,7 +100,7 @@ public class RequestDispatcherTest {
     public void shouldThrowExceptionAsIsIfMapperIsNotAvailable() throws Exception {
         ControllerRegistry controllerRegistry = mock(ControllerRegistry.class);
         //noinspection unchecked
-        when(controllerRegistry.getController(any(JsonPath.class), anyString())).thenThrow(ArithmeticException.class);
+        when(controllerRegistry.getController(any(JsonPath.class), anyString(), any(RequestBody.class))).thenThrow(ArithmeticException.class);
 
         RequestDispatcher requestDispatcher = new RequestDispatcher(controllerRegistry,
             ExceptionMapperRegistryTest.exceptionMapperRegistry);
@@ -97,4 +109,64 @@ public class RequestDispatcherTest {
 
         BaseResponse<?> response = requestDispatcher.dispatchRequest(null, null, null, null, null);
     }
+
+    @Test
+    public void onRequestWithListenerShouldRecordRequestAndPhases() throws Exception {
+        // GIVEN
+        ControllerRegistry controllerRegistry = new ControllerRegistryBuilder(resourceRegistry, new TypeParser(),
+            new ObjectMapper()).build();
+        DispatcherMetrics metrics = new DispatcherMetrics();
+        RequestDispatcher sut = new RequestDispatcher(controllerRegistry, null, metrics);
+        JsonPath jsonPath = new PathBuilder(resourceRegistry).buildPath("/tasks/");
+
+        // WHEN
+        sut.dispatchRequest(jsonPath, "GET", new QueryParams(), null, null);
+        sut.recordPhase(DispatchPhase.SERIALIZATION, jsonPath, "GET", 1000L);
+
+        // THEN
+        DispatcherMetricsSnapshot snapshot = metrics.snapshot();
+        MetricSnapshot request = snapshot.find("tasks", "GET", null);
+        assertThat(request).isNotNull();
+        assertThat(request.getHistogram().getCount()).isEqualTo(1);
+        assertThat(request.getErrorCount()).isEqualTo(0);
+        assertThat(snapshot.find("tasks", "GET", DispatchPhase.ROUTING)).isNotNull();
+        assertThat(snapshot.find("tasks", "GET", DispatchPhase.REPOSITORY)).isNotNull();
+        assertThat(snapshot.find("tasks", "GET", DispatchPhase.META_LINKS)).isNotNull();
+        assertThat(snapshot.find("tasks", "GET", DispatchPhase.SERIALIZATION).getHistogram().getMax())
+            .isEqualTo(1000L);
+    }
+
+    @Test
+    public void onMappedExceptionWithListenerShouldCountError() throws Exception {
+        // GIVEN
+        ControllerRegistry controllerRegistry = new ControllerRegistry(
+            Collections.<BaseController>singletonList(new FailingController()));
+        DispatcherMetrics metrics = new DispatcherMetrics();
+        RequestDispatcher sut = new RequestDispatcher(controllerRegistry,
+            ExceptionMapperRegistryTest.exceptionMapperRegistry, metrics);
+        JsonPath jsonPath = new PathBuilder(resourceRegistry).buildPath("/tasks/");
+
+        // WHEN
+        BaseResponse<?> response = sut.dispatchRequest(jsonPath, "GET", new QueryParams(), null, null);
+
+        // THEN
+        assertThat(response.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST_400);
+        MetricSnapshot request = metrics.snapshot().find("tasks", "GET", null);
+        assertThat(request.getHistogram().getCount()).isEqualTo(1);
+        assertThat(request.getErrorCount()).isEqualTo(1);
+    }
+
+    private static class FailingController extends BaseController {
+
+        @Override
+        public boolean isAcceptable(JsonPath jsonPath, String requestType) {
+            return true;
+        }
+
+        @Override
+        public BaseResponse<?> handle(JsonPath jsonPath, QueryParams queryParams,
+                                      RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody) {
+            throw new IllegalStateException();
+        }
+    }
 }
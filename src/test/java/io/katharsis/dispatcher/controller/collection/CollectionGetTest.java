@@ -1,16 +1,31 @@
 package io.katharsis.dispatcher.controller.collection;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.katharsis.dispatcher.controller.BaseControllerTest;
 import io.katharsis.dispatcher.controller.resource.RelationshipsResourcePost;
 import io.katharsis.dispatcher.controller.resource.ResourceGet;
 import io.katharsis.dispatcher.controller.resource.ResourcePost;
+import io.katharsis.jackson.JsonApiModuleBuilder;
 import io.katharsis.queryParams.DefaultQueryParamsParser;
 import io.katharsis.queryParams.QueryParams;
 import io.katharsis.queryParams.QueryParamsBuilder;
+import io.katharsis.queryParams.query.ResourceQuery;
+import io.katharsis.repository.QueryableResourceRepository;
+import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.repository.StreamingResourceRepository;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.dto.ResourceRelationships;
 import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathBuilder;
+import io.katharsis.resource.exception.ResourceException;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.include.IncludeLookupSetter;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.ResourceRegistryTest;
+import io.katharsis.resource.registry.repository.DirectResourceEntry;
 import io.katharsis.resource.RestrictedQueryParamsMembers;
 import io.katharsis.resource.mock.models.Project;
 import io.katharsis.resource.mock.models.Task;
@@ -21,11 +36,16 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
+import static net.javacrumbs.jsonunit.fluent.JsonFluentAssert.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class CollectionGetTest extends BaseControllerTest {
@@ -273,4 +293,205 @@ public class CollectionGetTest extends BaseControllerTest {
         assertThat(response.getData()).isExactlyInstanceOf(Task.class);
         assertThat(((Task)(taskResponse.getData())).getProjects()).isNull();
     }
+
+    @Test
+    public void onStreamingRepositoryShouldFilterLazilyAndCloseStreamAfterSerialization() throws Exception {
+        // GIVEN
+        StreamingTaskRepository repository = new StreamingTaskRepository();
+        ResourceRegistry streamingRegistry = buildStreamingRegistry(repository);
+        ObjectMapper streamingMapper = new ObjectMapper();
+        streamingMapper.registerModule(new JsonApiModuleBuilder().build(streamingRegistry));
+
+        JsonPath jsonPath = new PathBuilder(streamingRegistry).buildPath("/tasks/");
+        CollectionGet sut = new CollectionGet(streamingRegistry, typeParser,
+            new IncludeLookupSetter(streamingRegistry));
+        QueryParams queryParams = new QueryParamsBuilder(new DefaultQueryParamsParser())
+            .buildQueryParams(Collections.singletonMap("filter[tasks][name]", Collections.singleton("b")));
+
+        // WHEN
+        BaseResponse<?> response = sut.handle(jsonPath, queryParams, null, null);
+
+        // THEN
+        assertThat(repository.readElements).isEqualTo(0);
+
+        // WHEN
+        String result = streamingMapper.writeValueAsString(response);
+
+        // THEN
+        assertThat(repository.readElements).isEqualTo(3);
+        assertThat(repository.closed).isTrue();
+        assertThatJson(result).node("data").isArray().ofLength(1);
+        assertThatJson(result).node("data[0].id").isEqualTo("\"2\"");
+    }
+
+    @Test
+    public void onStreamingRepositoryWithFailingInclusionShouldCloseStream() throws Exception {
+        // GIVEN
+        StreamingTaskRepository repository = new StreamingTaskRepository();
+        ResourceRegistry streamingRegistry = buildStreamingRegistry(repository);
+        IncludeLookupSetter includeLookupSetter = new IncludeLookupSetter(streamingRegistry) {
+            @Override
+            public void setIncludedElements(String resourceName, Object resource, QueryParams queryParams,
+                                            RepositoryMethodParameterProvider parameterProvider) {
+                throw new ResourceException("inclusion failed");
+            }
+        };
+        JsonPath jsonPath = new PathBuilder(streamingRegistry).buildPath("/tasks/");
+        CollectionGet sut = new CollectionGet(streamingRegistry, typeParser, includeLookupSetter);
+        QueryParams queryParams = new QueryParamsBuilder(new DefaultQueryParamsParser())
+            .buildQueryParams(Collections.singletonMap("include[tasks]", Collections.singleton("project")));
+
+        // WHEN
+        try {
+            sut.handle(jsonPath, queryParams, null, null);
+            Assert.fail("Exception expected");
+        } catch (ResourceException e) {
+            // THEN
+            assertThat(repository.closed).isTrue();
+        }
+    }
+
+    @Test
+    public void onStreamingRepositoryWithNullElementShouldReturnItWithIncludes() throws Exception {
+        // GIVEN
+        StreamingTaskRepository repository = new StreamingTaskRepository() {
+            @Override
+            public Stream<Task> streamAll(QueryParams queryParams) {
+                return Stream.of(new Task().setId(1L), null);
+            }
+        };
+        ResourceRegistry streamingRegistry = buildStreamingRegistry(repository);
+        JsonPath jsonPath = new PathBuilder(streamingRegistry).buildPath("/tasks/");
+        CollectionGet sut = new CollectionGet(streamingRegistry, typeParser,
+            new IncludeLookupSetter(streamingRegistry));
+        QueryParams queryParams = new QueryParamsBuilder(new DefaultQueryParamsParser())
+            .buildQueryParams(Collections.singletonMap("include[tasks]", Collections.singleton("project")));
+
+        // WHEN
+        BaseResponse<?> response = sut.handle(jsonPath, queryParams, null, null);
+
+        // THEN
+        List<Object> resources = new ArrayList<>();
+        for (Object resource : (Iterable<?>) response.getData()) {
+            resources.add(resource);
+        }
+        assertThat(resources).hasSize(2).containsNull();
+    }
+
+    @Test
+    public void onQueryableRepositoryShouldPassQueryAndNotFilterResults() throws Exception {
+        // GIVEN
+        QueryableTaskRepository repository = new QueryableTaskRepository();
+        ResourceRegistry queryableRegistry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+        ResourceInformationBuilder resourceInformationBuilder = new ResourceInformationBuilder(
+            new ResourceFieldNameTransformer());
+        queryableRegistry.addEntry(Task.class, new RegistryEntry<>(resourceInformationBuilder.build(Task.class),
+            new DirectResourceEntry<>(repository)));
+
+        JsonPath jsonPath = new PathBuilder(queryableRegistry).buildPath("/tasks/");
+        CollectionGet sut = new CollectionGet(queryableRegistry, typeParser,
+            new IncludeLookupSetter(queryableRegistry));
+        QueryParams queryParams = new QueryParamsBuilder(new DefaultQueryParamsParser())
+            .buildQueryParams(Collections.singletonMap("filter[tasks][name]", Collections.singleton("b")));
+
+        // WHEN
+        BaseResponse<?> response = sut.handle(jsonPath, queryParams, null, null);
+
+        // THEN
+        assertThat(repository.query.getFilters()).hasSize(1);
+        assertThat(repository.query.getFilters().get(0).getValues()).containsExactly("b");
+        assertThat((Iterable<?>) response.getData()).hasSize(2);
+    }
+
+    private static ResourceRegistry buildStreamingRegistry(StreamingTaskRepository repository) {
+        ResourceRegistry streamingRegistry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+        ResourceInformationBuilder resourceInformationBuilder = new ResourceInformationBuilder(
+            new ResourceFieldNameTransformer());
+        streamingRegistry.addEntry(Task.class, new RegistryEntry<>(resourceInformationBuilder.build(Task.class),
+            new DirectResourceEntry<>(repository)));
+        streamingRegistry.addEntry(Project.class,
+            new RegistryEntry<Project>(resourceInformationBuilder.build(Project.class), null));
+        return streamingRegistry;
+    }
+
+    public static class QueryableTaskRepository implements QueryableResourceRepository<Task, Long> {
+
+        private ResourceQuery query;
+
+        @Override
+        public Iterable<Task> findAll(ResourceQuery query, QueryParams queryParams) {
+            this.query = query;
+            Task task1 = new Task().setId(1L);
+            task1.setName("a");
+            Task task2 = new Task().setId(2L);
+            task2.setName("b");
+            return Arrays.asList(task1, task2);
+        }
+
+        @Override
+        public Task findOne(Long id, QueryParams queryParams) {
+            return null;
+        }
+
+        @Override
+        public Iterable<Task> findAll(QueryParams queryParams) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Iterable<Task> findAll(Iterable<Long> ids, QueryParams queryParams) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public <S extends Task> S save(S entity) {
+            return entity;
+        }
+
+        @Override
+        public void delete(Long id) {
+        }
+    }
+
+    public static class StreamingTaskRepository implements StreamingResourceRepository<Task, Long> {
+
+        private int readElements;
+        private boolean closed;
+
+        @Override
+        public Stream<Task> streamAll(QueryParams queryParams) {
+            return Stream.of("a", "b", "c")
+                .map(name -> {
+                    readElements++;
+                    Task task = new Task().setId((long) readElements);
+                    task.setName(name);
+                    return task;
+                })
+                .onClose(() -> closed = true);
+        }
+
+        @Override
+        public Task findOne(Long id, QueryParams queryParams) {
+            return null;
+        }
+
+        @Override
+        public Iterable<Task> findAll(QueryParams queryParams) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Iterable<Task> findAll(Iterable<Long> ids, QueryParams queryParams) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public <S extends Task> S save(S entity) {
+            return entity;
+        }
+
+        @Override
+        public void delete(Long id) {
+        }
+    }
 }
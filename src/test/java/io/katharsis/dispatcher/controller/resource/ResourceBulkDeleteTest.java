@@ -0,0 +1,44 @@
+package io.katharsis.dispatcher.controller.resource;
+
+import io.katharsis.dispatcher.controller.BaseControllerTest;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.request.dto.DataBody;
+import io.katharsis.request.dto.RequestBody;
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.repository.ProjectRepository;
+import io.katharsis.response.BulkResponse;
+import io.katharsis.response.HttpStatus;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceBulkDeleteTest extends BaseControllerTest {
+
+    @Test
+    public void onArrayOfIdentifiersShouldDeleteEachResource() throws Exception {
+        // GIVEN
+        ProjectRepository projectRepository = new ProjectRepository();
+        Project project = new Project();
+        project.setName("sample project");
+        Long projectId = projectRepository.save(project).getId();
+
+        DataBody data = new DataBody();
+        data.setType("projects");
+        data.setId(projectId.toString());
+        RequestBody requestBody = new RequestBody();
+        requestBody.setData(Collections.singletonList(data));
+        ResourceBulkDelete sut = new ResourceBulkDelete(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        BulkResponse response = (BulkResponse) sut.handle(pathBuilder.buildPath("/projects"), new QueryParams(),
+            null, requestBody);
+
+        // THEN
+        assertThat(response.getHttpStatus()).isEqualTo(HttpStatus.OK_200);
+        assertThat(response.getData()).isEmpty();
+        assertThat(response.getResults()).extracting("status").containsExactly(HttpStatus.NO_CONTENT_204);
+        assertThat(projectRepository.findAll(Collections.singletonList(projectId), null)).isEmpty();
+    }
+}
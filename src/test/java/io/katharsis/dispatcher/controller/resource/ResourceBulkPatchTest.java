@@ -0,0 +1,66 @@
+package io.katharsis.dispatcher.controller.resource;
+
+import io.katharsis.dispatcher.controller.BaseControllerTest;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.request.dto.DataBody;
+import io.katharsis.request.dto.RequestBody;
+import io.katharsis.resource.exception.RequestBodyException;
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.repository.ProjectRepository;
+import io.katharsis.response.BulkResponse;
+import io.katharsis.response.HttpStatus;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceBulkPatchTest extends BaseControllerTest {
+
+    @Test
+    public void onArrayOfResourcesShouldUpdateExistingOnes() throws Exception {
+        // GIVEN
+        ProjectRepository projectRepository = new ProjectRepository();
+        Project project = new Project();
+        project.setName("sample project");
+        Long projectId = projectRepository.save(project).getId();
+
+        RequestBody requestBody = new RequestBody();
+        requestBody.setData(Arrays.asList(newData(projectId.toString(), "updated project"),
+            newData(Long.toString(Long.MAX_VALUE), "missing project")));
+        ResourceBulkPatch sut = new ResourceBulkPatch(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        BulkResponse response = (BulkResponse) sut.handle(pathBuilder.buildPath("/projects"), new QueryParams(),
+            null, requestBody);
+
+        // THEN
+        assertThat(response.getHttpStatus()).isEqualTo(HttpStatus.MULTI_STATUS_207);
+        assertThat(response.getResults()).extracting("status")
+            .containsExactly(HttpStatus.OK_200, HttpStatus.NOT_FOUND_404);
+        assertThat(response.getData()).containsExactly(project);
+        assertThat(project.getName()).isEqualTo("updated project");
+    }
+
+    @Test
+    public void onSingleResourceShouldThrowException() throws Exception {
+        // GIVEN
+        RequestBody requestBody = new RequestBody();
+        requestBody.setData(newData("1", "updated project"));
+        ResourceBulkPatch sut = new ResourceBulkPatch(resourceRegistry, typeParser, objectMapper);
+
+        // THEN
+        expectedException.expect(RequestBodyException.class);
+
+        // WHEN
+        sut.handle(pathBuilder.buildPath("/projects"), new QueryParams(), null, requestBody);
+    }
+
+    private DataBody newData(String id, String name) {
+        DataBody data = new DataBody();
+        data.setType("projects");
+        data.setId(id);
+        data.setAttributes(objectMapper.createObjectNode().put("name", name));
+        return data;
+    }
+}
@@ -0,0 +1,151 @@
+package io.katharsis.dispatcher.controller.resource;
+
+import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.controller.BaseControllerTest;
+import io.katharsis.dispatcher.registry.ControllerRegistry;
+import io.katharsis.dispatcher.registry.ControllerRegistryBuilder;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.BulkResourceRepository;
+import io.katharsis.request.dto.DataBody;
+import io.katharsis.request.dto.RequestBody;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathBuilder;
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.repository.ProjectRepository;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.ResourceRegistryTest;
+import io.katharsis.resource.registry.repository.DirectResourceEntry;
+import io.katharsis.response.BaseResponse;
+import io.katharsis.response.BulkElementResult;
+import io.katharsis.response.BulkResponse;
+import io.katharsis.response.HttpStatus;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceBulkPostTest extends BaseControllerTest {
+
+    private static final String REQUEST_TYPE = "POST";
+
+    @Test
+    public void onGivenRequestCollectionPostShouldAcceptIt() {
+        // GIVEN
+        JsonPath jsonPath = pathBuilder.buildPath("/tasks/");
+        ResourceBulkPost sut = new ResourceBulkPost(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        boolean result = sut.isAcceptable(jsonPath, REQUEST_TYPE);
+
+        // THEN
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    public void onArrayOfResourcesShouldCreateEachOfThemAndReportFailures() throws Exception {
+        // GIVEN
+        RequestBody requestBody = new RequestBody();
+        requestBody.setData(Arrays.asList(newData("projects", "first project"), newData("tasks", "some task"),
+            newData("projects", "second project")));
+        ResourceBulkPost sut = new ResourceBulkPost(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        BaseResponse<?> response = sut.handle(pathBuilder.buildPath("/projects"), new QueryParams(), null,
+            requestBody);
+
+        // THEN
+        assertThat(response).isExactlyInstanceOf(BulkResponse.class);
+        assertThat(response.getHttpStatus()).isEqualTo(HttpStatus.MULTI_STATUS_207);
+        assertThat(((BulkResponse) response).getData()).extracting("name")
+            .containsExactly("first project", "second project");
+        List<BulkElementResult> results = ((BulkResponse) response).getResults();
+        assertThat(results).extracting("index").containsExactly(0, 1, 2);
+        assertThat(results).extracting("status")
+            .containsExactly(HttpStatus.CREATED_201, HttpStatus.BAD_REQUEST_400, HttpStatus.CREATED_201);
+        assertThat(results.get(0).getId()).isNotNull();
+        assertThat(results.get(1).getDetail()).isNotNull();
+    }
+
+    @Test
+    public void onGivenRequestWithIdsShouldDenyIt() {
+        // GIVEN
+        JsonPath jsonPath = pathBuilder.buildPath("/tasks/1,2");
+        ResourceBulkPost sut = new ResourceBulkPost(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        boolean result = sut.isAcceptable(jsonPath, REQUEST_TYPE);
+
+        // THEN
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    public void onSingleResourceShouldRouteToResourcePost() throws Exception {
+        // GIVEN
+        RequestBody singleBody = new RequestBody();
+        singleBody.setData(newData("projects", "sample project"));
+        RequestBody arrayBody = new RequestBody();
+        arrayBody.setData(Collections.singletonList(newData("projects", "sample project")));
+        JsonPath jsonPath = pathBuilder.buildPath("/projects");
+        ControllerRegistry controllerRegistry = new ControllerRegistryBuilder(resourceRegistry, typeParser,
+            objectMapper).build();
+
+        // WHEN
+        BaseController singleController = controllerRegistry.getController(jsonPath, REQUEST_TYPE, singleBody);
+        BaseController arrayController = controllerRegistry.getController(jsonPath, REQUEST_TYPE, arrayBody);
+
+        // THEN
+        assertThat(singleController).isExactlyInstanceOf(ResourcePost.class);
+        assertThat(arrayController).isExactlyInstanceOf(ResourceBulkPost.class);
+    }
+
+    @Test
+    public void onBulkRepositoryReturningFewerResultsShouldReportMissingOnes() throws Exception {
+        // GIVEN
+        ResourceRegistry bulkRegistry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+        bulkRegistry.addEntry(Project.class, new RegistryEntry<>(
+            resourceRegistry.getEntry(Project.class).getResourceInformation(),
+            new DirectResourceEntry<>(new FirstOnlyProjectRepository())));
+        RequestBody requestBody = new RequestBody();
+        requestBody.setData(Arrays.asList(newData("projects", "first project"),
+            newData("projects", "second project")));
+        ResourceBulkPost sut = new ResourceBulkPost(bulkRegistry, typeParser, objectMapper);
+
+        // WHEN
+        BaseResponse<?> response = sut.handle(new PathBuilder(bulkRegistry).buildPath("/projects"),
+            new QueryParams(), null, requestBody);
+
+        // THEN
+        assertThat(((BulkResponse) response).getData()).extracting("name").containsExactly("first project");
+        List<BulkElementResult> results = ((BulkResponse) response).getResults();
+        assertThat(results).extracting("status")
+            .containsExactly(HttpStatus.CREATED_201, HttpStatus.INTERNAL_SERVER_ERROR_500);
+        assertThat(results.get(1).getDetail()).isEqualTo("Repository returned 1 results for 2 saved resources");
+    }
+
+    private DataBody newData(String type, String name) {
+        DataBody data = new DataBody();
+        data.setType(type);
+        data.setAttributes(objectMapper.createObjectNode().put("name", name));
+        return data;
+    }
+
+    public static class FirstOnlyProjectRepository extends ProjectRepository
+        implements BulkResourceRepository<Project, Long> {
+
+        @Override
+        public <S extends Project> Iterable<S> saveAll(Iterable<S> entities) {
+            S first = entities.iterator().next();
+            first.setId(1L);
+            return Collections.singletonList(first);
+        }
+
+        @Override
+        public void deleteAll(Iterable<Long> ids) {
+        }
+    }
+}
@@ -4,6 +4,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.katharsis.dispatcher.controller.BaseControllerTest;
 import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.annotations.JsonApiFindOne;
+import io.katharsis.repository.annotations.JsonApiResourceRepository;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.LinkageData;
 import io.katharsis.request.dto.RequestBody;
@@ -11,14 +14,22 @@ import io.katharsis.request.dto.ResourceRelationships;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.ResourcePath;
 import io.katharsis.resource.exception.ResourceNotFoundException;
+import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.mock.models.*;
+import io.katharsis.resource.mock.repository.ProjectRepository;
 import io.katharsis.resource.mock.repository.TaskRepository;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.repository.AnnotatedResourceEntryBuilder;
+import io.katharsis.resource.registry.repository.DirectResourceEntry;
 import io.katharsis.response.HttpStatus;
 import io.katharsis.response.ResourceResponse;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -204,6 +215,60 @@ public class ResourcePostTest extends BaseControllerTest {
         assertThat(((User) (taskResponse.getData())).getAssignedProjects().get(0).getId()).isEqualTo(projectId);
     }
 
+    @Test
+    public void onNewResourceWithRelationshipsShouldKeepLinkageOrder() throws Exception {
+        // GIVEN
+        ProjectRepository projectRepository = new ProjectRepository();
+        Project firstProject = new Project();
+        firstProject.setName("first project");
+        Long firstProjectId = projectRepository.save(firstProject).getId();
+        Project secondProject = new Project();
+        secondProject.setName("second project");
+        Long secondProjectId = projectRepository.save(secondProject).getId();
+
+        RequestBody newUserBody = new RequestBody();
+        DataBody data = new DataBody();
+        newUserBody.setData(data);
+        data.setType("users");
+        data.setAttributes(objectMapper.createObjectNode().put("name", "some user"));
+        data.setRelationships(new ResourceRelationships());
+        data.getRelationships().setAdditionalProperty("assignedProjects", Arrays.asList(
+            new LinkageData("projects", secondProjectId.toString()),
+            new LinkageData("projects", firstProjectId.toString())));
+
+        ResourcePost sut = new ResourcePost(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        ResourceResponse userResponse = sut.handle(pathBuilder.buildPath("/users"), new QueryParams(), null,
+            newUserBody);
+
+        // THEN
+        assertThat(((User) (userResponse.getData())).getAssignedProjects())
+            .extracting("id")
+            .containsExactly(secondProjectId, firstProjectId);
+    }
+
+    @Test
+    public void onNewResourceWithNonExistentRelationshipShouldThrowException() throws Exception {
+        // GIVEN
+        RequestBody newUserBody = new RequestBody();
+        DataBody data = new DataBody();
+        newUserBody.setData(data);
+        data.setType("users");
+        data.setAttributes(objectMapper.createObjectNode().put("name", "some user"));
+        data.setRelationships(new ResourceRelationships());
+        data.getRelationships().setAdditionalProperty("assignedProjects", Collections.singletonList(
+            new LinkageData("projects", Long.toString(Long.MAX_VALUE))));
+
+        ResourcePost sut = new ResourcePost(resourceRegistry, typeParser, objectMapper);
+
+        // THEN
+        expectedException.expect(ResourceNotFoundException.class);
+
+        // WHEN
+        sut.handle(pathBuilder.buildPath("/users"), new QueryParams(), null, newUserBody);
+    }
+
     @Test
     public void onNewInheritedResourceShouldPersistThisResource() throws Exception {
         // GIVEN
@@ -282,4 +347,73 @@ public class ResourcePostTest extends BaseControllerTest {
         assertThat(persistedPojo.getProjects()).hasSize(1);
         assertThat(persistedPojo.getProjects().get(0).getId()).isEqualTo(projectId);
     }
+
+    @Test
+    public void onRepositoryWithoutFindAllWithIdsShouldFindEachResource() throws Exception {
+        // GIVEN
+        ResourceInformation resourceInformation = resourceRegistry.getEntry(Task.class).getResourceInformation();
+        RegistryEntry<Task> registryEntry = new RegistryEntry<>(resourceInformation,
+            new AnnotatedResourceEntryBuilder<Task, Long>(new FindOneTaskRepository()));
+
+        // WHEN
+        Map<Object, Object> result = ResourceUpsert.findResources(registryEntry, resourceInformation.getIdField(),
+            Arrays.<Serializable>asList(1L, 2L, 1L), new QueryParams(), null);
+
+        // THEN
+        assertThat(result).hasSize(1);
+        assertThat(((Task) result.get(1L)).getName()).isEqualTo("task1");
+    }
+
+    @Test
+    public void onRepositoryReturningNoResourcesByIdsShouldFindEachResource() throws Exception {
+        // GIVEN
+        ResourceInformation resourceInformation = resourceRegistry.getEntry(Task.class).getResourceInformation();
+        RegistryEntry<Task> registryEntry = new RegistryEntry<>(resourceInformation,
+            new DirectResourceEntry<>(new NullFindAllTaskRepository()));
+
+        // WHEN
+        Map<Object, Object> result = ResourceUpsert.findResources(registryEntry, resourceInformation.getIdField(),
+            Arrays.<Serializable>asList(1L, 2L), new QueryParams(), null);
+
+        // THEN
+        assertThat(result).hasSize(1);
+        assertThat(((Task) result.get(1L)).getName()).isEqualTo("task1");
+    }
+
+    @JsonApiResourceRepository(Task.class)
+    public static class FindOneTaskRepository {
+
+        @JsonApiFindOne
+        public Task findOne(Long id, QueryParams queryParams) {
+            if (id != 1L) {
+                throw new ResourceNotFoundException("");
+            }
+            Task task = new Task().setId(id);
+            task.setName("task" + id);
+            return task;
+        }
+    }
+
+    public static class NullFindAllTaskRepository extends FindOneTaskRepository
+        implements ResourceRepository<Task, Long> {
+
+        @Override
+        public Iterable<Task> findAll(QueryParams queryParams) {
+            return null;
+        }
+
+        @Override
+        public Iterable<Task> findAll(Iterable<Long> ids, QueryParams queryParams) {
+            return null;
+        }
+
+        @Override
+        public <S extends Task> S save(S entity) {
+            return entity;
+        }
+
+        @Override
+        public void delete(Long id) {
+        }
+    }
 }
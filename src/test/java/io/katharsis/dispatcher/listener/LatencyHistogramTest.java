@@ -0,0 +1,54 @@
+package io.katharsis.dispatcher.listener;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void onRecordedValuesShouldReturnPercentilesWithinBucketPrecision() {
+        // GIVEN
+        LatencyHistogram sut = new LatencyHistogram();
+
+        // WHEN
+        for (long value = 1; value <= 1000; value++) {
+            sut.record(value * 1000);
+        }
+
+        // THEN
+        HistogramSnapshot snapshot = sut.snapshot();
+        assertThat(snapshot.getCount()).isEqualTo(1000);
+        assertThat(snapshot.getMax()).isEqualTo(1_000_000L);
+        assertThat(snapshot.getMean()).isEqualTo(500_500.0);
+        assertThat(snapshot.getValueAtPercentile(50)).isBetween(500_000L, 562_500L);
+        assertThat(snapshot.getValueAtPercentile(99)).isBetween(990_000L, 1_000_000L);
+        assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(1_000_000L);
+    }
+
+    @Test
+    public void onSmallValuesShouldKeepThemExact() {
+        // GIVEN
+        LatencyHistogram sut = new LatencyHistogram();
+
+        // WHEN
+        sut.record(3);
+        sut.record(15);
+
+        // THEN
+        HistogramSnapshot snapshot = sut.snapshot();
+        assertThat(snapshot.getValueAtPercentile(50)).isEqualTo(3L);
+        assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(15L);
+    }
+
+    @Test
+    public void onEveryValueShouldFitItsBucket() {
+        for (long value : new long[]{0L, 7L, 8L, 9L, 1023L, 1024L, 123_456_789L, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertThat(LatencyHistogram.bucketUpperBound(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyHistogram.bucketUpperBound(index - 1)).isLessThan(value);
+            }
+        }
+    }
+}
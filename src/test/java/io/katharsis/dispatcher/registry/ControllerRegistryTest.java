@@ -1,19 +1,30 @@
 package io.katharsis.dispatcher.registry;
 
+import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.controller.collection.CollectionGet;
 import io.katharsis.locator.SampleJsonServiceLocator;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.PathBuilder;
+import io.katharsis.request.path.ResourcePath;
 import io.katharsis.resource.field.ResourceFieldNameTransformer;
 import io.katharsis.resource.information.ResourceInformationBuilder;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.resource.registry.ResourceRegistryBuilder;
 import io.katharsis.resource.registry.ResourceRegistryBuilderTest;
 import io.katharsis.resource.registry.ResourceRegistryTest;
+import io.katharsis.response.BaseResponse;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class ControllerRegistryTest {
 
     private ResourceRegistry resourceRegistry;
@@ -45,4 +56,62 @@ public class ControllerRegistryTest {
         // WHEN
         sut.getController(jsonPath, requestType);
     }
+
+    @Test
+    public void onControllersAcceptingSameRequestShouldReturnControllerWithHighestPriority() {
+        // GIVEN
+        JsonPath jsonPath = new PathBuilder(resourceRegistry).buildPath("/tasks/");
+        BaseController collectionGet = new CollectionGet(resourceRegistry, null, null);
+        BaseController customController = new CustomController("tasks", 1);
+        ControllerRegistry sut = new ControllerRegistry(Arrays.asList(collectionGet, customController));
+
+        // WHEN
+        BaseController controller = sut.getController(jsonPath, "GET");
+
+        // THEN
+        assertThat(controller).isSameAs(customController);
+        assertThat(sut.getController(new PathBuilder(resourceRegistry).buildPath("/projects/"), "GET"))
+            .isSameAs(collectionGet);
+    }
+
+    @Test
+    public void onControllerNotAcceptingSamplePathsShouldReturnController() {
+        // GIVEN
+        BaseController customController = new CustomController("tasks", 0);
+        ControllerRegistry sut = new ControllerRegistry(null);
+        sut.addController(customController);
+
+        // WHEN
+        BaseController controller = sut.getController(new ResourcePath("tasks"), "GET");
+
+        // THEN
+        assertThat(controller).isSameAs(customController);
+    }
+
+    private static class CustomController extends BaseController {
+
+        private final String resourceName;
+        private final int priority;
+
+        private CustomController(String resourceName, int priority) {
+            this.resourceName = resourceName;
+            this.priority = priority;
+        }
+
+        @Override
+        public boolean isAcceptable(JsonPath jsonPath, String requestType) {
+            return resourceName.equals(jsonPath.getElementName()) && "GET".equals(requestType);
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+        @Override
+        public BaseResponse<?> handle(JsonPath jsonPath, QueryParams queryParams,
+                                      RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody) {
+            return null;
+        }
+    }
 }
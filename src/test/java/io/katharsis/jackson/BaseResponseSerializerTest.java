@@ -14,6 +14,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.util.Arrays;
+import java.util.Iterator;
 
 import static net.javacrumbs.jsonunit.fluent.JsonFluentAssert.assertThatJson;
 
@@ -89,6 +90,42 @@ public class BaseResponseSerializerTest extends BaseSerializerTest {
         assertThatJson(result).node("data").isArray().ofLength(2);
     }
 
+    @Test
+    public void onCollectionResponseShouldIterateDataOnce() throws Exception {
+        // GIVEN
+        Project project = new Project();
+        project.setId(3L);
+        Task task1 = new Task();
+        task1.setId(1L);
+        task1.setProject(project);
+        Task task2 = new Task();
+        task2.setId(2L);
+        task2.setProject(project);
+        final Iterator<Task> tasks = Arrays.asList(task1, task2).iterator();
+        Iterable<Task> singleUseData = new Iterable<Task>() {
+            private boolean used;
+
+            @Override
+            public Iterator<Task> iterator() {
+                if (used) {
+                    throw new IllegalStateException("Data has already been iterated");
+                }
+                used = true;
+                return tasks;
+            }
+        };
+
+        // WHEN
+        String result = sut.writeValueAsString(new CollectionResponse(singleUseData,
+            new ResourcePath("tasks"), REQUEST_PARAMS, null, null));
+
+        // THEN
+        assertThatJson(result).node("data").isArray().ofLength(2);
+        assertThatJson(result).node("data[1].id").isEqualTo("\"2\"");
+        assertThatJson(result).node("included").isArray().ofLength(1);
+        assertThatJson(result).node("included[0].id").isEqualTo("\"3\"");
+    }
+
     @Test
     public void onSingleResponseWithManyLinkagesShouldReturnArrayOfLinks() throws Exception {
         // GIVEN
@@ -2,6 +2,7 @@ package io.katharsis.jackson;
 
 import io.katharsis.jackson.mock.models.*;
 import io.katharsis.jackson.serializer.IncludedRelationshipExtractor;
+import io.katharsis.jackson.serializer.IncludedResourceCollector;
 import io.katharsis.locator.SampleJsonServiceLocator;
 import io.katharsis.queryParams.DefaultQueryParamsParser;
 import io.katharsis.queryParams.QueryParams;
@@ -26,6 +27,7 @@ import org.junit.Test;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -35,6 +37,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class IncludedRelationshipExtractorTest {
 
+    private ResourceRegistry resourceRegistry;
     private IncludedRelationshipExtractor sut;
     private ResourceField resourceField;
     private ResourceResponse testResponse;
@@ -49,7 +52,7 @@ public class IncludedRelationshipExtractorTest {
 
         String resourceSearchPackage = String.format("%s,%s", ResourceRegistryBuilderTest.TEST_MODELS_PACKAGE,
             "io.katharsis.jackson.mock");
-        ResourceRegistry resourceRegistry = registryBuilder
+        resourceRegistry = registryBuilder
             .build(resourceSearchPackage, ResourceRegistryTest.TEST_MODELS_URL);
 
         sut = new IncludedRelationshipExtractor(resourceRegistry);
@@ -121,6 +124,48 @@ public class IncludedRelationshipExtractorTest {
         assertThat(result).containsExactly(new Container(classCWithInclusion, testResponse));
     }
 
+    @Test
+    public void onDefaultInclusionWithSameIdShouldReturnOneElement() throws Exception {
+        // GIVEN
+        ClassCWithInclusion first = new ClassCWithInclusion();
+        first.setId(1L);
+        ClassCWithInclusion second = new ClassCWithInclusion();
+        second.setId(1L);
+        ClassCWithInclusion root = new ClassCWithInclusion();
+        root.setId(2L);
+        root.setClassCsWithInclusion(Arrays.asList(first, second));
+
+        // WHEN
+        Set<Container> result = (Set<Container>) sut.extractIncludedResources(root, testResponse);
+
+        // THEN
+        assertThat(result).containsExactly(new Container(first, testResponse));
+    }
+
+    @Test
+    public void onDeepDefaultInclusionShouldReturnAllElementsInOrder() throws Exception {
+        // GIVEN
+        ClassCWithInclusion root = new ClassCWithInclusion();
+        root.setId(0L);
+        List<Container> expected = new ArrayList<>();
+        ClassCWithInclusion parent = root;
+        for (long id = 1; id <= 100; id++) {
+            ClassCWithInclusion child = new ClassCWithInclusion();
+            child.setId(id);
+            parent.setClassCsWithInclusion(Collections.singletonList(child));
+            expected.add(new Container(child, testResponse));
+            parent = child;
+        }
+        parent.setClassCsWithInclusion(Collections.singletonList(root));
+        expected.add(new Container(root, testResponse));
+
+        // WHEN
+        Set<Container> result = (Set<Container>) sut.extractIncludedResources(root, testResponse);
+
+        // THEN
+        assertThat(result).containsExactlyElementsOf(expected);
+    }
+
     @Test
     public void onInclusionWithDefaultInclusionShouldReturnOneElement() throws Exception {
         // GIVEN
@@ -157,6 +202,27 @@ public class IncludedRelationshipExtractorTest {
         assertThat(result).containsExactly(new Container(classBs, testResponse));
     }
 
+    @Test
+    public void onResourceIncludedBeforeItsDefaultInclusionShouldFollowItsDefaultInclusions() throws Exception {
+        // GIVEN
+        QueryParams queryParams = getRequestParamsWithInclusion("include[classDs]", "classBsWithInclusion");
+        ResourceResponse response = new ResourceResponse(null, new ResourcePath("classDs"), queryParams, null, null);
+        ClassCWithInclusion classCWithInclusion = new ClassCWithInclusion();
+        classCWithInclusion.setId(3L);
+        ClassBWithInclusion classBWithInclusion = new ClassBWithInclusion(classCWithInclusion);
+        classBWithInclusion.setId(2L);
+        ClassD classD = new ClassD(classBWithInclusion);
+        ClassAWithInclusion classAWithInclusion = new ClassAWithInclusion(classBWithInclusion);
+        IncludedResourceCollector collector = new IncludedResourceCollector(resourceRegistry);
+
+        // WHEN
+        sut.extractIncludedResources(classD, response, collector);
+        sut.extractIncludedResources(classAWithInclusion, response, collector);
+
+        // THEN
+        assertThat(collector.getResources()).containsExactly(classBWithInclusion, classCWithInclusion);
+    }
+
     @Test(expected = ResourceFieldNotFoundException.class)
     public void onNonExistingInclusionShouldReturnMatchingError() throws Exception {
         // GIVEN
@@ -0,0 +1,134 @@
+package io.katharsis.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.katharsis.jackson.serializer.ResourceAttributesWriter;
+import io.katharsis.queryParams.DefaultQueryParamsParser;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.queryParams.QueryParamsBuilder;
+import io.katharsis.queryParams.RenderPlan;
+import io.katharsis.resource.annotations.JsonApiId;
+import io.katharsis.resource.annotations.JsonApiResource;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformation;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.mock.models.Project;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static net.javacrumbs.jsonunit.fluent.JsonFluentAssert.assertThatJson;
+
+public class ResourceAttributesWriterTest {
+
+    private ResourceAttributesWriter sut;
+    private Map<String, Set<String>> queryParams;
+
+    @Before
+    public void prepare() {
+        sut = new ResourceAttributesWriter();
+        queryParams = new HashMap<>();
+    }
+
+    @Test
+    public void onNullAttributeShouldSkipIt() throws Exception {
+        // GIVEN
+        Project project = new Project();
+        project.setName("sample project");
+
+        // WHEN
+        String result = writeAttributes(project, "projects");
+
+        // THEN
+        assertThatJson(result).node("name").isEqualTo("sample project");
+        assertThatJson(result).node("description").isAbsent();
+    }
+
+    @Test
+    public void onFieldsParamShouldWriteOnlyRequestedAttributes() throws Exception {
+        // GIVEN
+        Project project = new Project();
+        project.setName("sample project");
+        project.setDescription("sample description");
+        queryParams.put("fields[projects]", Collections.singleton("description"));
+
+        // WHEN
+        String result = writeAttributes(project, "projects");
+
+        // THEN
+        assertThatJson(result).node("name").isAbsent();
+        assertThatJson(result).node("description").isEqualTo("sample description");
+    }
+
+    @Test
+    public void onCustomSerializerShouldWriteConvertedAttributes() throws Exception {
+        // GIVEN
+        CustomResource resource = new CustomResource();
+        resource.name = "custom";
+        queryParams.put("fields[customs]", Collections.singleton("name"));
+
+        // WHEN
+        String result = writeAttributes(resource, "customs");
+
+        // THEN
+        assertThatJson(result).isEqualTo("{\"name\": \"CUSTOM\"}");
+    }
+
+    private String writeAttributes(Object resource, String resourceType) throws IOException {
+        ResourceInformation resourceInformation = new ResourceInformationBuilder(new ResourceFieldNameTransformer())
+            .build(resource.getClass());
+        QueryParams params = new QueryParamsBuilder(new DefaultQueryParamsParser()).buildQueryParams(queryParams);
+        RenderPlan.TypePlan typePlan = RenderPlan.compile(params).forType(resourceType);
+
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(AttributesOf.class, new JsonSerializer<AttributesOf>() {
+            @Override
+            public void serialize(AttributesOf value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+                sut.writeAttributes(gen, serializers, value.resource, resourceInformation.getAttributeFields(),
+                    typePlan);
+            }
+        });
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(module);
+        return objectMapper.writeValueAsString(new AttributesOf(resource));
+    }
+
+    private static class AttributesOf {
+        private final Object resource;
+
+        private AttributesOf(Object resource) {
+            this.resource = resource;
+        }
+    }
+
+    @JsonApiResource(type = "customs")
+    @JsonSerialize(using = CustomResourceSerializer.class)
+    public static class CustomResource {
+        @JsonApiId
+        public Long id;
+        public String name;
+        public String description;
+    }
+
+    public static class CustomResourceSerializer extends JsonSerializer<CustomResource> {
+        @Override
+        public void serialize(CustomResource value, JsonGenerator gen, SerializerProvider serializers)
+            throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField("name", value.name.toUpperCase());
+            gen.writeStringField("description", "written by the custom serializer");
+            gen.writeStringField("unknown", "not an attribute");
+            gen.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.katharsis.jackson.mock.models;
+
+import io.katharsis.resource.annotations.JsonApiId;
+import io.katharsis.resource.annotations.JsonApiResource;
+import io.katharsis.resource.annotations.JsonApiToMany;
+
+import java.util.Collections;
+import java.util.List;
+
+@JsonApiResource(type = "classDs")
+public class ClassD {
+
+    @JsonApiId
+    private Long id;
+
+    @JsonApiToMany(lazy = false)
+    private final List<ClassBWithInclusion> classBsWithInclusion;
+
+    public ClassD(ClassBWithInclusion classBsWithInclusion) {
+        this.classBsWithInclusion = Collections.singletonList(classBsWithInclusion);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public List<ClassBWithInclusion> getClassBsWithInclusion() {
+        return classBsWithInclusion;
+    }
+}
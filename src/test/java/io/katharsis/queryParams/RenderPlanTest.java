@@ -0,0 +1,85 @@
+package io.katharsis.queryParams;
+
+import io.katharsis.jackson.exception.ParametersDeserializationException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RenderPlanTest {
+
+    private Map<String, Set<String>> queryParams;
+    private QueryParamsBuilder queryParamsBuilder;
+
+    @Before
+    public void prepare() {
+        queryParams = new HashMap<>();
+        queryParamsBuilder = new QueryParamsBuilder(new DefaultQueryParamsParser());
+    }
+
+    @Test
+    public void onNoFieldsParamsShouldIncludeAllFields() throws ParametersDeserializationException {
+        // WHEN
+        RenderPlan.TypePlan typePlan = queryParamsBuilder.buildQueryParams(queryParams)
+            .getRenderPlan()
+            .forType("tasks");
+
+        // THEN
+        assertThat(typePlan.isAllFieldsIncluded()).isTrue();
+        assertThat(typePlan.isFieldIncluded("name")).isTrue();
+        assertThat(typePlan.getIncludedRelations()).isNull();
+    }
+
+    @Test
+    public void onFieldsParamsShouldIncludeOnlyRequestedFields() throws ParametersDeserializationException {
+        // GIVEN
+        queryParams.put("fields[tasks]", Collections.singleton("name"));
+
+        // WHEN
+        RenderPlan renderPlan = queryParamsBuilder.buildQueryParams(queryParams)
+            .getRenderPlan();
+
+        // THEN
+        assertThat(renderPlan.forType("tasks").isAllFieldsIncluded()).isFalse();
+        assertThat(renderPlan.forType("tasks").isFieldIncluded("name")).isTrue();
+        assertThat(renderPlan.forType("tasks").isFieldIncluded("project")).isFalse();
+        assertThat(renderPlan.forType("projects").isFieldIncluded("name")).isFalse();
+    }
+
+    @Test
+    public void onIncludeParamsShouldForceInclusionOfPaths() throws ParametersDeserializationException {
+        // GIVEN
+        queryParams.put("include[tasks]", Collections.singleton("project"));
+
+        // WHEN
+        RenderPlan.TypePlan typePlan = queryParamsBuilder.buildQueryParams(queryParams)
+            .getRenderPlan()
+            .forType("tasks");
+
+        // THEN
+        assertThat(typePlan.isAllFieldsIncluded()).isTrue();
+        assertThat(typePlan.isInclusionForced("project")).isTrue();
+        assertThat(typePlan.isInclusionForced("name")).isFalse();
+        assertThat(typePlan.getIncludedRelations().getParams()).hasSize(1);
+    }
+
+    @Test
+    public void onChangedParamsShouldCompileNewPlan() throws ParametersDeserializationException {
+        // GIVEN
+        QueryParams params = queryParamsBuilder.buildQueryParams(queryParams);
+        RenderPlan renderPlan = params.getRenderPlan();
+
+        // WHEN
+        params.setIncludedFields(Collections.singletonMap("fields[tasks]", Collections.singleton("name")));
+
+        // THEN
+        assertThat(params.getRenderPlan()).isNotSameAs(renderPlan);
+        assertThat(params.getRenderPlan()).isSameAs(params.getRenderPlan());
+        assertThat(params.getRenderPlan().forType("tasks").isFieldIncluded("project")).isFalse();
+    }
+}
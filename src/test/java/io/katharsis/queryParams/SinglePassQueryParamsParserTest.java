@@ -0,0 +1,105 @@
+package io.katharsis.queryParams;
+
+import io.katharsis.jackson.exception.ParametersDeserializationException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SinglePassQueryParamsParserTest {
+
+    private Map<String, Set<String>> queryParams;
+    private QueryParamsBuilder sut;
+
+    @Before
+    public void prepare() {
+        queryParams = new HashMap<>();
+        sut = new QueryParamsBuilder(new SinglePassQueryParamsParser());
+    }
+
+    @Test
+    public void onGivenParamsParserShouldReturnOnlyParamsOfCategory() {
+        // GIVEN
+        queryParams.put("filter[users][name]", Collections.singleton("John"));
+        queryParams.put("sort[users][name]", Collections.singleton("asc"));
+        queryParams.put("random[users][name]", Collections.singleton("John"));
+
+        // WHEN
+        Map<String, Set<String>> result = new SinglePassQueryParamsParser().parseFiltersParameters(queryParams);
+
+        // THEN
+        assertThat(result).containsOnlyKeys("filter[users][name]");
+    }
+
+    @Test
+    public void onGivenParamsBuilderShouldReturnTypedParams() {
+        // GIVEN
+        queryParams.put("filter[users][address][city][]", Collections.singleton("Kraków"));
+        queryParams.put("sort[users][name]", Collections.singleton("desc"));
+        queryParams.put("page[limit]", Collections.singleton("10"));
+        queryParams.put("include[users]", Collections.singleton("projects"));
+
+        // WHEN
+        QueryParams result = sut.buildQueryParams(queryParams);
+
+        // THEN
+        assertThat(result.getFilters().getParams().get("users").getParams().get("address.city"))
+            .containsOnly("Kraków");
+        assertThat(result.getSorting().getParams().get("users").getParams().get("name"))
+            .isEqualTo(RestrictedSortingValues.desc);
+        assertThat(result.getPagination()).containsEntry(RestrictedPaginationKeys.limit, 10);
+        assertThat(result.getIncludedRelations().getParams().get("users").getParams()).hasSize(1);
+        assertThat(result.getGrouping().getParams()).isEmpty();
+    }
+
+    @Test
+    public void onIdenticalParamsBuilderShouldReuseQueryParams() {
+        // GIVEN
+        queryParams.put("filter[users][name]", Collections.singleton("John"));
+        QueryParams queryParams1 = sut.buildQueryParams(queryParams);
+
+        // WHEN
+        QueryParams result = sut.buildQueryParams(new HashMap<>(queryParams));
+
+        // THEN
+        assertThat(result).isSameAs(queryParams1);
+    }
+
+    @Test
+    public void onModifiedParamsBuilderShouldNotChangeCachedQueryParams() {
+        // GIVEN
+        Set<String> names = new HashSet<>(Collections.singleton("John"));
+        queryParams.put("filter[users][name]", names);
+        QueryParams queryParams1 = sut.buildQueryParams(queryParams);
+
+        // WHEN
+        names.add("Jane");
+        QueryParams result = sut.buildQueryParams(Collections.singletonMap("filter[users][name]",
+            Collections.singleton("John")));
+
+        // THEN
+        assertThat(result).isSameAs(queryParams1);
+        assertThat(result.getFilters().getParams().get("users").getParams().get("name")).containsOnly("John");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void onCachedQueryParamsShouldNotAllowModifications() {
+        // GIVEN
+        queryParams.put("filter[users][name]", new HashSet<>(Collections.singleton("John")));
+        QueryParams result = sut.buildQueryParams(queryParams);
+
+        // WHEN
+        result.getFilters().getParams().get("users").getParams().get("name").add("Jane");
+    }
+
+    @Test(expected = ParametersDeserializationException.class)
+    public void onMalformedParamBuilderShouldThrowException() {
+        // GIVEN
+        queryParams.put("filter[]", Collections.singleton("John"));
+
+        // WHEN
+        sut.buildQueryParams(queryParams);
+    }
+}
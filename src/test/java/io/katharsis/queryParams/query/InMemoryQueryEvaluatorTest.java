@@ -0,0 +1,130 @@
+package io.katharsis.queryParams.query;
+
+import io.katharsis.queryParams.QueryParamsBuilder;
+import io.katharsis.queryParams.SinglePassQueryParamsParser;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformation;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.models.Task;
+import io.katharsis.utils.parser.TypeParser;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InMemoryQueryEvaluatorTest {
+
+    private Map<String, Set<String>> queryParams;
+    private ResourceInformation resourceInformation;
+    private List<Task> tasks;
+
+    @Before
+    public void prepare() {
+        queryParams = new HashMap<>();
+        resourceInformation = new ResourceInformationBuilder(new ResourceFieldNameTransformer()).build(Task.class);
+        tasks = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            Task task = new Task().setId(id);
+            task.setName("task" + id);
+            Project project = new Project();
+            project.setName(id % 2 == 0 ? "even" : "odd");
+            task.setProject(project);
+            tasks.add(task);
+        }
+        Collections.shuffle(tasks, new Random(42));
+    }
+
+    @Test
+    public void onSortingAndLimitShouldReturnRequestedPage() {
+        // GIVEN
+        queryParams.put("sort[tasks][id]", Collections.singleton("desc"));
+        queryParams.put("page[offset]", Collections.singleton("2"));
+        queryParams.put("page[limit]", Collections.singleton("3"));
+
+        // WHEN
+        List<Task> result = buildEvaluator().evaluate(tasks);
+
+        // THEN
+        assertThat(result).extracting("id").containsExactly(18L, 17L, 16L);
+    }
+
+    @Test
+    public void onNestedPathFilterShouldFilterByNestedProperty() {
+        // GIVEN
+        queryParams.put("filter[tasks][project][name]", Collections.singleton("even"));
+        queryParams.put("filter[tasks][id][lt]", Collections.singleton("7"));
+        queryParams.put("sort[tasks][id]", Collections.singleton("asc"));
+
+        // WHEN
+        List<Task> result = buildEvaluator().evaluate(tasks);
+
+        // THEN
+        assertThat(result).extracting("id").containsExactly(2L, 4L, 6L);
+    }
+
+    @Test
+    public void onLikeFilterWithLimitShouldReturnFirstMatchingResources() {
+        // GIVEN
+        queryParams.put("filter[tasks][name][like]", Collections.singleton("task1_"));
+        queryParams.put("page[limit]", Collections.singleton("4"));
+
+        // WHEN
+        List<Task> result = buildEvaluator().evaluate(tasks);
+
+        // THEN
+        assertThat(result).hasSize(4);
+        for (Task task : result) {
+            assertThat(task.getName()).matches("task1\\d");
+        }
+    }
+
+    @Test
+    public void onOffsetOutOfRangeShouldReturnEmptyList() {
+        // GIVEN
+        queryParams.put("filter[tasks][id][gt]", Collections.singleton("15"));
+        queryParams.put("page[offset]", Collections.singleton("10"));
+
+        // WHEN
+        List<Task> result = buildEvaluator().evaluate(tasks);
+
+        // THEN
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void onLimitCloseToMaxValueShouldReturnRemainingResources() {
+        // GIVEN
+        queryParams.put("sort[tasks][id]", Collections.singleton("asc"));
+        queryParams.put("page[offset]", Collections.singleton("18"));
+        queryParams.put("page[limit]", Collections.singleton(String.valueOf(Integer.MAX_VALUE)));
+
+        // WHEN
+        List<Task> result = buildEvaluator().evaluate(tasks);
+
+        // THEN
+        assertThat(result).extracting("id").containsExactly(19L, 20L);
+    }
+
+    @Test
+    public void onResourceWithoutFilteredPropertyShouldNotMatchIt() {
+        // GIVEN
+        queryParams.put("filter[tasks][name]", Collections.singleton("task3"));
+        List<Object> resources = new ArrayList<>(tasks);
+        resources.add(0, new Object());
+
+        // WHEN
+        List<Object> result = buildEvaluator().evaluate(resources);
+
+        // THEN
+        assertThat(result).extracting("id").containsExactly(3L);
+    }
+
+    private InMemoryQueryEvaluator buildEvaluator() {
+        ResourceQuery query = new ResourceQueryBuilder(new TypeParser()).build("tasks", resourceInformation,
+            new QueryParamsBuilder(new SinglePassQueryParamsParser(0)).buildQueryParams(queryParams));
+        return new InMemoryQueryEvaluator(query);
+    }
+}
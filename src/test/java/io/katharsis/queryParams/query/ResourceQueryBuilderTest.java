@@ -0,0 +1,177 @@
+package io.katharsis.queryParams.query;
+
+import io.katharsis.jackson.exception.ParametersDeserializationException;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.queryParams.QueryParamsBuilder;
+import io.katharsis.queryParams.RestrictedSortingValues;
+import io.katharsis.queryParams.SinglePassQueryParamsParser;
+import io.katharsis.resource.annotations.JsonApiId;
+import io.katharsis.resource.annotations.JsonApiResource;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformation;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.mock.models.Task;
+import io.katharsis.utils.parser.TypeParser;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceQueryBuilderTest {
+
+    private Map<String, Set<String>> queryParams;
+    private ResourceInformation resourceInformation;
+    private ResourceQueryBuilder sut;
+
+    @Before
+    public void prepare() {
+        queryParams = new HashMap<>();
+        resourceInformation = new ResourceInformationBuilder(new ResourceFieldNameTransformer()).build(Task.class);
+        sut = new ResourceQueryBuilder(new TypeParser());
+    }
+
+    @Test
+    public void onFilterWithOperatorShouldBuildTypedFilter() {
+        // GIVEN
+        queryParams.put("filter[tasks][id][gt]", Collections.singleton("10"));
+
+        // WHEN
+        ResourceQuery result = sut.build("tasks", resourceInformation, buildQueryParams());
+
+        // THEN
+        assertThat(result.getFilters()).hasSize(1);
+        FilterSpec filter = result.getFilters().get(0);
+        assertThat(filter.getPath()).containsExactly("id");
+        assertThat(filter.getOperator()).isEqualTo(FilterOperator.GT);
+        assertThat(filter.getValues()).containsExactly(10L);
+        assertThat(filter.getValueType()).isEqualTo(Long.class);
+    }
+
+    @Test
+    public void onFilterWithManyValuesShouldBuildInFilter() {
+        // GIVEN
+        queryParams.put("filter[tasks][id]", new LinkedHashSet<>(Arrays.asList("1", "2")));
+
+        // WHEN
+        ResourceQuery result = sut.build("tasks", resourceInformation, buildQueryParams());
+
+        // THEN
+        assertThat(result.getFilters().get(0).getOperator()).isEqualTo(FilterOperator.IN);
+        assertThat(result.getFilters().get(0).getValues()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void onNestedPathShouldResolvePropertyPath() {
+        // GIVEN
+        queryParams.put("filter[tasks][project][name][like]", Collections.singleton("Super%"));
+        queryParams.put("sort[tasks][name]", Collections.singleton("desc"));
+        queryParams.put("page[offset]", Collections.singleton("5"));
+        queryParams.put("page[limit]", Collections.singleton("10"));
+
+        // WHEN
+        ResourceQuery result = sut.build("tasks", resourceInformation, buildQueryParams());
+
+        // THEN
+        FilterSpec filter = result.getFilters().get(0);
+        assertThat(filter.getPropertyPath()).containsExactly("project", "name");
+        assertThat(filter.getOperator()).isEqualTo(FilterOperator.LIKE);
+        assertThat(filter.getValues()).containsExactly("Super%");
+        assertThat(result.getSorting()).containsExactly(
+            new SortSpec(Collections.singletonList("name"), null, RestrictedSortingValues.desc));
+        assertThat(result.getOffset()).isEqualTo(5);
+        assertThat(result.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    public void onUnknownPropertyShouldKeepStringValues() {
+        // GIVEN
+        queryParams.put("filter[tasks][unknown]", Collections.singleton("1"));
+
+        // WHEN
+        ResourceQuery result = sut.build("tasks", resourceInformation, buildQueryParams());
+
+        // THEN
+        assertThat(result.getFilters().get(0).getPropertyPath()).isNull();
+        assertThat(result.getFilters().get(0).getValues()).containsExactly("1");
+    }
+
+    @Test(expected = ParametersDeserializationException.class)
+    public void onInvalidValueShouldThrowException() {
+        // GIVEN
+        queryParams.put("filter[tasks][id]", Collections.singleton("abc"));
+
+        // WHEN
+        sut.build("tasks", resourceInformation, buildQueryParams());
+    }
+
+    @Test(expected = ParametersDeserializationException.class)
+    public void onInvalidEnumValueShouldThrowException() {
+        // GIVEN
+        queryParams.put("filter[statusTasks][status]", Collections.singleton("bogus"));
+        ResourceInformation statusTaskInformation = new ResourceInformationBuilder(new ResourceFieldNameTransformer())
+            .build(StatusTask.class);
+
+        // WHEN
+        sut.build("statusTasks", statusTaskInformation, buildQueryParams());
+    }
+
+    @Test
+    public void onInMemoryQueryWithInvalidValueShouldKeepStringValue() {
+        // GIVEN
+        queryParams.put("filter[tasks][id]", new LinkedHashSet<>(Arrays.asList("1", "abc")));
+
+        // WHEN
+        ResourceQuery result = sut.buildInMemory("tasks", resourceInformation, buildQueryParams());
+
+        // THEN
+        assertThat(result.getFilters().get(0).getValues()).containsExactly("1", "abc");
+    }
+
+    @Test
+    public void onInMemoryQueryWithUnparsableTypeShouldKeepStringValue() {
+        // GIVEN
+        queryParams.put("filter[statusTasks][created]", Collections.singleton("2016-01-01T00:00:00Z"));
+        ResourceInformation statusTaskInformation = new ResourceInformationBuilder(new ResourceFieldNameTransformer())
+            .build(StatusTask.class);
+
+        // WHEN
+        ResourceQuery result = sut.buildInMemory("statusTasks", statusTaskInformation, buildQueryParams());
+
+        // THEN
+        FilterSpec filter = result.getFilters().get(0);
+        assertThat(filter.getValueType()).isEqualTo(Date.class);
+        assertThat(filter.getValues()).containsExactly("2016-01-01T00:00:00Z");
+    }
+
+    private QueryParams buildQueryParams() {
+        return new QueryParamsBuilder(new SinglePassQueryParamsParser(0)).buildQueryParams(queryParams);
+    }
+
+    private enum Status {
+        OPEN, CLOSED
+    }
+
+    @JsonApiResource(type = "statusTasks")
+    public static class StatusTask {
+        @JsonApiId
+        private Long id;
+
+        private Status status;
+
+        private Date created;
+
+        public Long getId() {
+            return id;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public Date getCreated() {
+            return created;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.katharsis.repository.adapter;
+
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.ParametersFactory;
+import io.katharsis.repository.annotations.JsonApiDelete;
+import io.katharsis.repository.annotations.JsonApiFindOne;
+import io.katharsis.repository.annotations.JsonApiSave;
+import io.katharsis.repository.mock.NewInstanceRepositoryMethodParameterProvider;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RepositoryInvocationPlanTest {
+
+    @Test
+    public void onRepositoryClassShouldResolveMethodsOnce() {
+        // WHEN
+        RepositoryInvocationPlan sut = RepositoryInvocationPlan.forClass(ChildRepository.class);
+
+        // THEN
+        assertThat(RepositoryInvocationPlan.forClass(ChildRepository.class)).isSameAs(sut);
+        assertThat(sut.getMethod(JsonApiFindOne.class).getMethod().getDeclaringClass())
+            .isEqualTo(ChildRepository.class);
+        assertThat(sut.getMethod(JsonApiSave.class).getMethod().getDeclaringClass())
+            .isEqualTo(ParentRepository.class);
+        assertThat(sut.getMethod(JsonApiDelete.class)).isNull();
+    }
+
+    @Test
+    public void onResolvedMethodShouldFillParametersByKind() throws Throwable {
+        // GIVEN
+        RepositoryMethodInvoker sut = RepositoryInvocationPlan.forClass(ChildRepository.class)
+            .getMethod(JsonApiFindOne.class);
+        ParametersFactory parametersFactory = new ParametersFactory(new NewInstanceRepositoryMethodParameterProvider());
+        QueryParams queryParams = new QueryParams();
+
+        // WHEN
+        Object[] parameters = parametersFactory.buildParameters(new Object[]{1L}, sut, queryParams,
+            JsonApiFindOne.class);
+        Object result = sut.invoke(new ChildRepository(), parameters);
+
+        // THEN
+        assertThat(sut.getParameterKind(1)).isEqualTo(RepositoryMethodInvoker.ParameterKind.QUERY_PARAMS);
+        assertThat(sut.getParameterKind(2)).isEqualTo(RepositoryMethodInvoker.ParameterKind.PROVIDED);
+        assertThat(parameters[1]).isSameAs(queryParams);
+        assertThat(parameters[2]).isInstanceOf(String.class);
+        assertThat(result).isEqualTo("1");
+    }
+
+    @Test
+    public void onOtherAnnotationShouldNotMapMethod() {
+        // WHEN
+        RepositoryInvocationPlan sut = RepositoryInvocationPlan.forClass(ParentRepository.class);
+
+        // THEN
+        assertThat(sut.getMethod(Deprecated.class)).isNull();
+    }
+
+    @Test(expected = IllegalAccessException.class)
+    public void onPrivateMethodShouldNotMakeItAccessible() throws Throwable {
+        // GIVEN
+        RepositoryMethodInvoker sut = RepositoryInvocationPlan.forClass(PrivateMethodRepository.class)
+            .getMethod(JsonApiDelete.class);
+
+        // WHEN
+        sut.invoke(new PrivateMethodRepository(), new Object[]{1L});
+    }
+
+    static class ParentRepository {
+
+        @JsonApiSave
+        public Object save(Object entity) {
+            return entity;
+        }
+
+        @Deprecated
+        public void deprecated() {
+        }
+    }
+
+    static class ChildRepository extends ParentRepository {
+
+        @JsonApiFindOne
+        public String findOne(Long id, QueryParams queryParams, String provided) {
+            return String.valueOf(id);
+        }
+    }
+
+    static class PrivateMethodRepository {
+
+        @JsonApiDelete
+        private void delete(Long id) {
+        }
+    }
+}
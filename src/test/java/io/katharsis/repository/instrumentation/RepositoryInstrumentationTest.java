@@ -0,0 +1,152 @@
+package io.katharsis.repository.instrumentation;
+
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.MetaRepository;
+import io.katharsis.repository.ParametersFactory;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.adapter.ResourceRepositoryAdapter;
+import io.katharsis.repository.mock.NewInstanceRepositoryMethodParameterProvider;
+import io.katharsis.resource.exception.ResourceNotFoundException;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformation;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.mock.models.Task;
+import io.katharsis.resource.mock.repository.TaskRepository;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.repository.AnnotatedResourceEntryBuilder;
+import io.katharsis.resource.registry.repository.DirectResourceEntry;
+import io.katharsis.response.MetaInformation;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class RepositoryInstrumentationTest {
+
+    private ResourceInformation resourceInformation;
+    private RepositoryMetrics metrics;
+
+    @Before
+    public void setUp() {
+        resourceInformation = new ResourceInformationBuilder(new ResourceFieldNameTransformer()).build(Task.class);
+        metrics = new RepositoryMetrics();
+    }
+
+    @Test
+    public void onDirectRepositoryShouldRecordCallsAndKeepInterfaces() {
+        // GIVEN
+        DirectTaskRepository repository = new DirectTaskRepository();
+        RegistryEntry<Task> registryEntry = new RegistryEntry<>(resourceInformation,
+            new DirectResourceEntry<>(repository));
+        ResourceRegistry resourceRegistry = new ResourceRegistry("http://localhost:8080");
+        resourceRegistry.addEntry(Task.class, registryEntry);
+        resourceRegistry.setRepositoryInstrumentation(new RepositoryInstrumentation(metrics));
+
+        // WHEN
+        ResourceRepository<Task, ?> sut = registryEntry.getResourceRepository(null);
+        sut.findAll(new QueryParams());
+        ((ResourceRepository<Task, Long>) sut).findAll(Arrays.asList(1L, 2L), new QueryParams());
+
+        // THEN
+        assertThat(sut).isInstanceOf(MetaRepository.class);
+        assertThat(registryEntry.getResourceRepository(null)).isSameAs(sut);
+        RepositoryMetricSnapshot findAll = metrics.snapshot("tasks", "findAll");
+        assertThat(findAll.getCallCount()).isEqualTo(1);
+        assertThat(findAll.getResultSizes().getMax()).isEqualTo(3);
+        assertThat(metrics.snapshot("tasks", "findAllWithIds").getCallCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void onAnnotatedRepositoryShouldRecordCallsAndErrors() {
+        // GIVEN
+        RegistryEntry<Task> registryEntry = new RegistryEntry<>(resourceInformation,
+            new AnnotatedResourceEntryBuilder<Task, Long>(new TaskRepository()));
+        registryEntry.setRepositoryInstrumentation(new RepositoryInstrumentation(metrics));
+        ResourceRepository<Task, Long> sut = (ResourceRepository<Task, Long>) registryEntry
+            .getResourceRepository(new NewInstanceRepositoryMethodParameterProvider());
+
+        // WHEN
+        try {
+            sut.findOne(-1L, new QueryParams());
+            fail("Missing task should not be found");
+        } catch (ResourceNotFoundException e) {
+            // expected
+        }
+
+        // THEN
+        RepositoryMetricSnapshot findOne = metrics.snapshot("tasks", "findOne");
+        assertThat(findOne.getCallCount()).isEqualTo(1);
+        assertThat(findOne.getErrorCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void onSharedAdapterShouldRecordCallsOfEachCopyUnderItsType() {
+        // GIVEN
+        ResourceRepositoryAdapter<Task, Long> adapter = new ResourceRepositoryAdapter<>(new TaskRepository(),
+            new ParametersFactory(new NewInstanceRepositoryMethodParameterProvider()));
+        RepositoryInstrumentation instrumentation = new RepositoryInstrumentation(metrics);
+        ResourceRepository<Task, Long> tasksRepository = instrumentation.decorate(adapter, "tasks");
+        ResourceRepository<Task, Long> otherRepository = instrumentation.decorate(adapter, "otherTasks");
+
+        // WHEN
+        tasksRepository.findAll(new QueryParams());
+        otherRepository.findAll(new QueryParams());
+        adapter.findAll(new QueryParams());
+
+        // THEN
+        assertThat(tasksRepository).isNotSameAs(adapter).isInstanceOf(ResourceRepositoryAdapter.class);
+        assertThat(metrics.snapshot("tasks", "findAll").getCallCount()).isEqualTo(1);
+        assertThat(metrics.snapshot("otherTasks", "findAll").getCallCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void onDisabledInstrumentationShouldReturnRepository() {
+        // GIVEN
+        DirectTaskRepository repository = new DirectTaskRepository();
+        RegistryEntry<Task> registryEntry = new RegistryEntry<>(resourceInformation,
+            new DirectResourceEntry<>(repository));
+        registryEntry.setRepositoryInstrumentation(new RepositoryInstrumentation(metrics));
+
+        // WHEN
+        registryEntry.setRepositoryInstrumentation(null);
+
+        // THEN
+        assertThat(registryEntry.getResourceRepository(null)).isSameAs(repository);
+    }
+
+    public static class DirectTaskRepository implements ResourceRepository<Task, Long>, MetaRepository<Task> {
+
+        @Override
+        public Task findOne(Long id, QueryParams queryParams) {
+            return null;
+        }
+
+        @Override
+        public Iterable<Task> findAll(QueryParams queryParams) {
+            return Arrays.asList(new Task(), new Task(), new Task());
+        }
+
+        @Override
+        public Iterable<Task> findAll(Iterable<Long> ids, QueryParams queryParams) {
+            return Arrays.asList(new Task(), new Task());
+        }
+
+        @Override
+        public <S extends Task> S save(S entity) {
+            return entity;
+        }
+
+        @Override
+        public void delete(Long id) {
+        }
+
+        @Override
+        public MetaInformation getMetaInformation(Iterable<Task> resources, QueryParams queryParams) {
+            return null;
+        }
+    }
+}
@@ -124,6 +124,43 @@ public class RequestBodyTest {
                 .hasSize(0);
     }
 
+    @Test
+    public void onPostDataWithMultipleResourcesAndOtherMembersShouldSkipThoseMembers() throws Exception {
+        // GIVEN
+        String body = "{\"meta\": {\"data\": \"ignored\"}, \"data\": [{\"type\": \"tasks\", \"id\": 1, " +
+                "\"links\": {\"self\": \"/tasks/1\"}, \"relationships\": {\"project\": {\"links\": {}, " +
+                "\"data\": {\"type\": \"projects\", \"id\": \"2\", \"meta\": {}}}}}, " +
+                "{\"type\": \"tasks\", \"id\": \"3\"}], \"included\": [{\"type\": \"projects\", \"id\": \"2\"}]}";
+
+        // WHEN
+        RequestBody result = objectMapper.readValue(body, RequestBody.class);
+
+        // THEN
+        assertThat(result.isMultiple()).isTrue();
+        List<DataBody> dataBodies = new LinkedList<>();
+        for (DataBody dataBody : result.getMultipleData()) {
+            dataBodies.add(dataBody);
+        }
+        assertThat(dataBodies).extracting("id").containsExactly("1", "3");
+        assertThat(dataBodies.get(0).getAttributes()).isNull();
+        assertThat(((LinkageData) (dataBodies.get(0).getRelationships().getAdditionalProperties().get("project")))
+                .getId()).isEqualTo("2");
+        assertThat(dataBodies.get(1).getRelationships()).isNull();
+    }
+
+    @Test
+    public void onBodyWithoutDataShouldMapToEmptyBody() throws Exception {
+        // GIVEN
+        String body = "{\"meta\": {\"data\": []}}";
+
+        // WHEN
+        RequestBody result = objectMapper.readValue(body, RequestBody.class);
+
+        // THEN
+        assertThat(result).isNotNull();
+        assertThat(result.getData()).isNull();
+    }
+
     private List<String> getList(Iterator<String> iter) {
         List<String> copy = new LinkedList<>();
         while (iter.hasNext())
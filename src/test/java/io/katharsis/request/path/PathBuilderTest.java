@@ -23,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class PathBuilderTest {
 
+    private ResourceRegistry resourceRegistry;
     private PathBuilder pathBuilder;
 
     @Rule
@@ -34,7 +35,7 @@ public class PathBuilderTest {
             new ResourceFieldNameTransformer());
         ResourceRegistryBuilder registryBuilder = new ResourceRegistryBuilder(new SampleJsonServiceLocator(),
             resourceInformationBuilder);
-        ResourceRegistry resourceRegistry = registryBuilder
+        resourceRegistry = registryBuilder
             .build(ResourceRegistryBuilderTest.TEST_MODELS_PACKAGE, ResourceRegistryTest.TEST_MODELS_URL);
 
         pathBuilder = new PathBuilder(resourceRegistry);
@@ -286,4 +287,31 @@ public class PathBuilderTest {
         expectedPath.setParentResource(new ResourcePath("tasks", new PathIds("1")));
         assertThat(jsonPath).isEqualTo(expectedPath);
     }
+
+    @Test
+    public void onRepeatedPathShouldReturnCopyOfCachedPath() {
+        // GIVEN
+        String path = "/tasks/relationships/project";
+
+        // WHEN
+        JsonPath jsonPath = pathBuilder.buildPath(path);
+        jsonPath.getParentResource().setIds(new PathIds("1"));
+
+        // THEN
+        JsonPath expectedPath = new RelationshipsPath("project");
+        expectedPath.setParentResource(new ResourcePath("tasks"));
+        JsonPath repeatedPath = new PathBuilder(resourceRegistry).buildPath(path);
+        assertThat(repeatedPath).isNotSameAs(jsonPath);
+        assertThat(repeatedPath).isEqualTo(expectedPath);
+        assertThat(repeatedPath.getParentResource().getChildResource()).isSameAs(repeatedPath);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void onPathIdsShouldNotAllowModifyingThem() {
+        // GIVEN
+        JsonPath jsonPath = pathBuilder.buildPath("/tasks/1,2");
+
+        // WHEN
+        jsonPath.getIds().getIds().add("3");
+    }
 }
@@ -0,0 +1,294 @@
+package io.katharsis.resource.include;
+
+import io.katharsis.queryParams.DefaultQueryParamsParser;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.queryParams.QueryParamsBuilder;
+import io.katharsis.repository.BulkRelationshipRepository;
+import io.katharsis.resource.annotations.JsonApiId;
+import io.katharsis.resource.annotations.JsonApiLookupIncludeAutomatically;
+import io.katharsis.resource.annotations.JsonApiResource;
+import io.katharsis.resource.annotations.JsonApiToMany;
+import io.katharsis.resource.annotations.JsonApiToOne;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.models.Task;
+import io.katharsis.resource.mock.repository.TaskToProjectRepository;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.repository.DirectRelationshipEntry;
+import io.katharsis.resource.registry.repository.RelationshipEntry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IncludeLookupSetterTest {
+
+    private ResourceInformationBuilder resourceInformationBuilder;
+    private QueryParamsBuilder queryParamsBuilder;
+
+    @Before
+    public void prepare() {
+        resourceInformationBuilder = new ResourceInformationBuilder(new ResourceFieldNameTransformer());
+        queryParamsBuilder = new QueryParamsBuilder(new DefaultQueryParamsParser());
+    }
+
+    @Test
+    public void onBulkRepositoryShouldLoadToOneRelationshipsWithSingleCall() throws Exception {
+        // GIVEN
+        BulkTaskToProjectRepository relationshipRepository = new BulkTaskToProjectRepository();
+        IncludeLookupSetter sut = new IncludeLookupSetter(buildRegistry(relationshipRepository));
+        List<Task> tasks = buildTasks(3);
+
+        // WHEN
+        sut.setIncludedElements("tasks", tasks, buildQueryParams("includedProject"), null);
+
+        // THEN
+        assertThat(relationshipRepository.calls.get()).isEqualTo(1);
+        for (Task task : tasks) {
+            assertThat(task.getIncludedProject().getId()).isEqualTo(task.getId() * 10);
+        }
+    }
+
+    @Test
+    public void onBulkRepositoryShouldLoadToManyRelationshipsWithSingleCall() throws Exception {
+        // GIVEN
+        BulkTaskToProjectRepository relationshipRepository = new BulkTaskToProjectRepository();
+        IncludeLookupSetter sut = new IncludeLookupSetter(buildRegistry(relationshipRepository));
+        List<Task> tasks = buildTasks(3);
+
+        // WHEN
+        sut.setIncludedElements("tasks", tasks, buildQueryParams("includedProjects"), null);
+
+        // THEN
+        assertThat(relationshipRepository.calls.get()).isEqualTo(1);
+        for (Task task : tasks) {
+            assertThat(task.getIncludedProjects()).hasSize(1);
+            assertThat(task.getIncludedProjects().get(0).getId()).isEqualTo(task.getId() * 10);
+        }
+    }
+
+    @Test
+    public void onAlreadySetRelationshipShouldNotCallRepository() throws Exception {
+        // GIVEN
+        BulkTaskToProjectRepository relationshipRepository = new BulkTaskToProjectRepository();
+        IncludeLookupSetter sut = new IncludeLookupSetter(buildRegistry(relationshipRepository));
+        Task task = new Task().setId(1L);
+        Project project = new Project();
+        task.setIncludedProject(project);
+
+        // WHEN
+        sut.setIncludedElements("tasks", task, buildQueryParams("includedProject"), null);
+
+        // THEN
+        assertThat(relationshipRepository.calls.get()).isEqualTo(0);
+        assertThat(task.getIncludedProject()).isSameAs(project);
+    }
+
+    @Test
+    public void onExecutorShouldLoadSiblingRelationshipsInParallel() throws Exception {
+        // GIVEN
+        BulkTaskToProjectRepository relationshipRepository = new BulkTaskToProjectRepository();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicInteger submittedTasks = new AtomicInteger();
+        IncludeLookupSetter sut = new IncludeLookupSetter(buildRegistry(relationshipRepository), command -> {
+            submittedTasks.incrementAndGet();
+            executor.execute(command);
+        });
+        List<Task> tasks = buildTasks(3);
+        QueryParams queryParams = queryParamsBuilder.buildQueryParams(Collections.singletonMap("include[tasks]",
+            new HashSet<>(Arrays.asList("includedProject", "includedProjects"))));
+
+        // WHEN
+        try {
+            sut.setIncludedElements("tasks", tasks, queryParams, null);
+        } finally {
+            executor.shutdown();
+        }
+
+        // THEN
+        assertThat(submittedTasks.get()).isEqualTo(2);
+        for (Task task : tasks) {
+            assertThat(task.getIncludedProject()).isNotNull();
+            assertThat(task.getIncludedProjects()).hasSize(1);
+        }
+    }
+
+    @Test
+    public void onExecutorShouldLoadOverlappingPathsSequentially() throws Exception {
+        // GIVEN
+        NodeToParentRepository relationshipRepository = new NodeToParentRepository();
+        ResourceRegistry resourceRegistry = new ResourceRegistry("http://localhost");
+        List<RelationshipEntry<Node, ?>> relationshipEntries = new ArrayList<>();
+        relationshipEntries.add(new DirectRelationshipEntry<Node, Node>(relationshipRepository));
+        resourceRegistry.addEntry(Node.class,
+            new RegistryEntry<>(resourceInformationBuilder.build(Node.class), null, relationshipEntries));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        IncludeLookupSetter sut = new IncludeLookupSetter(resourceRegistry, executor);
+        Node node = new Node(1L);
+        node.children = Arrays.asList(new Node(2L), new Node(3L));
+        QueryParams queryParams = queryParamsBuilder.buildQueryParams(Collections.singletonMap("include[nodes]",
+            new HashSet<>(Arrays.asList("parent", "children.parent"))));
+
+        // WHEN
+        try {
+            sut.setIncludedElements("nodes", node, queryParams, null);
+        } finally {
+            executor.shutdown();
+        }
+
+        // THEN
+        assertThat(relationshipRepository.calls.get()).isEqualTo(2);
+        assertThat(relationshipRepository.maxActiveCalls.get()).isEqualTo(1);
+        assertThat(node.parent.id).isEqualTo(10L);
+        assertThat(node.children.get(1).parent.id).isEqualTo(30L);
+    }
+
+    private ResourceRegistry buildRegistry(BulkTaskToProjectRepository relationshipRepository) {
+        ResourceRegistry resourceRegistry = new ResourceRegistry("http://localhost");
+        List<RelationshipEntry<Task, ?>> relationshipEntries = new ArrayList<>();
+        relationshipEntries.add(new DirectRelationshipEntry<Task, Project>(relationshipRepository));
+        resourceRegistry.addEntry(Task.class,
+            new RegistryEntry<>(resourceInformationBuilder.build(Task.class), null, relationshipEntries));
+        resourceRegistry.addEntry(Project.class,
+            new RegistryEntry<Project>(resourceInformationBuilder.build(Project.class), null));
+        return resourceRegistry;
+    }
+
+    private QueryParams buildQueryParams(String inclusion) {
+        return queryParamsBuilder
+            .buildQueryParams(Collections.singletonMap("include[tasks]", Collections.singleton(inclusion)));
+    }
+
+    private static List<Task> buildTasks(int count) {
+        List<Task> tasks = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            tasks.add(new Task().setId(id));
+        }
+        return tasks;
+    }
+
+    public static class BulkTaskToProjectRepository extends TaskToProjectRepository
+        implements BulkRelationshipRepository<Task, Long, Project, Long> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Map<Long, Project> findOneTargetsBySources(Iterable<Long> sourceIds, String fieldName,
+                                                        QueryParams queryParams) {
+            calls.incrementAndGet();
+            Map<Long, Project> targets = new HashMap<>();
+            for (Long sourceId : sourceIds) {
+                targets.put(sourceId, buildProject(sourceId));
+            }
+            return targets;
+        }
+
+        @Override
+        public Map<Long, Iterable<Project>> findManyTargetsBySources(Iterable<Long> sourceIds, String fieldName,
+                                                                     QueryParams queryParams) {
+            calls.incrementAndGet();
+            Map<Long, Iterable<Project>> targets = new HashMap<>();
+            for (Long sourceId : sourceIds) {
+                targets.put(sourceId, Collections.singletonList(buildProject(sourceId)));
+            }
+            return targets;
+        }
+
+        private static Project buildProject(Long sourceId) {
+            Project project = new Project();
+            project.setId(sourceId * 10);
+            return project;
+        }
+    }
+
+    @JsonApiResource(type = "nodes")
+    public static class Node {
+        @JsonApiId
+        public Long id;
+
+        @JsonApiToOne
+        @JsonApiLookupIncludeAutomatically
+        public Node parent;
+
+        @JsonApiToMany
+        public List<Node> children;
+
+        public Node() {
+        }
+
+        public Node(Long id) {
+            this.id = id;
+        }
+    }
+
+    public static class NodeToParentRepository implements BulkRelationshipRepository<Node, Long, Node, Long> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger activeCalls = new AtomicInteger();
+        private final AtomicInteger maxActiveCalls = new AtomicInteger();
+
+        @Override
+        public Map<Long, Node> findOneTargetsBySources(Iterable<Long> sourceIds, String fieldName,
+                                                     QueryParams queryParams) {
+            calls.incrementAndGet();
+            maxActiveCalls.accumulateAndGet(activeCalls.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                activeCalls.decrementAndGet();
+            }
+            Map<Long, Node> targets = new HashMap<>();
+            for (Long sourceId : sourceIds) {
+                targets.put(sourceId, new Node(sourceId * 10));
+            }
+            return targets;
+        }
+
+        @Override
+        public Map<Long, Iterable<Node>> findManyTargetsBySources(Iterable<Long> sourceIds, String fieldName,
+                                                                  QueryParams queryParams) {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public void setRelation(Node source, Long targetId, String fieldName) {
+        }
+
+        @Override
+        public void setRelations(Node source, Iterable<Long> targetIds, String fieldName) {
+        }
+
+        @Override
+        public void addRelations(Node source, Iterable<Long> targetIds, String fieldName) {
+        }
+
+        @Override
+        public void removeRelations(Node source, Iterable<Long> targetIds, String fieldName) {
+        }
+
+        @Override
+        public Node findOneTarget(Long sourceId, String fieldName, QueryParams queryParams) {
+            return null;
+        }
+
+        @Override
+        public Iterable<Node> findManyTargets(Long sourceId, String fieldName, QueryParams queryParams) {
+            return null;
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package io.katharsis.resource.registry;
 
 import io.katharsis.repository.RelationshipRepository;
+import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.repository.adapter.RelationshipRepositoryAdapter;
 import io.katharsis.repository.exception.RelationshipRepositoryNotFoundException;
+import io.katharsis.repository.mock.NewInstanceRepositoryMethodParameterProvider;
 import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.mock.models.*;
 import io.katharsis.resource.mock.repository.TaskRepository;
 import io.katharsis.resource.mock.repository.TaskToProjectRepository;
+import io.katharsis.resource.mock.repository.UserToProjectRepository;
+import io.katharsis.resource.registry.repository.AnnotatedRelationshipEntryBuilder;
 import io.katharsis.resource.registry.repository.AnnotatedResourceEntryBuilder;
 import io.katharsis.resource.registry.repository.DirectRelationshipEntry;
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -36,6 +41,40 @@ public class RegistryEntryTest {
         assertThat(relationshipRepository).isExactlyInstanceOf(TaskToProjectRepository.class);
     }
 
+    @Test
+    public void onAnnotatedRelationshipRepositoryWithoutProviderShouldReuseAdapter() throws Exception {
+        // GIVEN
+        RegistryEntry<User> sut = new RegistryEntry(null, null,
+            Collections.singletonList(new AnnotatedRelationshipEntryBuilder<>(new UserToProjectRepository())));
+
+        // WHEN
+        RelationshipRepository<User, ?, ?, ?> first = sut.getRelationshipRepositoryForClass(Project.class, null);
+        RelationshipRepository<User, ?, ?, ?> second = sut.getRelationshipRepositoryForClass(Project.class, null);
+
+        // THEN
+        assertThat(first).isExactlyInstanceOf(RelationshipRepositoryAdapter.class);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void onAnnotatedRelationshipRepositoryWithProviderShouldBuildAdapterPerCall() throws Exception {
+        // GIVEN
+        RegistryEntry<User> sut = new RegistryEntry(null, null,
+            Collections.singletonList(new AnnotatedRelationshipEntryBuilder<>(new UserToProjectRepository())));
+        RepositoryMethodParameterProvider parameterProvider = new NewInstanceRepositoryMethodParameterProvider();
+
+        // WHEN
+        RelationshipRepository<User, ?, ?, ?> first = sut.getRelationshipRepositoryForClass(Project.class,
+            parameterProvider);
+        RelationshipRepository<User, ?, ?, ?> second = sut.getRelationshipRepositoryForClass(Project.class,
+            parameterProvider);
+
+        // THEN
+        assertThat(first).isExactlyInstanceOf(RelationshipRepositoryAdapter.class);
+        assertThat(second).isNotSameAs(first);
+        assertThat(sut.getRelationshipRepositoryForClass(Project.class, null)).isNotSameAs(first);
+    }
+
     @Test
     public void onInvalidRelationshipClassShouldThrowException() throws Exception {
         // GIVEN
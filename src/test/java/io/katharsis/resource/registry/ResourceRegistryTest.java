@@ -1,6 +1,8 @@
 package io.katharsis.resource.registry;
 
 import io.katharsis.resource.exception.init.ResourceNotFoundInitializationException;
+import io.katharsis.resource.mock.models.Document;
+import io.katharsis.resource.mock.models.Memorandum;
 import io.katharsis.resource.mock.models.Task;
 import org.junit.Before;
 import org.junit.Rule;
@@ -59,4 +61,27 @@ public class ResourceRegistryTest {
         String result = resourceRegistry.getResourceType(Long.class);
         assertThat(result).isNull();
     }
+
+    @Test
+    public void onSubclassOfExistingResourceShouldReturnParentEntry() {
+        RegistryEntry entry = new RegistryEntry(null, null, null);
+        resourceRegistry.addEntry(Task.class, entry);
+        RegistryEntry tasksEntry = resourceRegistry.getEntry(SpecialTask.class);
+        assertThat(tasksEntry).isSameAs(entry);
+        assertThat(resourceRegistry.getResourceType(SpecialTask.class)).isEqualTo("tasks");
+    }
+
+    @Test
+    public void onExistingTypesShouldReturnMatchingEntries() {
+        RegistryEntry documentEntry = new RegistryEntry(null, null, null);
+        RegistryEntry memorandumEntry = new RegistryEntry(null, null, null);
+        resourceRegistry.addEntry(Document.class, documentEntry);
+        resourceRegistry.addEntry(Memorandum.class, memorandumEntry);
+        assertThat(resourceRegistry.getEntry("documents")).isSameAs(documentEntry);
+        assertThat(resourceRegistry.getEntry("memoranda")).isSameAs(memorandumEntry);
+        assertThat(resourceRegistry.getEntry(Memorandum.class)).isSameAs(memorandumEntry);
+    }
+
+    private static class SpecialTask extends Task {
+    }
 }
@@ -0,0 +1,56 @@
+package io.katharsis.response;
+
+import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.errorhandling.handlers.SomeExceptionMapper;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistryBuilder;
+import io.katharsis.resource.exception.RequestBodyException;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BulkElementResultTest {
+
+    private ExceptionMapperRegistry exceptionMapperRegistry;
+
+    @Before
+    public void prepare() throws Exception {
+        exceptionMapperRegistry = new ExceptionMapperRegistryBuilder().build("io.katharsis.errorhandling.handlers");
+    }
+
+    @Test
+    public void onMappedExceptionShouldUseMappedError() {
+        // WHEN
+        BulkElementResult result = BulkElementResult.failure(1, "2", new SomeExceptionMapper.SomeException(),
+            exceptionMapperRegistry);
+
+        // THEN
+        assertThat(result.getIndex()).isEqualTo(1);
+        assertThat(result.getId()).isEqualTo("2");
+        assertThat(result.getStatus()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR_500);
+        assertThat(result.getDetail()).isEqualTo("hello");
+    }
+
+    @Test
+    public void onKatharsisExceptionShouldExposeItsMessage() {
+        // WHEN
+        BulkElementResult result = BulkElementResult.failure(0, null,
+            new RequestBodyException(HttpMethod.POST, "tasks", "No id in the data"), null);
+
+        // THEN
+        assertThat(result.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST_400);
+        assertThat(result.getDetail()).contains("No id in the data");
+    }
+
+    @Test
+    public void onUnmappedExceptionShouldHideItsMessage() {
+        // WHEN
+        BulkElementResult result = BulkElementResult.failure(0, null,
+            new IllegalStateException("jdbc:secret@db"), exceptionMapperRegistry);
+
+        // THEN
+        assertThat(result.getStatus()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR_500);
+        assertThat(result.getDetail()).doesNotContain("secret");
+    }
+}
@@ -0,0 +1,108 @@
+package io.katharsis.utils;
+
+import org.junit.Test;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LambdaPropertyAccessorFactoryTest {
+
+    private final LambdaPropertyAccessorFactory sut = new LambdaPropertyAccessorFactory();
+
+    @Test
+    public void onPublicGetterShouldCreateLambda() throws Exception {
+        // GIVEN
+        Bean bean = new Bean();
+        bean.setValue(5);
+
+        // WHEN
+        Function<Object, Object> getter = sut.createGetter(Bean.class.getMethod("getValue"));
+
+        // THEN
+        assertThat(getter.getClass().isSynthetic()).isTrue();
+        assertThat(getter.apply(bean)).isEqualTo(5);
+    }
+
+    @Test
+    public void onPrimitiveSetterShouldUnboxValue() throws Exception {
+        // GIVEN
+        Bean bean = new Bean();
+
+        // WHEN
+        BiConsumer<Object, Object> setter = sut.createSetter(Bean.class.getMethod("setValue", int.class));
+        setter.accept(bean, 7);
+
+        // THEN
+        assertThat(setter.getClass().isSynthetic()).isTrue();
+        assertThat(bean.getValue()).isEqualTo(7);
+    }
+
+    @Test
+    public void onFluentSetterShouldSetValue() throws Exception {
+        // GIVEN
+        Bean bean = new Bean();
+
+        // WHEN
+        sut.createSetter(Bean.class.getMethod("setName", String.class))
+            .accept(bean, "name");
+
+        // THEN
+        assertThat(bean.getName()).isEqualTo("name");
+    }
+
+    @Test
+    public void onNonPublicClassShouldFallBackToReflection() throws Exception {
+        // GIVEN
+        HiddenBean bean = new HiddenBean();
+
+        // WHEN
+        Function<Object, Object> getter = sut.createGetter(HiddenBean.class.getMethod("getValue"));
+
+        // THEN
+        assertThat(getter.apply(bean)).isEqualTo("hidden");
+    }
+
+    @Test
+    public void onPublicFieldShouldReadValue() throws Exception {
+        // GIVEN
+        Bean bean = new Bean();
+        bean.publicValue = "public";
+
+        // WHEN
+        Function<Object, Object> getter = sut.createGetter(Bean.class.getField("publicValue"));
+
+        // THEN
+        assertThat(getter.apply(bean)).isEqualTo("public");
+    }
+
+    public static class Bean {
+        private int value;
+        private String name;
+        public String publicValue;
+
+        public int getValue() {
+            return value;
+        }
+
+        public void setValue(int value) {
+            this.value = value;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Bean setName(String name) {
+            this.name = name;
+            return this;
+        }
+    }
+
+    private static class HiddenBean {
+        public String getValue() {
+            return "hidden";
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.katharsis.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PropertyAccessorRegistryTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void onExistingPropertyShouldReturnSameAccessor() throws Exception {
+        // WHEN
+        PropertyAccessor first = PropertyAccessorRegistry.getAccessor(Bean.class, "name");
+        PropertyAccessor second = PropertyAccessorRegistry.getAccessor(Bean.class, "name");
+
+        // THEN
+        assertThat(first).isSameAs(second);
+        assertThat(first.isResolved()).isTrue();
+        assertThat(first.getField().getName()).isEqualTo("name");
+    }
+
+    @Test
+    public void onExistingPropertyShouldReadAndWriteValue() throws Exception {
+        // GIVEN
+        Bean bean = new Bean();
+        PropertyAccessor accessor = PropertyAccessorRegistry.getAccessor(Bean.class, "name");
+
+        // WHEN
+        accessor.setValue(bean, "value");
+
+        // THEN
+        assertThat(accessor.getValue(bean)).isEqualTo("value");
+    }
+
+    @Test
+    public void onGetterOnlyPropertyShouldReturnAccessorWithoutField() throws Exception {
+        // WHEN
+        PropertyAccessor accessor = PropertyAccessorRegistry.getAccessor(Bean.class, "computed");
+
+        // THEN
+        assertThat(accessor.isResolved()).isTrue();
+        assertThat(accessor.getField()).isNull();
+        assertThat(accessor.getValue(new Bean())).isEqualTo("computed");
+    }
+
+    @Test
+    public void onGetterOnlyPropertySetShouldThrowException() throws Exception {
+        // GIVEN
+        PropertyAccessor accessor = PropertyAccessorRegistry.getAccessor(Bean.class, "computed");
+
+        // THEN
+        expectedException.expect(PropertyException.class);
+
+        // WHEN
+        accessor.setValue(new Bean(), "value");
+    }
+
+    @Test
+    public void onNonExistingPropertyShouldNotCacheAccessor() throws Exception {
+        // WHEN
+        PropertyAccessor first = PropertyAccessorRegistry.getAccessor(Bean.class, "nonExistingProperty");
+        PropertyAccessor second = PropertyAccessorRegistry.getAccessor(Bean.class, "nonExistingProperty");
+
+        // THEN
+        assertThat(first.isResolved()).isFalse();
+        assertThat(first).isNotSameAs(second);
+    }
+
+    @Test
+    public void onNonExistingPropertyGetShouldThrowException() throws Exception {
+        // GIVEN
+        PropertyAccessor accessor = PropertyAccessorRegistry.getAccessor(Bean.class, "nonExistingProperty");
+
+        // THEN
+        expectedException.expect(PropertyException.class);
+
+        // WHEN
+        accessor.getValue(new Bean());
+    }
+
+    public static class Bean {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getComputed() {
+            return "computed";
+        }
+    }
+}
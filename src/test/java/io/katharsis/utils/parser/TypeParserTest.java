@@ -7,6 +7,8 @@ import org.junit.rules.ExpectedException;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.UUID;
 import java.util.Collections;
 import java.util.Objects;
@@ -212,6 +214,26 @@ public class TypeParserTest {
         assertThat(result).isEqualTo(new SampleClass("input"));
     }
 
+    @Test
+    public void onClassWithParseMethodShouldReturnClassInstance() throws Exception {
+        LocalDate result = sut.parse("2016-04-01", LocalDate.class);
+        assertThat(result).isEqualTo(LocalDate.of(2016, 4, 1));
+    }
+
+    @Test
+    public void onClassWithValueOfMethodShouldReturnClassInstance() throws Exception {
+        Iterable<SampleValue> result = sut.parse(Arrays.asList("first", "second"), SampleValue.class);
+        assertThat(result).extracting("value").containsExactly("first", "second");
+    }
+
+    @Test
+    public void onInvalidInputOfFactoryMethodShouldThrowException() throws Exception {
+        // THEN
+        expectedException.expect(ParserException.class);
+
+        // WHEN
+        sut.parse("not a date", LocalDate.class);
+    }
 
     @Test
     public void onUnknownClassShouldThrowException() throws Exception {
@@ -222,6 +244,15 @@ public class TypeParserTest {
         sut.parse("input", UnknownClass.class);
     }
 
+    @Test
+    public void onClassWithPrivateStringConstructorShouldThrowException() throws Exception {
+        // THEN
+        expectedException.expect(ParserException.class);
+
+        // WHEN
+        sut.parse("input", PrivateConstructorClass.class);
+    }
+
     @Test
     public void onListOfLongsShouldReturnListOfLongs() throws Exception {
         Iterable<Long> result = sut.parse(Collections.singletonList("1"), Long.class);
@@ -254,6 +285,27 @@ public class TypeParserTest {
         }
     }
 
+    public static class SampleValue implements Serializable {
+        private final String value;
+
+        private SampleValue(CharSequence value) {
+            this.value = value.toString();
+        }
+
+        public static SampleValue valueOf(String value) {
+            return new SampleValue(value);
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
     private static class UnknownClass implements Serializable {
     }
+
+    public static class PrivateConstructorClass implements Serializable {
+        private PrivateConstructorClass(String input) {
+        }
+    }
 }
\ No newline at end of file